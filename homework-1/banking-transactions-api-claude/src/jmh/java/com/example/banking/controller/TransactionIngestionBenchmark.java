@@ -0,0 +1,132 @@
+package com.example.banking.controller;
+
+import com.example.banking.dto.BatchTransactionResponse;
+import com.example.banking.dto.CreateTransactionRequest;
+import com.example.banking.model.Transaction;
+import com.example.banking.repository.FsyncPolicy;
+import com.example.banking.repository.StorageMode;
+import com.example.banking.repository.TransactionRepository;
+import com.example.banking.service.BalanceLedger;
+import com.example.banking.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Server-side cost per ingested transaction: one POST /transactions per item (bind, validate, store, serialize)
+// against one POST /transactions/batch carrying BATCH_SIZE items. HTTP round trips are not included, so the
+// gap measured here is a lower bound on the end-to-end difference.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionIngestionBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"NEVER", "ALWAYS"})
+    public FsyncPolicy fsyncPolicy;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private byte[][] singleBodies;
+    private byte[] batchBody;
+
+    private Path directory;
+    private TransactionRepository repository;
+    private TransactionService transactionService;
+    private TransactionController controller;
+
+    @Setup(Level.Trial)
+    public void createBodies() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        singleBodies = new byte[BATCH_SIZE][];
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String body = String.format(
+                    "{\"fromAccount\":\"ACC-%05d\",\"toAccount\":\"ACC-%05d\",\"amount\":%d.%02d,"
+                            + "\"currency\":\"USD\",\"type\":\"transfer\"}",
+                    i % 10_000, (i + 1) % 10_000, 1 + i % 1000, i % 100);
+            singleBodies[i] = body.getBytes(StandardCharsets.UTF_8);
+            batch.append(i > 0 ? "," : "").append(body);
+        }
+        batchBody = batch.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // A fresh journal and store per iteration keep both from growing without bound
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ingestion");
+        repository = new TransactionRepository(StorageMode.OBJECTS, directory.resolve("transactions.journal"),
+                fsyncPolicy);
+        transactionService = new TransactionService(repository, new BalanceLedger());
+        controller = new TransactionController(transactionService, objectMapper, validator);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        repository.close();
+        Files.deleteIfExists(directory.resolve("transactions.journal"));
+        Files.deleteIfExists(directory);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int singlePosts() throws IOException {
+        int written = 0;
+        for (byte[] body : singleBodies) {
+            CreateTransactionRequest request = objectMapper.readValue(body, CreateTransactionRequest.class);
+            Set<ConstraintViolation<CreateTransactionRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                throw new IllegalStateException(violations.toString());
+            }
+            Transaction transaction = transactionService.createTransaction(request);
+            written += objectMapper.writeValueAsBytes(transaction).length;
+        }
+        return written;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int batchPost() throws IOException {
+        BatchTransactionResponse response = controller.createTransactions(new ByteArrayInputStream(batchBody)).getBody();
+        if (response.getCreated() != BATCH_SIZE) {
+            throw new IllegalStateException("Rejected " + response.getRejected() + " transactions");
+        }
+        return objectMapper.writeValueAsBytes(response).length;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.banking.service;
+
+import com.example.banking.dto.AccountBalanceResponse;
+import com.example.banking.dto.AccountSummaryResponse;
+import com.example.banking.repository.TransactionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int storeSize;
+
+    private AccountService accountService;
+    private String accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TransactionRepository repository = new TransactionRepository();
+        BalanceLedger ledger = new BalanceLedger();
+        BenchmarkData.seed(repository, ledger, storeSize);
+        accountService = new AccountService(repository, ledger);
+        accountId = BenchmarkData.account(7);
+    }
+
+    @Benchmark
+    public AccountBalanceResponse getAccountBalance() {
+        return accountService.getAccountBalance(accountId);
+    }
+
+    @Benchmark
+    public AccountSummaryResponse getAccountSummary() {
+        return accountService.getAccountSummary(accountId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.banking.service;
+
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionStatus;
+import com.example.banking.model.TransactionType;
+import com.example.banking.repository.TransactionRepository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.UUID;
+
+// Deterministic store contents shared by the benchmarks
+final class BenchmarkData {
+
+    static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+    static final Duration SPAN = Duration.ofDays(365);
+    static final String[] CURRENCIES = {"USD", "EUR", "GBP", "JPY"};
+    static final TransactionType[] TYPES = TransactionType.values();
+
+    private BenchmarkData() {
+    }
+
+    // Roughly 100 transactions per account, at least 10 accounts
+    static int accountCount(int storeSize) {
+        return Math.max(10, storeSize / 100);
+    }
+
+    static String account(int index) {
+        return String.format("ACC-%05d", index % 100_000);
+    }
+
+    static void seed(TransactionRepository repository, BalanceLedger ledger, int storeSize) {
+        Random random = new Random(42);
+        int accounts = accountCount(storeSize);
+        long stepNanos = SPAN.toNanos() / storeSize;
+
+        for (int i = 0; i < storeSize; i++) {
+            int from = random.nextInt(accounts);
+            int to = (from + 1 + random.nextInt(accounts - 1)) % accounts;
+            Transaction transaction = new Transaction(
+                    UUID.randomUUID().toString(),
+                    account(from),
+                    account(to),
+                    BigDecimal.valueOf(1 + random.nextInt(100_000), 2),
+                    CURRENCIES[random.nextInt(CURRENCIES.length)],
+                    TYPES[i % TYPES.length],
+                    START.plusNanos(stepNanos * i),
+                    TransactionStatus.COMPLETED);
+            ledger.post(transaction, repository::save);
+        }
+    }
+}
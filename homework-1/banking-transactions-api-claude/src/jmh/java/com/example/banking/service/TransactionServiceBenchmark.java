@@ -0,0 +1,56 @@
+package com.example.banking.service;
+
+import com.example.banking.dto.CreateTransactionRequest;
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionType;
+import com.example.banking.repository.TransactionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int storeSize;
+
+    private TransactionService transactionService;
+    private CreateTransactionRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TransactionRepository repository = new TransactionRepository();
+        BalanceLedger ledger = new BalanceLedger();
+        BenchmarkData.seed(repository, ledger, storeSize);
+        transactionService = new TransactionService(repository, ledger);
+
+        request = new CreateTransactionRequest();
+        request.setFromAccount(BenchmarkData.account(1));
+        request.setToAccount(BenchmarkData.account(2));
+        request.setAmount(new BigDecimal("125.50"));
+        request.setCurrency("usd");
+        request.setType(TransactionType.TRANSFER);
+    }
+
+    @Benchmark
+    public Transaction createTransaction() {
+        return transactionService.createTransaction(request);
+    }
+}
@@ -1,23 +1,54 @@
 package com.example.banking.controller;
 
+import com.example.banking.dto.BatchTransactionResponse;
 import com.example.banking.dto.CreateTransactionRequest;
+import com.example.banking.dto.TransactionPage;
+import com.example.banking.dto.ValidationErrorResponse;
 import com.example.banking.model.Transaction;
 import com.example.banking.service.TransactionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/transactions")
 public class TransactionController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    static final int MAX_BATCH_SIZE = 10_000;
+
     private final TransactionService transactionService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
+    private final Validator validator;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService, ObjectMapper objectMapper,
+                                 Validator validator) {
         this.transactionService = transactionService;
+        this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(CreateTransactionRequest.class);
+        this.validator = validator;
     }
 
     @PostMapping
@@ -26,14 +57,112 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
     }
 
+    // Accepts a JSON array or NDJSON (one object per line). Items are bound and validated while the body is read,
+    // the valid ones are stored in one bulk operation, and every item gets a result at its position in the request.
+    @PostMapping(path = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BatchTransactionResponse> createTransactions(InputStream body) throws IOException {
+        List<BatchTransactionResponse.ItemResult> results = new ArrayList<>();
+        List<CreateTransactionRequest> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            // Items are either the elements of a root-level array or a sequence of root-level documents
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                if (results.size() == MAX_BATCH_SIZE) {
+                    throw new IllegalArgumentException("Batch must not contain more than " + MAX_BATCH_SIZE
+                            + " transactions");
+                }
+                int index = results.size();
+                List<ValidationErrorResponse.FieldError> errors = new ArrayList<>();
+                CreateTransactionRequest request = bind(parser, errors);
+                if (request != null) {
+                    for (ConstraintViolation<CreateTransactionRequest> violation : validator.validate(request)) {
+                        errors.add(new ValidationErrorResponse.FieldError(
+                                violation.getPropertyPath().toString(), violation.getMessage()));
+                    }
+                }
+
+                if (errors.isEmpty()) {
+                    accepted.add(request);
+                    acceptedIndexes.add(index);
+                    results.add(null);
+                } else {
+                    results.add(BatchTransactionResponse.ItemResult.rejected(index, errors));
+                }
+                token = parser.nextToken();
+            }
+            if (array && parser.nextToken() != null) {
+                throw new IllegalArgumentException("Malformed batch body: unexpected content after the array");
+            }
+        } catch (JsonProcessingException e) {
+            // Broken JSON framing rejects the whole batch; nothing has been stored at this point
+            throw new IllegalArgumentException("Malformed batch body: " + e.getOriginalMessage());
+        }
+        if (results.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one transaction");
+        }
+
+        List<Transaction> created = accepted.isEmpty() ? List.of() : transactionService.createTransactions(accepted);
+        for (int i = 0; i < created.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results.set(index, BatchTransactionResponse.ItemResult.created(index, created.get(i).getId()));
+        }
+        int rejected = results.size() - created.size();
+        return ResponseEntity.ok(new BatchTransactionResponse(created.size(), rejected, results));
+    }
+
     @GetMapping
     public ResponseEntity<List<Transaction>> getAllTransactions(
+            @RequestParam(required = false) String accountId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit == null && cursor == null) {
+            List<Transaction> transactions = transactionService.getTransactions(accountId, type, from, to);
+            return ResponseEntity.ok(transactions);
+        }
+
+        // Paged mode: the body stays a plain array, the position of the next page travels in a header
+        TransactionPage page = transactionService.getTransactionPage(accountId, type, from, to, limit, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTransactions());
+    }
+
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactions(
             @RequestParam(required = false) String accountId,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to) {
-        List<Transaction> transactions = transactionService.getTransactions(accountId, type, from, to);
-        return ResponseEntity.ok(transactions);
+        // Resolve the filters up front so bad input is still reported as 400 before streaming starts
+        Stream<Transaction> transactions = transactionService.streamTransactions(accountId, type, from, to);
+
+        StreamingResponseBody body = outputStream -> {
+            try (transactions;
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // One JSON document per line, written as rows are produced. The generator would otherwise put its
+                // default root value separator, a space, in front of every document after the first.
+                generator.setRootValueSeparator(null);
+                Iterator<Transaction> iterator = transactions.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -41,4 +170,34 @@ public class TransactionController {
         Transaction transaction = transactionService.getTransactionById(id);
         return ResponseEntity.ok(transaction);
     }
+
+    // Binds the item the parser is positioned on and leaves the parser on its last token. Returns null and records
+    // the error when the item cannot be bound, e.g. an unknown transaction type.
+    private CreateTransactionRequest bind(JsonParser parser, List<ValidationErrorResponse.FieldError> errors)
+            throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            errors.add(new ValidationErrorResponse.FieldError("request", "Transaction must be a JSON object"));
+            return null;
+        }
+        JsonStreamContext itemParent = parser.getParsingContext().getParent();
+        try {
+            return requestReader.readValue(parser);
+        } catch (JsonMappingException e) {
+            // Skip the rest of the failed item so the next one can still be read
+            while (parser.getParsingContext() != itemParent && parser.nextToken() != null) {
+                parser.skipChildren();
+            }
+            List<JsonMappingException.Reference> path = e.getPath();
+            String field = path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+            if (field == null) {
+                field = "request";
+            }
+            String message = e.getCause() instanceof IllegalArgumentException
+                    ? e.getCause().getMessage()
+                    : "Invalid value";
+            errors.add(new ValidationErrorResponse.FieldError(field, message));
+            return null;
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package com.example.banking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+public class BatchTransactionResponse {
+
+    private int created;
+    private int rejected;
+    private List<ItemResult> results;
+
+    public BatchTransactionResponse(int created, int rejected, List<ItemResult> results) {
+        this.created = created;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ItemResult> results) {
+        this.results = results;
+    }
+
+    // Outcome of one batch item, in request order: the new transaction id or the reasons it was rejected
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        public static final String CREATED = "created";
+        public static final String REJECTED = "rejected";
+
+        private int index;
+        private String status;
+        private String id;
+        private List<ValidationErrorResponse.FieldError> errors;
+
+        public static ItemResult created(int index, String id) {
+            ItemResult result = new ItemResult(index, CREATED);
+            result.setId(id);
+            return result;
+        }
+
+        public static ItemResult rejected(int index, List<ValidationErrorResponse.FieldError> errors) {
+            ItemResult result = new ItemResult(index, REJECTED);
+            result.setErrors(errors);
+            return result;
+        }
+
+        public ItemResult(int index, String status) {
+            this.index = index;
+            this.status = status;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public List<ValidationErrorResponse.FieldError> getErrors() {
+            return errors;
+        }
+
+        public void setErrors(List<ValidationErrorResponse.FieldError> errors) {
+            this.errors = errors;
+        }
+    }
+}
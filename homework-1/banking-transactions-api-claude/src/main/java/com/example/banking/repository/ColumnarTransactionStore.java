@@ -0,0 +1,688 @@
+package com.example.banking.repository;
+
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionStatus;
+import com.example.banking.model.TransactionType;
+import com.example.banking.validation.AccountNumbers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Column-oriented storage: every transaction field lives in a primitive column, one row per transaction,
+// and Transaction objects are only built when rows are read. Writers are serialized by a single lock,
+// which trades write concurrency for a heap footprint several times smaller than ObjectTransactionStore.
+class ColumnarTransactionStore implements TransactionStore {
+
+    private static final int SCAN_BATCH_SIZE = 256;
+    private static final int INITIAL_ID_TABLE_SIZE = 1024;
+
+    private static final long NULL_ACCOUNT = -1L;
+    private static final short NULL_CURRENCY = -1;
+    private static final byte NULL_ORDINAL = -1;
+    private static final int NULL_TIMESTAMP = -1;
+    private static final byte OVERSIZED_AMOUNT = Byte.MIN_VALUE;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Canonical UUID ids are stored as two longs; other ids as a dictionary code in idLow
+    private final LongColumn idHigh = new LongColumn();
+    private final LongColumn idLow = new LongColumn();
+    private final BitSet irregularIds = new BitSet();
+
+    // Packed ACC-XXXXX code (see AccountNumbers), NULL_ACCOUNT, or -2 - dictionary code
+    private final LongColumn fromAccounts = new LongColumn();
+    private final LongColumn toAccounts = new LongColumn();
+
+    // BigDecimal as unscaled long + scale; amounts that do not fit are kept aside
+    private final LongColumn unscaledAmounts = new LongColumn();
+    private final ByteColumn amountScales = new ByteColumn();
+    private final Map<Integer, BigDecimal> oversizedAmounts = new HashMap<>();
+
+    // Three upper-case letters packed 5 bits each, NULL_CURRENCY, or -2 - dictionary code
+    private final ShortColumn currencies = new ShortColumn();
+
+    private final ByteColumn types = new ByteColumn();
+    private final ByteColumn statuses = new ByteColumn();
+
+    // Instant as epoch second + nano of second; NULL_TIMESTAMP nanos marks a missing timestamp
+    private final LongColumn epochSeconds = new LongColumn();
+    private final IntColumn nanos = new IntColumn();
+
+    private int size;
+
+    // Strings that do not fit the packed encodings
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+
+    // Open-addressing id -> row index, holding row + 1 (0 marks an empty slot)
+    private int[] idTable = new int[INITIAL_ID_TABLE_SIZE];
+
+    // Row numbers in (timestamp, id) order, for the whole store and per account
+    private final RowList timeline = new RowList();
+    private final Map<Long, RowList> rowsByAccount = new HashMap<>();
+
+    @Override
+    public void save(Transaction transaction) {
+        lock.writeLock().lock();
+        try {
+            store(transaction);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // One write lock acquisition for the whole batch
+    @Override
+    public void saveAll(Collection<Transaction> transactions) {
+        lock.writeLock().lock();
+        try {
+            for (Transaction transaction : transactions) {
+                store(transaction);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Transaction> findById(String id) {
+        lock.readLock().lock();
+        try {
+            int row = findRow(id);
+            return row >= 0 ? Optional.of(materialize(row)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Transaction> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Transaction> result = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                result.add(materialize(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Transaction> findByAccountId(String accountId) {
+        return new ArrayList<>(scan(accountId, null, true, null));
+    }
+
+    // Returns a lazy view: rows are materialized in small batches while iterating,
+    // so a caller that stops early (e.g. a page) only pays for what it reads
+    @Override
+    public Collection<Transaction> scan(String accountId, TimelinePosition lower, boolean lowerInclusive,
+                                        TimelinePosition upper) {
+        return new RowRange(accountId, lower, lowerInclusive, upper);
+    }
+
+    private void store(Transaction transaction) {
+        int row = findRow(transaction.getId());
+        if (row >= 0) {
+            unindex(row);
+            write(row, transaction);
+        } else {
+            row = size;
+            write(row, transaction);
+            size++;
+            if (size * 2 > idTable.length) {
+                resizeIdTable();
+            }
+            insertId(row);
+        }
+        index(row);
+    }
+
+    private void write(int row, Transaction transaction) {
+        String id = transaction.getId();
+        if (isCanonicalUuid(id)) {
+            idHigh.set(row, parseHex(id, 0, 18));
+            idLow.set(row, parseHex(id, 19, 36));
+            irregularIds.clear(row);
+        } else {
+            idHigh.set(row, 0);
+            idLow.set(row, encodeString(id));
+            irregularIds.set(row);
+        }
+
+        fromAccounts.set(row, encodeAccount(transaction.getFromAccount()));
+        toAccounts.set(row, encodeAccount(transaction.getToAccount()));
+
+        BigDecimal amount = transaction.getAmount();
+        oversizedAmounts.remove(row);
+        if (amount != null && amount.scale() > OVERSIZED_AMOUNT && amount.scale() <= Byte.MAX_VALUE
+                && amount.unscaledValue().bitLength() < Long.SIZE) {
+            unscaledAmounts.set(row, amount.unscaledValue().longValue());
+            amountScales.set(row, (byte) amount.scale());
+        } else {
+            unscaledAmounts.set(row, 0);
+            amountScales.set(row, OVERSIZED_AMOUNT);
+            if (amount != null) {
+                oversizedAmounts.put(row, amount);
+            }
+        }
+
+        currencies.set(row, encodeCurrency(transaction.getCurrency()));
+        types.set(row, transaction.getType() != null ? (byte) transaction.getType().ordinal() : NULL_ORDINAL);
+        statuses.set(row, transaction.getStatus() != null ? (byte) transaction.getStatus().ordinal() : NULL_ORDINAL);
+
+        Instant timestamp = transaction.getTimestamp();
+        epochSeconds.set(row, timestamp != null ? timestamp.getEpochSecond() : 0);
+        nanos.set(row, timestamp != null ? timestamp.getNano() : NULL_TIMESTAMP);
+    }
+
+    private Transaction materialize(int row) {
+        byte type = types.get(row);
+        byte status = statuses.get(row);
+        return new Transaction(
+                idOf(row),
+                decodeAccount(fromAccounts.get(row)),
+                decodeAccount(toAccounts.get(row)),
+                amountOf(row),
+                decodeCurrency(currencies.get(row)),
+                type != NULL_ORDINAL ? TYPES[type] : null,
+                timestampOf(row),
+                status != NULL_ORDINAL ? STATUSES[status] : null);
+    }
+
+    private void index(int row) {
+        timeline.insert(row);
+        long from = fromAccounts.get(row);
+        long to = toAccounts.get(row);
+        if (from != NULL_ACCOUNT) {
+            rowsByAccount.computeIfAbsent(from, key -> new RowList()).insert(row);
+        }
+        // A self-transfer is indexed once, like the object store's per-account map
+        if (to != NULL_ACCOUNT && to != from) {
+            rowsByAccount.computeIfAbsent(to, key -> new RowList()).insert(row);
+        }
+    }
+
+    // Must run before the row's columns are overwritten: removal searches by the current position
+    private void unindex(int row) {
+        timeline.remove(row);
+        long from = fromAccounts.get(row);
+        long to = toAccounts.get(row);
+        if (from != NULL_ACCOUNT) {
+            rowsByAccount.get(from).remove(row);
+        }
+        if (to != NULL_ACCOUNT && to != from) {
+            rowsByAccount.get(to).remove(row);
+        }
+    }
+
+    // Reads up to SCAN_BATCH_SIZE transactions of the range that come after the given position
+    private List<Transaction> readBatch(String accountId, TimelinePosition lower, boolean lowerInclusive,
+                                        TimelinePosition upper) {
+        lock.readLock().lock();
+        try {
+            RowList rows = rowsFor(accountId);
+            if (rows == null) {
+                return List.of();
+            }
+            int start = lower != null ? rows.lowerBound(lower, lowerInclusive) : 0;
+            int end = upper != null ? rows.lowerBound(upper, true) : rows.size;
+            List<Transaction> batch = new ArrayList<>(Math.max(0, Math.min(end - start, SCAN_BATCH_SIZE)));
+            for (int i = start; i < end && batch.size() < SCAN_BATCH_SIZE; i++) {
+                batch.add(materialize(rows.rows[i]));
+            }
+            return batch;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int countRange(String accountId, TimelinePosition lower, boolean lowerInclusive, TimelinePosition upper) {
+        lock.readLock().lock();
+        try {
+            RowList rows = rowsFor(accountId);
+            if (rows == null) {
+                return 0;
+            }
+            int start = lower != null ? rows.lowerBound(lower, lowerInclusive) : 0;
+            int end = upper != null ? rows.lowerBound(upper, true) : rows.size;
+            return Math.max(0, end - start);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RowList rowsFor(String accountId) {
+        if (accountId == null) {
+            return timeline;
+        }
+        long account = AccountNumbers.pack(accountId);
+        if (account == AccountNumbers.INVALID) {
+            Integer code = dictionaryCodes.get(accountId);
+            if (code == null) {
+                return null;
+            }
+            account = -2L - code;
+        }
+        return rowsByAccount.get(account);
+    }
+
+    // --- ordering -----------------------------------------------------------
+
+    private int compareRows(int left, int right) {
+        int result = compareTimestamps(epochSeconds.get(left), nanos.get(left),
+                epochSeconds.get(right), nanos.get(right));
+        if (result != 0) {
+            return result;
+        }
+        if (!irregularIds.get(left) && !irregularIds.get(right)) {
+            // Unsigned order of the UUID halves matches the lexicographic order of canonical UUID strings
+            result = Long.compareUnsigned(idHigh.get(left), idHigh.get(right));
+            return result != 0 ? result : Long.compareUnsigned(idLow.get(left), idLow.get(right));
+        }
+        return idOf(left).compareTo(idOf(right));
+    }
+
+    private int compareRowTo(int row, TimelinePosition position) {
+        Instant timestamp = position.timestamp();
+        int result = timestamp != null
+                ? compareTimestamps(epochSeconds.get(row), nanos.get(row), timestamp.getEpochSecond(), timestamp.getNano())
+                : compareTimestamps(epochSeconds.get(row), nanos.get(row), 0, NULL_TIMESTAMP);
+        return result != 0 ? result : idOf(row).compareTo(position.id());
+    }
+
+    // Missing timestamps sort first, as in TimelinePosition
+    private static int compareTimestamps(long leftSeconds, int leftNanos, long rightSeconds, int rightNanos) {
+        boolean leftNull = leftNanos == NULL_TIMESTAMP;
+        boolean rightNull = rightNanos == NULL_TIMESTAMP;
+        if (leftNull || rightNull) {
+            return Boolean.compare(!leftNull, !rightNull);
+        }
+        int result = Long.compare(leftSeconds, rightSeconds);
+        return result != 0 ? result : Integer.compare(leftNanos, rightNanos);
+    }
+
+    // --- id lookup ----------------------------------------------------------
+
+    private int findRow(String id) {
+        if (id == null) {
+            return -1;
+        }
+        boolean canonical = isCanonicalUuid(id);
+        long high = canonical ? parseHex(id, 0, 18) : 0;
+        long low = canonical ? parseHex(id, 19, 36) : 0;
+        int hash = canonical ? hashUuid(high, low) : id.hashCode();
+
+        int mask = idTable.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = idTable[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            int row = entry - 1;
+            if (canonical
+                    ? !irregularIds.get(row) && idHigh.get(row) == high && idLow.get(row) == low
+                    : irregularIds.get(row) && dictionary.get((int) idLow.get(row)).equals(id)) {
+                return row;
+            }
+        }
+    }
+
+    // The row's id columns must already be written
+    private void insertId(int row) {
+        int mask = idTable.length - 1;
+        int slot = spread(hashRow(row)) & mask;
+        while (idTable[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        idTable[slot] = row + 1;
+    }
+
+    private void resizeIdTable() {
+        int[] previous = idTable;
+        idTable = new int[previous.length * 2];
+        for (int entry : previous) {
+            if (entry != 0) {
+                insertId(entry - 1);
+            }
+        }
+    }
+
+    private int hashRow(int row) {
+        return irregularIds.get(row)
+                ? dictionary.get((int) idLow.get(row)).hashCode()
+                : hashUuid(idHigh.get(row), idLow.get(row));
+    }
+
+    private static int hashUuid(long high, long low) {
+        return Long.hashCode(high * 31 + low);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // --- encodings ----------------------------------------------------------
+
+    private String idOf(int row) {
+        if (irregularIds.get(row)) {
+            return dictionary.get((int) idLow.get(row));
+        }
+        return new UUID(idHigh.get(row), idLow.get(row)).toString();
+    }
+
+    private BigDecimal amountOf(int row) {
+        byte scale = amountScales.get(row);
+        if (scale == OVERSIZED_AMOUNT) {
+            return oversizedAmounts.get(row);
+        }
+        return BigDecimal.valueOf(unscaledAmounts.get(row), scale);
+    }
+
+    private Instant timestampOf(int row) {
+        int nano = nanos.get(row);
+        return nano != NULL_TIMESTAMP ? Instant.ofEpochSecond(epochSeconds.get(row), nano) : null;
+    }
+
+    private long encodeAccount(String account) {
+        if (account == null) {
+            return NULL_ACCOUNT;
+        }
+        long packed = AccountNumbers.pack(account);
+        return packed != AccountNumbers.INVALID ? packed : -2L - encodeString(account);
+    }
+
+    private String decodeAccount(long account) {
+        if (account == NULL_ACCOUNT) {
+            return null;
+        }
+        return account >= 0 ? AccountNumbers.unpack(account) : dictionary.get((int) (-2L - account));
+    }
+
+    private short encodeCurrency(String currency) {
+        if (currency == null) {
+            return NULL_CURRENCY;
+        }
+        if (currency.length() == 3 && isUpperCaseLetter(currency.charAt(0))
+                && isUpperCaseLetter(currency.charAt(1)) && isUpperCaseLetter(currency.charAt(2))) {
+            return (short) ((currency.charAt(0) - 'A') << 10 | (currency.charAt(1) - 'A') << 5 | (currency.charAt(2) - 'A'));
+        }
+        int code = encodeString(currency);
+        if (code > Short.MAX_VALUE - 2) {
+            throw new IllegalStateException("Too many distinct strings to encode currency: " + currency);
+        }
+        return (short) (-2 - code);
+    }
+
+    private String decodeCurrency(short currency) {
+        if (currency == NULL_CURRENCY) {
+            return null;
+        }
+        if (currency < 0) {
+            return dictionary.get(-2 - currency);
+        }
+        return new String(new char[]{
+                (char) ('A' + (currency >> 10 & 31)),
+                (char) ('A' + (currency >> 5 & 31)),
+                (char) ('A' + (currency & 31))});
+    }
+
+    private int encodeString(String value) {
+        return dictionaryCodes.computeIfAbsent(value, key -> {
+            dictionary.add(key);
+            return dictionary.size() - 1;
+        });
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    // Lower-case 8-4-4-4-12 form, the only one whose round trip through UUID.toString() is exact
+    private static boolean isCanonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (hexValue(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Hex digits of id[from, to), skipping dashes
+    private static long parseHex(String id, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = id.charAt(i);
+            if (c != '-') {
+                value = value << 4 | hexValue(c);
+            }
+        }
+        return value;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    // --- views and indexes --------------------------------------------------
+
+    // Weakly consistent like the skip-list views: each batch resumes after the last returned position
+    private final class RowRange extends AbstractCollection<Transaction> {
+
+        private final String accountId;
+        private final TimelinePosition lower;
+        private final boolean lowerInclusive;
+        private final TimelinePosition upper;
+
+        RowRange(String accountId, TimelinePosition lower, boolean lowerInclusive, TimelinePosition upper) {
+            this.accountId = accountId;
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+        }
+
+        @Override
+        public Iterator<Transaction> iterator() {
+            return new Iterator<>() {
+                private List<Transaction> batch = readBatch(accountId, lower, lowerInclusive, upper);
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    if (index < batch.size()) {
+                        return true;
+                    }
+                    if (batch.size() < SCAN_BATCH_SIZE) {
+                        return false;
+                    }
+                    TimelinePosition last = TimelinePosition.of(batch.get(batch.size() - 1));
+                    batch = readBatch(accountId, last, false, upper);
+                    index = 0;
+                    return !batch.isEmpty();
+                }
+
+                @Override
+                public Transaction next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return batch.get(index++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return countRange(accountId, lower, lowerInclusive, upper);
+        }
+    }
+
+    // Growable int array of row numbers kept sorted by (timestamp, id)
+    private final class RowList {
+
+        private int[] rows = new int[8];
+        private int size;
+
+        void insert(int row) {
+            int position = lowerBoundRow(row);
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size + (size >> 1));
+            }
+            System.arraycopy(rows, position, rows, position + 1, size - position);
+            rows[position] = row;
+            size++;
+        }
+
+        void remove(int row) {
+            int position = lowerBoundRow(row);
+            if (position < size && rows[position] == row) {
+                System.arraycopy(rows, position + 1, rows, position, size - position - 1);
+                size--;
+            }
+        }
+
+        // First index whose row is at or after the given row
+        private int lowerBoundRow(int row) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareRows(rows[mid], row) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // First index whose row is at or after (inclusive) or strictly after (exclusive) the position
+        int lowerBound(TimelinePosition position, boolean inclusive) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int result = compareRowTo(rows[mid], position);
+                if (result < 0 || (!inclusive && result == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    // Columns are split into fixed-size chunks, so growing never copies existing rows
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static int chunkCount(int row, int current) {
+        return Math.max((row >>> CHUNK_BITS) + 1, current * 2);
+    }
+
+    private static final class LongColumn {
+        private long[][] chunks = new long[0][];
+
+        long get(int row) {
+            return chunks[row >>> CHUNK_BITS][row & CHUNK_MASK];
+        }
+
+        void set(int row, long value) {
+            if (row >>> CHUNK_BITS >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount(row, chunks.length));
+            }
+            if (chunks[row >>> CHUNK_BITS] == null) {
+                chunks[row >>> CHUNK_BITS] = new long[CHUNK_SIZE];
+            }
+            chunks[row >>> CHUNK_BITS][row & CHUNK_MASK] = value;
+        }
+    }
+
+    private static final class IntColumn {
+        private int[][] chunks = new int[0][];
+
+        int get(int row) {
+            return chunks[row >>> CHUNK_BITS][row & CHUNK_MASK];
+        }
+
+        void set(int row, int value) {
+            if (row >>> CHUNK_BITS >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount(row, chunks.length));
+            }
+            if (chunks[row >>> CHUNK_BITS] == null) {
+                chunks[row >>> CHUNK_BITS] = new int[CHUNK_SIZE];
+            }
+            chunks[row >>> CHUNK_BITS][row & CHUNK_MASK] = value;
+        }
+    }
+
+    private static final class ShortColumn {
+        private short[][] chunks = new short[0][];
+
+        short get(int row) {
+            return chunks[row >>> CHUNK_BITS][row & CHUNK_MASK];
+        }
+
+        void set(int row, short value) {
+            if (row >>> CHUNK_BITS >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount(row, chunks.length));
+            }
+            if (chunks[row >>> CHUNK_BITS] == null) {
+                chunks[row >>> CHUNK_BITS] = new short[CHUNK_SIZE];
+            }
+            chunks[row >>> CHUNK_BITS][row & CHUNK_MASK] = value;
+        }
+    }
+
+    private static final class ByteColumn {
+        private byte[][] chunks = new byte[0][];
+
+        byte get(int row) {
+            return chunks[row >>> CHUNK_BITS][row & CHUNK_MASK];
+        }
+
+        void set(int row, byte value) {
+            if (row >>> CHUNK_BITS >= chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount(row, chunks.length));
+            }
+            if (chunks[row >>> CHUNK_BITS] == null) {
+                chunks[row >>> CHUNK_BITS] = new byte[CHUNK_SIZE];
+            }
+            chunks[row >>> CHUNK_BITS][row & CHUNK_MASK] = value;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.banking.repository;
+
+// When TransactionJournal writes are forced to the storage device
+public enum FsyncPolicy {
+    // Left to the OS; survives a process crash but not a power loss
+    NEVER,
+    // Forced in the background about once a second
+    INTERVAL,
+    // Forced before save() returns; concurrent saves share one force (group commit)
+    ALWAYS
+}
@@ -0,0 +1,111 @@
+package com.example.banking.repository;
+
+import com.example.banking.model.Transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+class ObjectTransactionStore implements TransactionStore {
+
+    private final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+
+    // Time-ordered view: (timestamp, id) -> transaction, used for date range scans and paging
+    private final NavigableMap<TimelinePosition, Transaction> timeline = new ConcurrentSkipListMap<>();
+
+    // Secondary index: account id -> time-ordered transactions of that account
+    private final Map<String, NavigableMap<TimelinePosition, Transaction>> transactionsByAccount = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(Transaction transaction) {
+        // compute() locks the primary entry, so the index update for a given id
+        // happens atomically with the primary write and never interleaves with another save of the same id
+        transactions.compute(transaction.getId(), (id, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(transaction);
+            return transaction;
+        });
+    }
+
+    @Override
+    public Optional<Transaction> findById(String id) {
+        return Optional.ofNullable(transactions.get(id));
+    }
+
+    @Override
+    public List<Transaction> findAll() {
+        return new ArrayList<>(transactions.values());
+    }
+
+    @Override
+    public List<Transaction> findByAccountId(String accountId) {
+        NavigableMap<TimelinePosition, Transaction> accountTransactions = transactionsByAccount.get(accountId);
+        if (accountTransactions == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(accountTransactions.values());
+    }
+
+    // Returns a live view backed by the skip lists
+    @Override
+    public Collection<Transaction> scan(String accountId, TimelinePosition lower, boolean lowerInclusive,
+                                        TimelinePosition upper) {
+        NavigableMap<TimelinePosition, Transaction> range = timeline;
+        if (accountId != null) {
+            range = transactionsByAccount.get(accountId);
+            if (range == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        if (lower != null && upper != null) {
+            range = range.subMap(lower, lowerInclusive, upper, false);
+        } else if (lower != null) {
+            range = range.tailMap(lower, lowerInclusive);
+        } else if (upper != null) {
+            range = range.headMap(upper, false);
+        }
+        return Collections.unmodifiableCollection(range.values());
+    }
+
+    private void index(Transaction transaction) {
+        TimelinePosition position = TimelinePosition.of(transaction);
+        timeline.put(position, transaction);
+        indexAccount(transaction.getFromAccount(), position, transaction);
+        indexAccount(transaction.getToAccount(), position, transaction);
+    }
+
+    private void indexAccount(String accountId, TimelinePosition position, Transaction transaction) {
+        if (accountId == null) {
+            return;
+        }
+        transactionsByAccount
+                .computeIfAbsent(accountId, key -> new ConcurrentSkipListMap<>())
+                .put(position, transaction);
+    }
+
+    private void unindex(Transaction transaction) {
+        TimelinePosition position = TimelinePosition.of(transaction);
+        timeline.remove(position);
+        unindexAccount(transaction.getFromAccount(), position);
+        unindexAccount(transaction.getToAccount(), position);
+    }
+
+    private void unindexAccount(String accountId, TimelinePosition position) {
+        if (accountId == null) {
+            return;
+        }
+        NavigableMap<TimelinePosition, Transaction> accountTransactions = transactionsByAccount.get(accountId);
+        if (accountTransactions != null) {
+            accountTransactions.remove(position);
+        }
+    }
+}
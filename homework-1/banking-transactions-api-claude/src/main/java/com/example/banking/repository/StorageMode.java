@@ -0,0 +1,8 @@
+package com.example.banking.repository;
+
+public enum StorageMode {
+    // Transaction objects held in concurrent skip-list indexes
+    OBJECTS,
+    // Primitive columns; transactions are only materialized when read
+    COMPACT
+}
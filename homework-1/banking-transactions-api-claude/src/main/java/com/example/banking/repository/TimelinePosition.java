@@ -0,0 +1,28 @@
+package com.example.banking.repository;
+
+import com.example.banking.model.Transaction;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+// Position of a transaction in the repository's (timestamp, id) ordering
+public record TimelinePosition(Instant timestamp, String id) implements Comparable<TimelinePosition> {
+
+    private static final Comparator<TimelinePosition> ORDER = Comparator
+            .comparing(TimelinePosition::timestamp, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TimelinePosition::id);
+
+    public static TimelinePosition of(Transaction transaction) {
+        return new TimelinePosition(transaction.getTimestamp(), transaction.getId());
+    }
+
+    // "" sorts before every id, so this position precedes all transactions at the given instant
+    public static TimelinePosition startOf(Instant timestamp) {
+        return new TimelinePosition(timestamp, "");
+    }
+
+    @Override
+    public int compareTo(TimelinePosition other) {
+        return ORDER.compare(this, other);
+    }
+}
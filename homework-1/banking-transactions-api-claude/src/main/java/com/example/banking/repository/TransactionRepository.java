@@ -1,36 +1,107 @@
 package com.example.banking.repository;
 
 import com.example.banking.model.Transaction;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 @Repository
 public class TransactionRepository {
 
-    private final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+    private final TransactionStore store;
+
+    // Null when transactions are kept in memory only
+    private final TransactionJournal journal;
+
+    public TransactionRepository() {
+        this(StorageMode.OBJECTS);
+    }
+
+    public TransactionRepository(StorageMode storageMode) {
+        this(storageMode, (Path) null, FsyncPolicy.NEVER);
+    }
+
+    @Autowired
+    public TransactionRepository(@Value("${banking.storage.mode:OBJECTS}") StorageMode storageMode,
+                                 @Value("${banking.journal.path:}") String journalPath,
+                                 @Value("${banking.journal.fsync:INTERVAL}") FsyncPolicy fsyncPolicy) {
+        this(storageMode, journalPath.isBlank() ? null : Path.of(journalPath), fsyncPolicy);
+    }
+
+    // Replays the journal at journalPath (if any) into the store, then logs every save to it
+    public TransactionRepository(StorageMode storageMode, Path journalPath, FsyncPolicy fsyncPolicy) {
+        this.store = switch (storageMode) {
+            case OBJECTS -> new ObjectTransactionStore();
+            case COMPACT -> new ColumnarTransactionStore();
+        };
+        this.journal = journalPath != null ? TransactionJournal.open(journalPath, fsyncPolicy, store::save) : null;
+    }
 
     public Transaction save(Transaction transaction) {
-        transactions.put(transaction.getId(), transaction);
+        // Write-ahead: a transaction is durable before it becomes visible
+        if (journal != null) {
+            journal.append(transaction);
+        }
+        store.save(transaction);
         return transaction;
     }
 
+    // Bulk variant of save(): one journal write and one store operation for the whole batch
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        if (journal != null) {
+            journal.appendAll(transactions);
+        }
+        store.saveAll(transactions);
+        return transactions;
+    }
+
     public Optional<Transaction> findById(String id) {
-        return Optional.ofNullable(transactions.get(id));
+        return store.findById(id);
     }
 
     public List<Transaction> findAll() {
-        return new ArrayList<>(transactions.values());
+        return store.findAll();
     }
 
     public List<Transaction> findByAccountId(String accountId) {
-        return transactions.values().stream()
-                .filter(t -> accountId.equals(t.getFromAccount()) || accountId.equals(t.getToAccount()))
-                .collect(Collectors.toList());
+        return store.findByAccountId(accountId);
+    }
+
+    // Returns a read-only, time-ordered view of the transactions with fromInclusive <= timestamp < toExclusive
+    // that come strictly after the given position. accountId restricts the scan to that account's index.
+    // Any argument may be null to leave it unrestricted.
+    public Collection<Transaction> scan(String accountId, Instant fromInclusive, Instant toExclusive,
+                                        TimelinePosition after) {
+        // Resolve both lower bounds first: chaining tailMap() calls throws if the second key falls outside the first view
+        TimelinePosition lower = null;
+        boolean lowerInclusive = true;
+        if (fromInclusive != null) {
+            lower = TimelinePosition.startOf(fromInclusive);
+        }
+        if (after != null && (lower == null || after.compareTo(lower) >= 0)) {
+            lower = after;
+            lowerInclusive = false;
+        }
+        TimelinePosition upper = toExclusive != null ? TimelinePosition.startOf(toExclusive) : null;
+
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            return Collections.emptyList();
+        }
+        return store.scan(accountId, lower, lowerInclusive, upper);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
     }
 }
@@ -0,0 +1,30 @@
+package com.example.banking.repository;
+
+import com.example.banking.model.Transaction;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Storage engine behind TransactionRepository
+interface TransactionStore {
+
+    void save(Transaction transaction);
+
+    default void saveAll(Collection<Transaction> transactions) {
+        for (Transaction transaction : transactions) {
+            save(transaction);
+        }
+    }
+
+    Optional<Transaction> findById(String id);
+
+    List<Transaction> findAll();
+
+    // Time-ordered transactions of the account
+    List<Transaction> findByAccountId(String accountId);
+
+    // Time-ordered transactions between the resolved bounds; accountId, lower and upper may be null
+    Collection<Transaction> scan(String accountId, TimelinePosition lower, boolean lowerInclusive,
+                                 TimelinePosition upper);
+}
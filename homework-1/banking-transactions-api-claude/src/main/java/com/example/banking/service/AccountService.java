@@ -3,9 +3,9 @@ package com.example.banking.service;
 import com.example.banking.dto.AccountBalanceResponse;
 import com.example.banking.dto.AccountSummaryResponse;
 import com.example.banking.model.Transaction;
-import com.example.banking.model.TransactionStatus;
 import com.example.banking.model.TransactionType;
 import com.example.banking.repository.TransactionRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -13,50 +13,31 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class AccountService {
 
     private final TransactionRepository transactionRepository;
+    private final BalanceLedger balanceLedger;
 
-    public AccountService(TransactionRepository transactionRepository) {
+    public AccountService(TransactionRepository transactionRepository, BalanceLedger balanceLedger) {
         this.transactionRepository = transactionRepository;
+        this.balanceLedger = balanceLedger;
     }
 
     public AccountBalanceResponse getAccountBalance(String accountId) {
-        List<Transaction> transactions = transactionRepository.findByAccountId(accountId);
-        Map<String, BigDecimal> balances = new HashMap<>();
-
-        for (Transaction transaction : transactions) {
-            // Only process completed transactions
-            if (transaction.getStatus() != TransactionStatus.COMPLETED) {
-                continue;
-            }
-
-            String currency = transaction.getCurrency();
-            BigDecimal currentBalance = balances.getOrDefault(currency, BigDecimal.ZERO);
-
-            // Calculate balance based on transaction type and account involvement
-            if (transaction.getType() == TransactionType.DEPOSIT && accountId.equals(transaction.getToAccount())) {
-                // Money coming in
-                currentBalance = currentBalance.add(transaction.getAmount());
-            } else if (transaction.getType() == TransactionType.WITHDRAWAL && accountId.equals(transaction.getFromAccount())) {
-                // Money going out
-                currentBalance = currentBalance.subtract(transaction.getAmount());
-            } else if (transaction.getType() == TransactionType.TRANSFER) {
-                if (accountId.equals(transaction.getFromAccount())) {
-                    // Money going out
-                    currentBalance = currentBalance.subtract(transaction.getAmount());
-                } else if (accountId.equals(transaction.getToAccount())) {
-                    // Money coming in
-                    currentBalance = currentBalance.add(transaction.getAmount());
-                }
-            }
+        return new AccountBalanceResponse(accountId, balanceLedger.getBalances(accountId));
+    }
 
-            balances.put(currency, currentBalance);
-        }
+    // Balances are derived state: recompute them from whatever the repository recovered at startup
+    @PostConstruct
+    void initializeBalanceLedger() {
+        rebuildBalanceLedger();
+    }
 
-        return new AccountBalanceResponse(accountId, balances);
+    public Set<String> rebuildBalanceLedger() {
+        return balanceLedger.rebuild(transactionRepository::findAll);
     }
 
     public AccountSummaryResponse getAccountSummary(String accountId) {
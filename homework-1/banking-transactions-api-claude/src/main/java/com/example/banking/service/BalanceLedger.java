@@ -0,0 +1,144 @@
+package com.example.banking.service;
+
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionStatus;
+import com.example.banking.model.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+@Component
+public class BalanceLedger {
+
+    // account id -> (currency -> running balance)
+    private volatile Map<String, Map<String, BigDecimal>> balances = new ConcurrentHashMap<>();
+
+    // Postings share the read lock and update balances lock-free via merge();
+    // only rebuild() takes the write lock, so it sees a quiescent store
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    public Transaction post(Transaction transaction, UnaryOperator<Transaction> writer) {
+        rebuildLock.readLock().lock();
+        try {
+            Transaction saved = writer.apply(transaction);
+            apply(balances, saved);
+            return saved;
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // Batch variant of post(): the writer stores the whole list, then every saved transaction is applied
+    public List<Transaction> postAll(List<Transaction> transactions, UnaryOperator<List<Transaction>> writer) {
+        rebuildLock.readLock().lock();
+        try {
+            List<Transaction> saved = writer.apply(transactions);
+            for (Transaction transaction : saved) {
+                apply(balances, transaction);
+            }
+            return saved;
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    public void apply(Transaction transaction) {
+        rebuildLock.readLock().lock();
+        try {
+            apply(balances, transaction);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    public Map<String, BigDecimal> getBalances(String accountId) {
+        Map<String, BigDecimal> accountBalances = balances.get(accountId);
+        if (accountBalances == null) {
+            return new HashMap<>();
+        }
+        return new HashMap<>(accountBalances);
+    }
+
+    // Recomputes every balance from the source and swaps it in.
+    // Returns the accounts whose running balances had drifted from the recomputed ones.
+    public Set<String> rebuild(Supplier<? extends Collection<Transaction>> source) {
+        rebuildLock.writeLock().lock();
+        try {
+            Map<String, Map<String, BigDecimal>> rebuilt = new ConcurrentHashMap<>();
+            for (Transaction transaction : source.get()) {
+                apply(rebuilt, transaction);
+            }
+
+            Set<String> driftedAccounts = new HashSet<>();
+            Set<String> accountIds = new HashSet<>(balances.keySet());
+            accountIds.addAll(rebuilt.keySet());
+            for (String accountId : accountIds) {
+                if (!sameBalances(balances.get(accountId), rebuilt.get(accountId))) {
+                    driftedAccounts.add(accountId);
+                }
+            }
+
+            balances = rebuilt;
+            return driftedAccounts;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Map<String, Map<String, BigDecimal>> target, Transaction transaction) {
+        // Only completed transactions affect the balance
+        if (transaction.getStatus() != TransactionStatus.COMPLETED) {
+            return;
+        }
+
+        String fromAccount = transaction.getFromAccount();
+        String toAccount = transaction.getToAccount();
+        BigDecimal amount = transaction.getAmount();
+
+        if (transaction.getType() == TransactionType.DEPOSIT) {
+            credit(target, toAccount, transaction.getCurrency(), amount);
+        } else if (transaction.getType() == TransactionType.WITHDRAWAL) {
+            credit(target, fromAccount, transaction.getCurrency(), amount.negate());
+        } else if (transaction.getType() == TransactionType.TRANSFER) {
+            credit(target, fromAccount, transaction.getCurrency(), amount.negate());
+            // A transfer to the same account is only counted as money going out
+            if (toAccount != null && !toAccount.equals(fromAccount)) {
+                credit(target, toAccount, transaction.getCurrency(), amount);
+            }
+        }
+    }
+
+    private void credit(Map<String, Map<String, BigDecimal>> target, String accountId,
+                        String currency, BigDecimal delta) {
+        if (accountId == null) {
+            return;
+        }
+        target.computeIfAbsent(accountId, key -> new ConcurrentHashMap<>())
+                .merge(currency, delta, BigDecimal::add);
+    }
+
+    private boolean sameBalances(Map<String, BigDecimal> current, Map<String, BigDecimal> rebuilt) {
+        Map<String, BigDecimal> left = current != null ? current : Map.of();
+        Map<String, BigDecimal> right = rebuilt != null ? rebuilt : Map.of();
+        if (!left.keySet().equals(right.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, BigDecimal> entry : left.entrySet()) {
+            if (entry.getValue().compareTo(right.get(entry.getKey())) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
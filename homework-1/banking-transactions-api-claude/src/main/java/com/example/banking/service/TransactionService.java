@@ -1,30 +1,56 @@
 package com.example.banking.service;
 
 import com.example.banking.dto.CreateTransactionRequest;
+import com.example.banking.dto.TransactionPage;
 import com.example.banking.model.Transaction;
 import com.example.banking.model.TransactionStatus;
 import com.example.banking.model.TransactionType;
+import com.example.banking.repository.TimelinePosition;
 import com.example.banking.repository.TransactionRepository;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TransactionService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TransactionRepository transactionRepository;
+    private final BalanceLedger balanceLedger;
 
-    public TransactionService(TransactionRepository transactionRepository) {
+    public TransactionService(TransactionRepository transactionRepository, BalanceLedger balanceLedger) {
         this.transactionRepository = transactionRepository;
+        this.balanceLedger = balanceLedger;
     }
 
     public Transaction createTransaction(CreateTransactionRequest request) {
+        // Store and post to the running balance ledger in one step
+        return balanceLedger.post(newTransaction(request), transactionRepository::save);
+    }
+
+    // Requests must already be validated; all of them are stored and posted in one bulk operation
+    public List<Transaction> createTransactions(List<CreateTransactionRequest> requests) {
+        List<Transaction> transactions = new ArrayList<>(requests.size());
+        for (CreateTransactionRequest request : requests) {
+            transactions.add(newTransaction(request));
+        }
+        return balanceLedger.postAll(transactions, transactionRepository::saveAll);
+    }
+
+    private Transaction newTransaction(CreateTransactionRequest request) {
         Transaction transaction = new Transaction();
         transaction.setId(UUID.randomUUID().toString());
         transaction.setFromAccount(request.getFromAccount());
@@ -34,8 +60,7 @@ public class TransactionService {
         transaction.setType(request.getType());
         transaction.setTimestamp(Instant.now());
         transaction.setStatus(TransactionStatus.COMPLETED);
-
-        return transactionRepository.save(transaction);
+        return transaction;
     }
 
     public List<Transaction> getAllTransactions() {
@@ -43,53 +68,104 @@ public class TransactionService {
     }
 
     public List<Transaction> getTransactions(String accountId, String type, String from, String to) {
-        List<Transaction> transactions = transactionRepository.findAll();
-
-        // Filter by accountId
-        if (accountId != null && !accountId.isBlank()) {
-            transactions = transactions.stream()
-                    .filter(t -> accountId.equals(t.getFromAccount()) || accountId.equals(t.getToAccount()))
-                    .collect(Collectors.toList());
+        try (Stream<Transaction> transactions = streamTransactions(accountId, type, from, to)) {
+            return transactions.collect(Collectors.toList());
         }
+    }
+
+    // Filters are parsed eagerly so invalid input fails before anything is written;
+    // the returned stream is a lazy, time-ordered view over the repository indexes.
+    public Stream<Transaction> streamTransactions(String accountId, String type, String from, String to) {
+        return scan(accountId, type, from, to, null);
+    }
 
-        // Filter by type
-        if (type != null && !type.isBlank()) {
-            try {
-                TransactionType transactionType = TransactionType.fromValue(type);
-                transactions = transactions.stream()
-                        .filter(t -> t.getType() == transactionType)
-                        .collect(Collectors.toList());
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("Invalid transaction type: " + type);
-            }
+    public TransactionPage getTransactionPage(String accountId, String type, String from, String to,
+                                              Integer limit, String cursor) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
         }
+        TimelinePosition after = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
 
-        // Filter by date range
-        if (from != null && !from.isBlank()) {
-            try {
-                Instant fromDate = LocalDate.parse(from).atStartOfDay().toInstant(ZoneOffset.UTC);
-                transactions = transactions.stream()
-                        .filter(t -> !t.getTimestamp().isBefore(fromDate))
-                        .collect(Collectors.toList());
-            } catch (DateTimeParseException e) {
-                throw new IllegalArgumentException("Invalid 'from' date format. Expected: YYYY-MM-DD");
-            }
+        // Read one extra row to find out whether another page follows
+        List<Transaction> transactions;
+        try (Stream<Transaction> stream = scan(accountId, type, from, to, after)) {
+            transactions = stream.limit(pageSize + 1L).collect(Collectors.toList());
         }
 
-        if (to != null && !to.isBlank()) {
-            try {
-                Instant toDate = LocalDate.parse(to).plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
-                transactions = transactions.stream()
-                        .filter(t -> t.getTimestamp().isBefore(toDate))
-                        .collect(Collectors.toList());
-            } catch (DateTimeParseException e) {
-                throw new IllegalArgumentException("Invalid 'to' date format. Expected: YYYY-MM-DD");
-            }
+        String nextCursor = null;
+        if (transactions.size() > pageSize) {
+            transactions = transactions.subList(0, pageSize);
+            nextCursor = encodeCursor(TimelinePosition.of(transactions.get(pageSize - 1)));
         }
+        return new TransactionPage(transactions, nextCursor);
+    }
 
+    private Stream<Transaction> scan(String accountId, String type, String from, String to, TimelinePosition after) {
+        String account = accountId != null && !accountId.isBlank() ? accountId : null;
+        TransactionType transactionType = parseType(type);
+        Instant fromDate = parseFromDate(from);
+        Instant toDate = parseToDate(to);
+
+        // Account and date range are answered by the repository indexes; only the type is left to filter
+        Stream<Transaction> transactions = transactionRepository.scan(account, fromDate, toDate, after).stream();
+        if (transactionType != null) {
+            transactions = transactions.filter(t -> t.getType() == transactionType);
+        }
         return transactions;
     }
 
+    // Cursor is the opaque, URL-safe encoding of the last returned (timestamp, id) position
+    private String encodeCursor(TimelinePosition position) {
+        String raw = position.timestamp().getEpochSecond() + ":" + position.timestamp().getNano() + ":" + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private TimelinePosition decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            Instant timestamp = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new TimelinePosition(timestamp, parts[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private TransactionType parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return TransactionType.fromValue(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid transaction type: " + type);
+        }
+    }
+
+    private Instant parseFromDate(String from) {
+        if (from == null || from.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(from).atStartOfDay().toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid 'from' date format. Expected: YYYY-MM-DD");
+        }
+    }
+
+    private Instant parseToDate(String to) {
+        if (to == null || to.isBlank()) {
+            return null;
+        }
+        try {
+            // Exclusive upper bound: start of the day after 'to'
+            return LocalDate.parse(to).plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid 'to' date format. Expected: YYYY-MM-DD");
+        }
+    }
+
     public Transaction getTransactionById(String id) {
         return transactionRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Transaction not found with id: " + id));
@@ -0,0 +1,74 @@
+package com.example.banking.validation;
+
+import java.util.Arrays;
+
+// Parses account numbers of the form ACC-XXXXX (X alphanumeric) without regex or allocation.
+// A valid account number can also be packed into a long: 6 bits per suffix character.
+public final class AccountNumbers {
+
+    public static final long INVALID = -1L;
+
+    private static final String PREFIX = "ACC-";
+    private static final int SUFFIX_LENGTH = 5;
+    private static final int LENGTH = PREFIX.length() + SUFFIX_LENGTH;
+    private static final int BITS_PER_SYMBOL = 6;
+
+    private static final String SYMBOLS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    // ASCII char -> symbol code, -1 for anything outside [A-Za-z0-9]
+    private static final byte[] SYMBOL_CODES = new byte[128];
+
+    static {
+        Arrays.fill(SYMBOL_CODES, (byte) -1);
+        for (int i = 0; i < SYMBOLS.length(); i++) {
+            SYMBOL_CODES[SYMBOLS.charAt(i)] = (byte) i;
+        }
+    }
+
+    private AccountNumbers() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        return pack(value) != INVALID;
+    }
+
+    // Returns the packed id of the account number, or INVALID if it does not match ACC-XXXXX
+    public static long pack(CharSequence value) {
+        if (value == null || value.length() != LENGTH) {
+            return INVALID;
+        }
+        for (int i = 0; i < PREFIX.length(); i++) {
+            if (value.charAt(i) != PREFIX.charAt(i)) {
+                return INVALID;
+            }
+        }
+
+        long packed = 0;
+        for (int i = PREFIX.length(); i < LENGTH; i++) {
+            char c = value.charAt(i);
+            int code = c < SYMBOL_CODES.length ? SYMBOL_CODES[c] : -1;
+            if (code < 0) {
+                return INVALID;
+            }
+            packed = (packed << BITS_PER_SYMBOL) | code;
+        }
+        return packed;
+    }
+
+    public static String unpack(long packed) {
+        if (packed < 0 || packed >= 1L << (BITS_PER_SYMBOL * SUFFIX_LENGTH)) {
+            throw new IllegalArgumentException("Invalid packed account number: " + packed);
+        }
+        char[] chars = new char[LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = LENGTH - 1; i >= PREFIX.length(); i--) {
+            int code = (int) (packed & ((1 << BITS_PER_SYMBOL) - 1));
+            if (code >= SYMBOLS.length()) {
+                throw new IllegalArgumentException("Invalid packed account number: " + packed);
+            }
+            chars[i] = SYMBOLS.charAt(code);
+            packed >>>= BITS_PER_SYMBOL;
+        }
+        return new String(chars);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.banking.controller;
 
 import com.example.banking.dto.CreateTransactionRequest;
+import com.example.banking.dto.TransactionPage;
 import com.example.banking.model.Transaction;
 import com.example.banking.model.TransactionStatus;
 import com.example.banking.model.TransactionType;
@@ -12,18 +13,27 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TransactionController.class)
@@ -129,6 +139,125 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.error").value("Validation failed"));
     }
 
+    @Test
+    void createTransactions_withJsonArray_returnsPerItemResultsInRequestOrder() throws Exception {
+        String body = """
+                [
+                  {"fromAccount": "ACC-12345", "toAccount": "ACC-67890", "amount": 100.50, "currency": "USD", "type": "transfer"},
+                  {"fromAccount": "ACC-12345", "toAccount": "ACC-67890", "amount": 10.00, "currency": "XYZ", "type": "transfer"},
+                  {"fromAccount": "ACC-12345", "toAccount": "ACC-67890", "amount": 10.00, "currency": "USD", "type": "refund"},
+                  {"fromAccount": "ACC-67890", "toAccount": "ACC-12345", "amount": 5.00, "currency": "EUR", "type": "transfer"}
+                ]
+                """;
+        when(transactionService.createTransactions(any())).thenAnswer(invocation -> {
+            List<CreateTransactionRequest> requests = invocation.getArgument(0);
+            assertThat(requests).extracting(CreateTransactionRequest::getCurrency).containsExactly("USD", "EUR");
+            return List.of(
+                    new Transaction("txn-1", "ACC-12345", "ACC-67890", new BigDecimal("100.50"), "USD",
+                            TransactionType.TRANSFER, Instant.now(), TransactionStatus.COMPLETED),
+                    new Transaction("txn-2", "ACC-67890", "ACC-12345", new BigDecimal("5.00"), "EUR",
+                            TransactionType.TRANSFER, Instant.now(), TransactionStatus.COMPLETED));
+        });
+
+        mockMvc.perform(post("/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("created"))
+                .andExpect(jsonPath("$.results[0].id").value("txn-1"))
+                .andExpect(jsonPath("$.results[1].status").value("rejected"))
+                .andExpect(jsonPath("$.results[1].errors[0].field").value("currency"))
+                .andExpect(jsonPath("$.results[2].errors[0].field").value("type"))
+                .andExpect(jsonPath("$.results[2].errors[0].message").value(
+                        "Invalid transaction type: refund. Must be one of: deposit, withdrawal, transfer"))
+                .andExpect(jsonPath("$.results[3].index").value(3))
+                .andExpect(jsonPath("$.results[3].id").value("txn-2"));
+    }
+
+    @Test
+    void createTransactions_withNdjson_readsOneTransactionPerLine() throws Exception {
+        String body = """
+                {"fromAccount": "ACC-12345", "toAccount": "ACC-67890", "amount": 1.00, "currency": "USD", "type": "transfer"}
+                {"toAccount": "ACC-67890", "amount": 2.00, "currency": "USD", "type": "deposit", "fromAccount": "ACC-12345"}
+                """;
+        when(transactionService.createTransactions(any())).thenReturn(List.of(
+                new Transaction("txn-1", "ACC-12345", "ACC-67890", new BigDecimal("1.00"), "USD",
+                        TransactionType.TRANSFER, Instant.now(), TransactionStatus.COMPLETED),
+                new Transaction("txn-2", "ACC-12345", "ACC-67890", new BigDecimal("2.00"), "USD",
+                        TransactionType.DEPOSIT, Instant.now(), TransactionStatus.COMPLETED)));
+
+        mockMvc.perform(post("/transactions/batch")
+                        .contentType(TransactionController.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.results[1].id").value("txn-2"));
+    }
+
+    @Test
+    void createTransactions_withEveryItemInvalid_doesNotCallService() throws Exception {
+        String body = "[{\"fromAccount\": \"INVALID\"}, 42]";
+
+        mockMvc.perform(post("/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(0))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[1].errors[0].message").value("Transaction must be a JSON object"));
+
+        verify(transactionService, never()).createTransactions(any());
+    }
+
+    @Test
+    void createTransactions_withUnbindableNestedValue_skipsToNextItem() throws Exception {
+        String body = """
+                [
+                  {"fromAccount": "ACC-12345", "amount": {"value": [1, 2]}, "currency": "USD", "type": "transfer"},
+                  {"fromAccount": "ACC-12345", "toAccount": "ACC-67890", "amount": 1.00, "currency": "USD", "type": "transfer"}
+                ]
+                """;
+        when(transactionService.createTransactions(any())).thenReturn(List.of(
+                new Transaction("txn-1", "ACC-12345", "ACC-67890", new BigDecimal("1.00"), "USD",
+                        TransactionType.TRANSFER, Instant.now(), TransactionStatus.COMPLETED)));
+
+        mockMvc.perform(post("/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].errors[0].field").value("amount"))
+                .andExpect(jsonPath("$.results[0].errors[0].message").value("Invalid value"))
+                .andExpect(jsonPath("$.results[1].id").value("txn-1"));
+    }
+
+    @Test
+    void createTransactions_withMalformedBody_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"fromAccount\": \"ACC-12345\""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation failed"));
+
+        verify(transactionService, never()).createTransactions(any());
+    }
+
+    @Test
+    void createTransactions_overBatchLimit_returnsBadRequest() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i <= TransactionController.MAX_BATCH_SIZE; i++) {
+            body.append("{}\n");
+        }
+
+        mockMvc.perform(post("/transactions/batch")
+                        .contentType(TransactionController.APPLICATION_NDJSON_VALUE)
+                        .content(body.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0].message").value("Batch must not contain more than 10000 transactions"));
+    }
+
     @Test
     void getAllTransactions_returnsListOfTransactions() throws Exception {
         Transaction txn1 = new Transaction("txn-1", "ACC-12345", "ACC-67890",
@@ -199,6 +328,79 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.length()").value(1));
     }
 
+    @Test
+    void getAllTransactions_withLimit_returnsPageAndNextCursorHeader() throws Exception {
+        Transaction txn1 = new Transaction("txn-1", "ACC-12345", "ACC-67890",
+                new BigDecimal("100.50"), "USD", TransactionType.TRANSFER,
+                Instant.now(), TransactionStatus.COMPLETED);
+
+        when(transactionService.getTransactionPage(null, null, null, null, 1, null))
+                .thenReturn(new TransactionPage(Arrays.asList(txn1), "next-page"));
+
+        mockMvc.perform(get("/transactions")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next-page"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("txn-1"));
+    }
+
+    @Test
+    void getAllTransactions_onLastPage_omitsNextCursorHeader() throws Exception {
+        when(transactionService.getTransactionPage(null, null, null, null, null, "last-page"))
+                .thenReturn(new TransactionPage(List.of(), null));
+
+        mockMvc.perform(get("/transactions")
+                        .param("cursor", "last-page"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void streamTransactions_withNdjsonAccept_writesOneTransactionPerLine() throws Exception {
+        Transaction txn1 = new Transaction("txn-1", "ACC-12345", "ACC-67890",
+                new BigDecimal("100.50"), "USD", TransactionType.TRANSFER,
+                Instant.parse("2024-01-15T10:00:00Z"), TransactionStatus.COMPLETED);
+        Transaction txn2 = new Transaction("txn-2", null, "ACC-12345",
+                new BigDecimal("50.00"), "EUR", TransactionType.DEPOSIT,
+                Instant.parse("2024-01-16T10:00:00Z"), TransactionStatus.COMPLETED);
+
+        when(transactionService.streamTransactions("ACC-12345", null, null, null))
+                .thenReturn(Stream.of(txn1, txn2));
+
+        MvcResult result = mockMvc.perform(get("/transactions")
+                        .param("accountId", "ACC-12345")
+                        .accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).isEqualTo(objectMapper.writeValueAsString(txn1) + "\n"
+                + objectMapper.writeValueAsString(txn2) + "\n");
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asText()).isEqualTo("txn-1");
+        assertThat(objectMapper.readTree(lines[0]).get("timestamp").asText()).isEqualTo("2024-01-15T10:00:00.000Z");
+        assertThat(objectMapper.readTree(lines[1]).get("type").asText()).isEqualTo("deposit");
+    }
+
+    @Test
+    void streamTransactions_withInvalidFilter_returnsBadRequestBeforeStreaming() throws Exception {
+        when(transactionService.streamTransactions(null, "invalid", null, null))
+                .thenThrow(new IllegalArgumentException("Invalid transaction type: invalid"));
+
+        mockMvc.perform(get("/transactions")
+                        .param("type", "invalid")
+                        .accept("application/x-ndjson", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation failed"));
+    }
+
     @Test
     void getTransactionById_withValidId_returnsTransaction() throws Exception {
         Transaction transaction = new Transaction("txn-1", "ACC-12345", "ACC-67890",
@@ -0,0 +1,96 @@
+package com.example.banking.repository;
+
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionStatus;
+import com.example.banking.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the repository contract against the columnar store, plus encoding and footprint checks
+class CompactTransactionRepositoryTest extends TransactionRepositoryTest {
+
+    @Override
+    TransactionRepository createRepository() {
+        return new TransactionRepository(StorageMode.COMPACT);
+    }
+
+    @Test
+    void findById_roundTripsEveryField() {
+        String id = UUID.randomUUID().toString();
+        Instant timestamp = Instant.parse("2024-03-15T10:30:00.123456789Z");
+        repository.save(new Transaction(id, "ACC-Ab123", "ACC-zZ999", new BigDecimal("1500.50"), "EUR",
+                TransactionType.TRANSFER, timestamp, TransactionStatus.PENDING));
+
+        Transaction found = repository.findById(id).orElseThrow();
+
+        assertThat(found.getId()).isEqualTo(id);
+        assertThat(found.getFromAccount()).isEqualTo("ACC-Ab123");
+        assertThat(found.getToAccount()).isEqualTo("ACC-zZ999");
+        assertThat(found.getAmount()).isEqualTo(new BigDecimal("1500.50"));
+        assertThat(found.getCurrency()).isEqualTo("EUR");
+        assertThat(found.getType()).isEqualTo(TransactionType.TRANSFER);
+        assertThat(found.getTimestamp()).isEqualTo(timestamp);
+        assertThat(found.getStatus()).isEqualTo(TransactionStatus.PENDING);
+    }
+
+    @Test
+    void findById_withValuesOutsidePackedEncodings_roundTripsThroughFallbacks() {
+        BigDecimal hugeAmount = new BigDecimal("123456789012345678901234567890.12");
+        repository.save(new Transaction("legacy-1", "EXTERNAL", null, hugeAmount, "usd",
+                null, null, null));
+
+        Transaction found = repository.findById("legacy-1").orElseThrow();
+
+        assertThat(found.getFromAccount()).isEqualTo("EXTERNAL");
+        assertThat(found.getToAccount()).isNull();
+        assertThat(found.getAmount()).isEqualTo(hugeAmount);
+        assertThat(found.getCurrency()).isEqualTo("usd");
+        assertThat(found.getType()).isNull();
+        assertThat(found.getTimestamp()).isNull();
+        assertThat(found.getStatus()).isNull();
+        assertThat(repository.findByAccountId("EXTERNAL")).hasSize(1);
+    }
+
+    @Test
+    void scan_acrossManyBatches_returnsEveryTransactionInTimeOrder() {
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 999; i >= 0; i--) {
+            repository.save(new Transaction(UUID.randomUUID().toString(), "ACC-12345", "ACC-67890",
+                    new BigDecimal("10.00"), "USD", TransactionType.TRANSFER, start.plusSeconds(i),
+                    TransactionStatus.COMPLETED));
+        }
+
+        assertThat(repository.scan("ACC-12345", null, null, null))
+                .hasSize(1000)
+                .extracting(Transaction::getTimestamp)
+                .isSorted();
+    }
+
+    @Test
+    void compactStorage_usesAtLeastFiveTimesLessHeapThanObjectStorage() {
+        TransactionRepository objects = new TransactionRepository(StorageMode.OBJECTS);
+        TransactionRepository compact = new TransactionRepository(StorageMode.COMPACT);
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+
+        for (int i = 0; i < 20_000; i++) {
+            // Fresh strings per transaction, as they would arrive from deserialized requests
+            Transaction transaction = new Transaction(UUID.randomUUID().toString(),
+                    String.format("ACC-%05d", i % 500), String.format("ACC-%05d", (i + 1) % 500),
+                    new BigDecimal(i % 10_000 + ".25"), "USD", TransactionType.TRANSFER,
+                    start.plusMillis(i * 1_000L + 123), TransactionStatus.COMPLETED);
+            objects.save(transaction);
+            compact.save(transaction);
+        }
+
+        long objectBytes = GraphLayout.parseInstance(objects).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compact).totalSize();
+
+        assertThat(objectBytes).isGreaterThanOrEqualTo(compactBytes * 5);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.banking.repository;
+
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionStatus;
+import com.example.banking.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopenedRepository_recoversTransactionsAndIndexes() {
+        Path journal = directory.resolve("transactions.journal");
+        TransactionRepository repository = new TransactionRepository(StorageMode.OBJECTS, journal, FsyncPolicy.NEVER);
+        repository.save(transaction("txn-2", "ACC-12345", "ACC-67890", Instant.parse("2024-02-01T00:00:00Z")));
+        repository.save(transaction("txn-1", "ACC-12345", "ACC-11111", Instant.parse("2024-01-01T00:00:00Z")));
+        repository.save(transaction("txn-3", "ACC-22222", "ACC-33333", Instant.parse("2024-03-01T00:00:00.123456789Z")));
+        repository.close();
+
+        TransactionRepository recovered = new TransactionRepository(StorageMode.OBJECTS, journal, FsyncPolicy.NEVER);
+
+        assertThat(recovered.findAll()).hasSize(3);
+        assertThat(recovered.findById("txn-3").orElseThrow().getTimestamp())
+                .isEqualTo(Instant.parse("2024-03-01T00:00:00.123456789Z"));
+        assertThat(recovered.findByAccountId("ACC-12345"))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-1", "txn-2");
+        recovered.close();
+    }
+
+    @Test
+    void reopenedRepository_keepsLatestVersionOfResavedTransaction() {
+        Path journal = directory.resolve("transactions.journal");
+        TransactionRepository repository = new TransactionRepository(StorageMode.COMPACT, journal, FsyncPolicy.ALWAYS);
+        repository.save(transaction("txn-1", "ACC-12345", "ACC-67890", Instant.parse("2024-01-01T00:00:00Z")));
+        repository.save(transaction("txn-1", "ACC-12345", "ACC-11111", Instant.parse("2024-01-02T00:00:00Z")));
+        repository.close();
+
+        TransactionRepository recovered = new TransactionRepository(StorageMode.COMPACT, journal, FsyncPolicy.ALWAYS);
+
+        assertThat(recovered.findAll()).hasSize(1);
+        assertThat(recovered.findById("txn-1").orElseThrow().getToAccount()).isEqualTo("ACC-11111");
+        assertThat(recovered.findByAccountId("ACC-67890")).isEmpty();
+        recovered.close();
+    }
+
+    @Test
+    void appendAll_acrossRegionBoundaries_isReplayedInOrder() {
+        Path path = directory.resolve("transactions.journal");
+        List<Transaction> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(transaction(UUID.randomUUID().toString(), "ACC-12345", "ACC-67890", Instant.now()));
+        }
+        TransactionJournal journal = new TransactionJournal(path, FsyncPolicy.ALWAYS, 512, transaction -> { });
+        journal.appendAll(batch);
+        journal.close();
+
+        List<String> replayed = new ArrayList<>();
+        new TransactionJournal(path, FsyncPolicy.ALWAYS, 512, transaction -> replayed.add(transaction.getId())).close();
+
+        assertThat(replayed).containsExactlyElementsOf(batch.stream().map(Transaction::getId).toList());
+    }
+
+    @Test
+    void replay_acrossManyRegions_returnsRecordsInAppendOrder() {
+        Path path = directory.resolve("transactions.journal");
+        List<String> appended = new ArrayList<>();
+        TransactionJournal journal = new TransactionJournal(path, FsyncPolicy.NEVER, 512, transaction -> { });
+        for (int i = 0; i < 100; i++) {
+            String id = UUID.randomUUID().toString();
+            appended.add(id);
+            journal.append(transaction(id, "ACC-12345", "ACC-67890", Instant.now()));
+        }
+        journal.close();
+
+        List<String> replayed = new ArrayList<>();
+        new TransactionJournal(path, FsyncPolicy.NEVER, 512, transaction -> replayed.add(transaction.getId())).close();
+
+        assertThat(replayed).isEqualTo(appended);
+    }
+
+    @Test
+    void replay_withTornLastRecord_dropsItAndKeepsAppending() throws Exception {
+        Path path = directory.resolve("transactions.journal");
+        TransactionJournal journal = TransactionJournal.open(path, FsyncPolicy.NEVER, transaction -> { });
+        journal.append(transaction("txn-1", "ACC-12345", "ACC-67890", Instant.now()));
+        journal.append(transaction("txn-2", "ACC-12345", "ACC-67890", Instant.now()));
+        journal.close();
+
+        // Flip a payload byte of the second record: file header (8) + first record (8 + length) + record header (8)
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(8);
+            long secondRecord = 8 + 8 + file.readInt();
+            file.seek(secondRecord + 8 + 3);
+            int value = file.read();
+            file.seek(secondRecord + 8 + 3);
+            file.write(value ^ 0xFF);
+        }
+
+        List<String> replayed = new ArrayList<>();
+        journal = TransactionJournal.open(path, FsyncPolicy.NEVER, transaction -> replayed.add(transaction.getId()));
+        journal.append(transaction("txn-3", "ACC-12345", "ACC-67890", Instant.now()));
+        journal.close();
+        assertThat(replayed).containsExactly("txn-1");
+
+        replayed.clear();
+        TransactionJournal.open(path, FsyncPolicy.NEVER, transaction -> replayed.add(transaction.getId())).close();
+        assertThat(replayed).containsExactly("txn-1", "txn-3");
+    }
+
+    @Test
+    void concurrentAppendsWithGroupCommit_areAllRecovered() throws Exception {
+        Path path = directory.resolve("transactions.journal");
+        TransactionJournal journal = new TransactionJournal(path, FsyncPolicy.ALWAYS, 4096, transaction -> { });
+        int threads = 8;
+        int appendsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < appendsPerThread; i++) {
+                    journal.append(transaction("txn-" + thread + "-" + i, "ACC-12345", "ACC-67890", Instant.now()));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        journal.close();
+
+        List<String> replayed = new CopyOnWriteArrayList<>();
+        new TransactionJournal(path, FsyncPolicy.NEVER, 4096, transaction -> replayed.add(transaction.getId())).close();
+
+        assertThat(replayed).hasSize(threads * appendsPerThread).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void append_afterClose_throwsException() {
+        TransactionJournal journal = TransactionJournal.open(directory.resolve("transactions.journal"),
+                FsyncPolicy.NEVER, transaction -> { });
+        journal.close();
+
+        assertThatThrownBy(() -> journal.append(transaction("txn-1", "ACC-12345", "ACC-67890", Instant.now())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void open_withForeignFile_throwsException() throws Exception {
+        Path path = directory.resolve("not-a-journal.txt");
+        Files.writeString(path, "hello world");
+
+        assertThatThrownBy(() -> TransactionJournal.open(path, FsyncPolicy.NEVER, transaction -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Not a transaction journal");
+    }
+
+    private Transaction transaction(String id, String from, String to, Instant timestamp) {
+        return new Transaction(id, from, to, new BigDecimal("10.50"), "USD",
+                TransactionType.TRANSFER, timestamp, TransactionStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.banking.repository;
+
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionStatus;
+import com.example.banking.model.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionRepositoryTest {
+
+    TransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = createRepository();
+    }
+
+    TransactionRepository createRepository() {
+        return new TransactionRepository();
+    }
+
+    @Test
+    void findByAccountId_returnsTransactionsForBothSides() {
+        repository.save(transfer("txn-1", "ACC-12345", "ACC-67890"));
+        repository.save(transfer("txn-2", "ACC-67890", "ACC-11111"));
+        repository.save(transfer("txn-3", "ACC-11111", "ACC-22222"));
+
+        assertThat(repository.findByAccountId("ACC-67890"))
+                .extracting(Transaction::getId)
+                .containsExactlyInAnyOrder("txn-1", "txn-2");
+    }
+
+    @Test
+    void findByAccountId_withDepositAndWithdrawal_ignoresNullSide() {
+        repository.save(new Transaction("txn-1", null, "ACC-12345",
+                new BigDecimal("100.00"), "USD", TransactionType.DEPOSIT,
+                Instant.now(), TransactionStatus.COMPLETED));
+        repository.save(new Transaction("txn-2", "ACC-12345", null,
+                new BigDecimal("40.00"), "USD", TransactionType.WITHDRAWAL,
+                Instant.now(), TransactionStatus.COMPLETED));
+
+        assertThat(repository.findByAccountId("ACC-12345")).hasSize(2);
+    }
+
+    @Test
+    void findByAccountId_withUnknownAccount_returnsEmptyList() {
+        repository.save(transfer("txn-1", "ACC-12345", "ACC-67890"));
+
+        assertThat(repository.findByAccountId("ACC-99999")).isEmpty();
+    }
+
+    @Test
+    void findByAccountId_withSelfTransfer_returnsTransactionOnce() {
+        repository.save(transfer("txn-1", "ACC-12345", "ACC-12345"));
+
+        assertThat(repository.findByAccountId("ACC-12345")).hasSize(1);
+    }
+
+    @Test
+    void save_withExistingIdAndChangedAccounts_reindexesTransaction() {
+        repository.save(transfer("txn-1", "ACC-12345", "ACC-67890"));
+        repository.save(transfer("txn-1", "ACC-12345", "ACC-11111"));
+
+        assertThat(repository.findByAccountId("ACC-67890")).isEmpty();
+        assertThat(repository.findByAccountId("ACC-11111")).hasSize(1);
+        assertThat(repository.findByAccountId("ACC-12345")).hasSize(1);
+        assertThat(repository.findAll()).hasSize(1);
+    }
+
+    @Test
+    void saveAll_storesAndIndexesEveryTransaction() {
+        repository.save(transfer("txn-1", "ACC-12345", "ACC-67890"));
+
+        List<Transaction> batch = List.of(
+                transfer("txn-1", "ACC-12345", "ACC-11111"),
+                transfer("txn-2", "ACC-67890", "ACC-11111"),
+                transfer("txn-3", "ACC-22222", "ACC-11111"));
+        assertThat(repository.saveAll(batch)).isSameAs(batch);
+
+        assertThat(repository.findAll()).hasSize(3);
+        assertThat(repository.findByAccountId("ACC-11111"))
+                .extracting(Transaction::getId)
+                .containsExactlyInAnyOrder("txn-1", "txn-2", "txn-3");
+        assertThat(repository.findByAccountId("ACC-67890"))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-2");
+    }
+
+    @Test
+    void scan_withDateRange_returnsOnlyRangeInTimeOrder() {
+        repository.save(transferAt("txn-3", Instant.parse("2024-03-01T00:00:00Z")));
+        repository.save(transferAt("txn-1", Instant.parse("2024-01-15T10:00:00Z")));
+        repository.save(transferAt("txn-4", Instant.parse("2024-04-01T00:00:00Z")));
+        repository.save(transferAt("txn-2", Instant.parse("2024-02-01T00:00:00Z")));
+
+        assertThat(repository.scan(null,
+                Instant.parse("2024-02-01T00:00:00Z"), Instant.parse("2024-04-01T00:00:00Z"), null))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-2", "txn-3");
+    }
+
+    @Test
+    void scan_withOpenBounds_returnsEverythingInTimeOrder() {
+        repository.save(transferAt("txn-b", Instant.parse("2024-02-01T00:00:00Z")));
+        repository.save(transferAt("txn-a", Instant.parse("2024-02-01T00:00:00Z")));
+        repository.save(transferAt("txn-0", Instant.parse("2024-01-01T00:00:00Z")));
+
+        assertThat(repository.scan(null, null, null, null))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-0", "txn-a", "txn-b");
+        assertThat(repository.scan(null, Instant.parse("2024-02-01T00:00:00Z"), null, null))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-a", "txn-b");
+        assertThat(repository.scan(null, null, Instant.parse("2024-02-01T00:00:00Z"), null))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-0");
+    }
+
+    @Test
+    void scan_withAccountAndPosition_resumesStrictlyAfterPosition() {
+        Transaction first = transferAt("txn-1", Instant.parse("2024-01-01T00:00:00Z"));
+        Transaction second = transferAt("txn-2", Instant.parse("2024-01-02T00:00:00Z"));
+        Transaction third = transferAt("txn-3", Instant.parse("2024-01-03T00:00:00Z"));
+        repository.save(third);
+        repository.save(first);
+        repository.save(second);
+        repository.save(transfer("txn-other", "ACC-11111", "ACC-22222"));
+
+        assertThat(repository.scan("ACC-12345", null, null, TimelinePosition.of(first)))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-2", "txn-3");
+        assertThat(repository.scan("ACC-12345", null, Instant.parse("2024-01-03T00:00:00Z"), TimelinePosition.of(first)))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-2");
+    }
+
+    @Test
+    void scan_withPositionBeforeFromOrPastTo_doesNotThrow() {
+        Transaction early = transferAt("txn-1", Instant.parse("2024-01-01T00:00:00Z"));
+        Transaction late = transferAt("txn-2", Instant.parse("2024-06-01T00:00:00Z"));
+        repository.save(early);
+        repository.save(late);
+
+        assertThat(repository.scan(null, Instant.parse("2024-03-01T00:00:00Z"), null, TimelinePosition.of(early)))
+                .extracting(Transaction::getId)
+                .containsExactly("txn-2");
+        assertThat(repository.scan(null, null, Instant.parse("2024-03-01T00:00:00Z"), TimelinePosition.of(late)))
+                .isEmpty();
+        assertThat(repository.scan("ACC-99999", null, null, null)).isEmpty();
+    }
+
+    @Test
+    void save_withExistingIdAndChangedTimestamp_movesTransactionInTimeline() {
+        repository.save(transferAt("txn-1", Instant.parse("2024-01-01T00:00:00Z")));
+        repository.save(transferAt("txn-1", Instant.parse("2024-06-01T00:00:00Z")));
+
+        assertThat(repository.scan(null, null, Instant.parse("2024-02-01T00:00:00Z"), null)).isEmpty();
+        assertThat(repository.scan(null, null, null, null)).hasSize(1);
+    }
+
+    @Test
+    void concurrentWritersAndReaders_indexNeverDriftsFromPrimaryMap() throws Exception {
+        String[] accounts = {"ACC-00001", "ACC-00002", "ACC-00003", "ACC-00004", "ACC-00005"};
+        int writers = 4;
+        int readers = 4;
+        int transactionsPerWriter = 5_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writerFutures = new ArrayList<>();
+        List<Future<?>> readerFutures = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            writerFutures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < transactionsPerWriter; i++) {
+                    String from = accounts[(writer + i) % accounts.length];
+                    String to = accounts[(writer + i + 1) % accounts.length];
+                    repository.save(transfer("txn-" + writer + "-" + i, from, to));
+                }
+                return null;
+            }));
+        }
+
+        for (int r = 0; r < readers; r++) {
+            int reader = r;
+            readerFutures.add(executor.submit(() -> {
+                start.await();
+                String accountId = accounts[reader % accounts.length];
+                while (writing.get()) {
+                    // Every indexed transaction must actually involve the account
+                    for (Transaction transaction : repository.findByAccountId(accountId)) {
+                        assertThat(accountId.equals(transaction.getFromAccount())
+                                || accountId.equals(transaction.getToAccount())).isTrue();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : writerFutures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> future : readerFutures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<Transaction> all = repository.findAll();
+        assertThat(all).hasSize(writers * transactionsPerWriter);
+
+        for (String accountId : accounts) {
+            Set<String> expected = all.stream()
+                    .filter(t -> accountId.equals(t.getFromAccount()) || accountId.equals(t.getToAccount()))
+                    .map(Transaction::getId)
+                    .collect(Collectors.toSet());
+            Set<String> indexed = repository.findByAccountId(accountId).stream()
+                    .map(Transaction::getId)
+                    .collect(Collectors.toSet());
+            assertThat(indexed).isEqualTo(expected);
+        }
+    }
+
+    private Transaction transferAt(String id, Instant timestamp) {
+        return new Transaction(id, "ACC-12345", "ACC-67890", new BigDecimal("10.00"), "USD",
+                TransactionType.TRANSFER, timestamp, TransactionStatus.COMPLETED);
+    }
+
+    private Transaction transfer(String id, String from, String to) {
+        return new Transaction(id, from, to, new BigDecimal("10.00"), "USD",
+                TransactionType.TRANSFER, Instant.now(), TransactionStatus.COMPLETED);
+    }
+}
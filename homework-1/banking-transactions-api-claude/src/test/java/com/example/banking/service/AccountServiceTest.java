@@ -10,11 +10,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +28,9 @@ class AccountServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Spy
+    private BalanceLedger balanceLedger = new BalanceLedger();
+
     @InjectMocks
     private AccountService accountService;
 
@@ -39,8 +44,7 @@ class AccountServiceTest {
                 new BigDecimal("300.50"), "USD", TransactionType.DEPOSIT,
                 Instant.now(), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findByAccountId("ACC-12345"))
-                .thenReturn(Arrays.asList(deposit1, deposit2));
+        Arrays.asList(deposit1, deposit2).forEach(balanceLedger::apply);
 
         AccountBalanceResponse result = accountService.getAccountBalance("ACC-12345");
 
@@ -58,8 +62,7 @@ class AccountServiceTest {
                 new BigDecimal("300.00"), "USD", TransactionType.WITHDRAWAL,
                 Instant.now(), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findByAccountId("ACC-12345"))
-                .thenReturn(Arrays.asList(deposit, withdrawal));
+        Arrays.asList(deposit, withdrawal).forEach(balanceLedger::apply);
 
         AccountBalanceResponse result = accountService.getAccountBalance("ACC-12345");
 
@@ -76,8 +79,7 @@ class AccountServiceTest {
                 new BigDecimal("200.00"), "USD", TransactionType.TRANSFER,
                 Instant.now(), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findByAccountId("ACC-12345"))
-                .thenReturn(Arrays.asList(transferIn, transferOut));
+        Arrays.asList(transferIn, transferOut).forEach(balanceLedger::apply);
 
         AccountBalanceResponse result = accountService.getAccountBalance("ACC-12345");
 
@@ -98,8 +100,7 @@ class AccountServiceTest {
                 new BigDecimal("200.00"), "USD", TransactionType.WITHDRAWAL,
                 Instant.now(), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findByAccountId("ACC-12345"))
-                .thenReturn(Arrays.asList(depositUSD, depositEUR, withdrawalUSD));
+        Arrays.asList(depositUSD, depositEUR, withdrawalUSD).forEach(balanceLedger::apply);
 
         AccountBalanceResponse result = accountService.getAccountBalance("ACC-12345");
 
@@ -121,8 +122,7 @@ class AccountServiceTest {
                 new BigDecimal("200.00"), "USD", TransactionType.DEPOSIT,
                 Instant.now(), TransactionStatus.FAILED);
 
-        when(transactionRepository.findByAccountId("ACC-12345"))
-                .thenReturn(Arrays.asList(completed, pending, failed));
+        Arrays.asList(completed, pending, failed).forEach(balanceLedger::apply);
 
         AccountBalanceResponse result = accountService.getAccountBalance("ACC-12345");
 
@@ -131,8 +131,6 @@ class AccountServiceTest {
 
     @Test
     void getAccountBalance_withNoTransactions_returnsEmptyBalances() {
-        when(transactionRepository.findByAccountId("ACC-99999"))
-                .thenReturn(Collections.emptyList());
 
         AccountBalanceResponse result = accountService.getAccountBalance("ACC-99999");
 
@@ -287,4 +285,39 @@ class AccountServiceTest {
         assertThat(result.getTotalDeposits()).containsEntry("USD", new BigDecimal("500.00"));
         assertThat(result.getTotalWithdrawals()).isEmpty();
     }
+
+    @Test
+    void rebuildBalanceLedger_recomputesFromRepositoryAndReportsDrift() {
+        Transaction deposit = new Transaction("txn-1", null, "ACC-12345",
+                new BigDecimal("1000.00"), "USD", TransactionType.DEPOSIT,
+                Instant.now(), TransactionStatus.COMPLETED);
+        Transaction transfer = new Transaction("txn-2", "ACC-12345", "ACC-67890",
+                new BigDecimal("250.00"), "USD", TransactionType.TRANSFER,
+                Instant.now(), TransactionStatus.COMPLETED);
+
+        // Ledger only saw the deposit, the repository holds both
+        balanceLedger.apply(deposit);
+        when(transactionRepository.findAll()).thenReturn(Arrays.asList(deposit, transfer));
+
+        assertThat(accountService.rebuildBalanceLedger()).containsExactlyInAnyOrder("ACC-12345", "ACC-67890");
+        assertThat(accountService.getAccountBalance("ACC-12345").getBalances())
+                .containsEntry("USD", new BigDecimal("750.00"));
+        assertThat(accountService.getAccountBalance("ACC-67890").getBalances())
+                .containsEntry("USD", new BigDecimal("250.00"));
+
+        assertThat(accountService.rebuildBalanceLedger()).isEmpty();
+    }
+
+    @Test
+    void initializeBalanceLedger_loadsBalancesOfRecoveredTransactions() {
+        Transaction deposit = new Transaction("txn-1", null, "ACC-12345",
+                new BigDecimal("1000.00"), "USD", TransactionType.DEPOSIT,
+                Instant.now(), TransactionStatus.COMPLETED);
+        when(transactionRepository.findAll()).thenReturn(List.of(deposit));
+
+        accountService.initializeBalanceLedger();
+
+        assertThat(accountService.getAccountBalance("ACC-12345").getBalances())
+                .containsEntry("USD", new BigDecimal("1000.00"));
+    }
 }
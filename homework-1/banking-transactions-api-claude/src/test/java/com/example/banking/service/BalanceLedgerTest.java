@@ -0,0 +1,135 @@
+package com.example.banking.service;
+
+import com.example.banking.model.Transaction;
+import com.example.banking.model.TransactionStatus;
+import com.example.banking.model.TransactionType;
+import com.example.banking.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceLedgerTest {
+
+    private BalanceLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new BalanceLedger();
+    }
+
+    @Test
+    void apply_transfer_debitsSourceAndCreditsTarget() {
+        ledger.apply(transaction("txn-1", "ACC-12345", "ACC-67890", "100.00", TransactionType.TRANSFER));
+
+        assertThat(ledger.getBalances("ACC-12345")).containsEntry("USD", new BigDecimal("-100.00"));
+        assertThat(ledger.getBalances("ACC-67890")).containsEntry("USD", new BigDecimal("100.00"));
+    }
+
+    @Test
+    void apply_depositAndWithdrawal_onlyTouchTheirOwnSide() {
+        ledger.apply(transaction("txn-1", "ACC-11111", "ACC-12345", "100.00", TransactionType.DEPOSIT));
+        ledger.apply(transaction("txn-2", "ACC-12345", "ACC-22222", "40.00", TransactionType.WITHDRAWAL));
+
+        assertThat(ledger.getBalances("ACC-12345")).containsEntry("USD", new BigDecimal("60.00"));
+        assertThat(ledger.getBalances("ACC-11111")).isEmpty();
+        assertThat(ledger.getBalances("ACC-22222")).isEmpty();
+    }
+
+    @Test
+    void apply_ignoresTransactionsThatAreNotCompleted() {
+        Transaction pending = new Transaction("txn-1", null, "ACC-12345", new BigDecimal("100.00"), "USD",
+                TransactionType.DEPOSIT, Instant.now(), TransactionStatus.PENDING);
+
+        ledger.apply(pending);
+
+        assertThat(ledger.getBalances("ACC-12345")).isEmpty();
+    }
+
+    @Test
+    void getBalances_returnsCopyThatDoesNotTrackLaterPostings() {
+        ledger.apply(transaction("txn-1", null, "ACC-12345", "100.00", TransactionType.DEPOSIT));
+        var snapshot = ledger.getBalances("ACC-12345");
+
+        ledger.apply(transaction("txn-2", null, "ACC-12345", "50.00", TransactionType.DEPOSIT));
+
+        assertThat(snapshot).containsEntry("USD", new BigDecimal("100.00"));
+    }
+
+    @Test
+    void post_savesThroughWriterAndUpdatesBalances() {
+        TransactionRepository repository = new TransactionRepository();
+
+        ledger.post(transaction("txn-1", null, "ACC-12345", "100.00", TransactionType.DEPOSIT), repository::save);
+
+        assertThat(repository.findById("txn-1")).isPresent();
+        assertThat(ledger.getBalances("ACC-12345")).containsEntry("USD", new BigDecimal("100.00"));
+    }
+
+    @Test
+    void concurrentTransfersOnSameAccounts_keepBalancesConsistentWithRebuild() throws Exception {
+        TransactionRepository repository = new TransactionRepository();
+        String[] accounts = {"ACC-00001", "ACC-00002", "ACC-00003"};
+        int threads = 8;
+        int transfersPerThread = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    String from = accounts[(thread + i) % accounts.length];
+                    String to = accounts[(thread + i + 1) % accounts.length];
+                    ledger.post(transaction("txn-" + thread + "-" + i, from, to, "1.25", TransactionType.TRANSFER),
+                            repository::save);
+                }
+                return null;
+            }));
+        }
+
+        // Rebuild concurrently with the writers; the running totals must still match afterwards
+        start.countDown();
+        ledger.rebuild(repository::findAll);
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (String account : accounts) {
+            total = total.add(ledger.getBalances(account).getOrDefault("USD", BigDecimal.ZERO));
+        }
+        assertThat(total).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(ledger.rebuild(repository::findAll)).isEmpty();
+    }
+
+    @Test
+    void rebuild_withDriftedBalances_reportsAndRepairsAccounts() {
+        TransactionRepository repository = new TransactionRepository();
+        repository.save(transaction("txn-1", null, "ACC-12345", "100.00", TransactionType.DEPOSIT));
+        ledger.apply(transaction("txn-x", null, "ACC-67890", "5.00", TransactionType.DEPOSIT));
+
+        assertThat(ledger.rebuild(repository::findAll)).containsExactlyInAnyOrder("ACC-12345", "ACC-67890");
+        assertThat(ledger.getBalances("ACC-12345")).containsEntry("USD", new BigDecimal("100.00"));
+        assertThat(ledger.getBalances("ACC-67890")).isEmpty();
+    }
+
+    private Transaction transaction(String id, String from, String to, String amount, TransactionType type) {
+        return new Transaction(id, from, to, new BigDecimal(amount), "USD", type,
+                Instant.now(), TransactionStatus.COMPLETED);
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.banking.service;
 
 import com.example.banking.dto.CreateTransactionRequest;
+import com.example.banking.dto.TransactionPage;
 import com.example.banking.model.Transaction;
 import com.example.banking.model.TransactionStatus;
 import com.example.banking.model.TransactionType;
+import com.example.banking.repository.TimelinePosition;
 import com.example.banking.repository.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -31,6 +34,9 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Spy
+    private BalanceLedger balanceLedger = new BalanceLedger();
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -90,6 +96,34 @@ class TransactionServiceTest {
         assertThat(transactionCaptor.getValue().getCurrency()).isEqualTo("EUR");
     }
 
+    @Test
+    void createTransactions_savesWholeBatchAtOnceAndPostsBalances() {
+        CreateTransactionRequest deposit = new CreateTransactionRequest();
+        deposit.setToAccount("ACC-12345");
+        deposit.setFromAccount("ACC-00000");
+        deposit.setAmount(new BigDecimal("100.00"));
+        deposit.setCurrency("usd");
+        deposit.setType(TransactionType.DEPOSIT);
+        CreateTransactionRequest withdrawal = new CreateTransactionRequest();
+        withdrawal.setFromAccount("ACC-12345");
+        withdrawal.setToAccount("ACC-00000");
+        withdrawal.setAmount(new BigDecimal("30.00"));
+        withdrawal.setCurrency("USD");
+        withdrawal.setType(TransactionType.WITHDRAWAL);
+
+        when(transactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Transaction> created = transactionService.createTransactions(List.of(deposit, withdrawal));
+
+        verify(transactionRepository).saveAll(created);
+        assertThat(created).hasSize(2);
+        assertThat(created).extracting(Transaction::getType)
+                .containsExactly(TransactionType.DEPOSIT, TransactionType.WITHDRAWAL);
+        assertThat(created).extracting(Transaction::getId).doesNotHaveDuplicates().doesNotContainNull();
+        assertThat(created.get(0).getCurrency()).isEqualTo("USD");
+        assertThat(balanceLedger.getBalances("ACC-12345").get("USD")).isEqualByComparingTo("70.00");
+    }
+
     @Test
     void getAllTransactions_returnsAllTransactions() {
         List<Transaction> transactions = Arrays.asList(sampleTransaction);
@@ -105,12 +139,12 @@ class TransactionServiceTest {
     @Test
     void getTransactions_withNoFilters_returnsAllTransactions() {
         List<Transaction> transactions = Arrays.asList(sampleTransaction);
-        when(transactionRepository.findAll()).thenReturn(transactions);
+        when(transactionRepository.scan(null, null, null, null)).thenReturn(transactions);
 
         List<Transaction> result = transactionService.getTransactions(null, null, null, null);
 
         assertThat(result).hasSize(1);
-        verify(transactionRepository).findAll();
+        verify(transactionRepository).scan(null, null, null, null);
     }
 
     @Test
@@ -122,7 +156,7 @@ class TransactionServiceTest {
                 new BigDecimal("50.00"), "EUR", TransactionType.TRANSFER,
                 Instant.now(), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(txn1, txn2));
+        when(transactionRepository.scan("ACC-12345", null, null, null)).thenReturn(Arrays.asList(txn1));
 
         List<Transaction> result = transactionService.getTransactions("ACC-12345", null, null, null);
 
@@ -139,7 +173,7 @@ class TransactionServiceTest {
                 new BigDecimal("50.00"), "EUR", TransactionType.DEPOSIT,
                 Instant.now(), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(txn1, txn2));
+        when(transactionRepository.scan(null, null, null, null)).thenReturn(Arrays.asList(txn1, txn2));
 
         List<Transaction> result = transactionService.getTransactions(null, "deposit", null, null);
 
@@ -149,8 +183,6 @@ class TransactionServiceTest {
 
     @Test
     void getTransactions_withInvalidType_throwsException() {
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(sampleTransaction));
-
         assertThatThrownBy(() -> transactionService.getTransactions(null, "invalid", null, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid transaction type");
@@ -167,7 +199,10 @@ class TransactionServiceTest {
                 new BigDecimal("50.00"), "EUR", TransactionType.DEPOSIT,
                 Instant.parse("2023-12-01T10:00:00Z"), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(txn1, txn2));
+        // The repository range scan only returns transactions inside [2024-01-01, 2025-01-01)
+        when(transactionRepository.scan(null,
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z"), null))
+                .thenReturn(Arrays.asList(txn1));
 
         List<Transaction> result = transactionService.getTransactions(
                 null, null, "2024-01-01", "2024-12-31");
@@ -178,8 +213,6 @@ class TransactionServiceTest {
 
     @Test
     void getTransactions_withInvalidFromDate_throwsException() {
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(sampleTransaction));
-
         assertThatThrownBy(() -> transactionService.getTransactions(null, null, "invalid-date", null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid 'from' date format");
@@ -187,8 +220,6 @@ class TransactionServiceTest {
 
     @Test
     void getTransactions_withInvalidToDate_throwsException() {
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(sampleTransaction));
-
         assertThatThrownBy(() -> transactionService.getTransactions(null, null, null, "invalid-date"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid 'to' date format");
@@ -208,7 +239,9 @@ class TransactionServiceTest {
                 new BigDecimal("75.00"), "USD", TransactionType.TRANSFER,
                 Instant.parse("2024-07-01T10:00:00Z"), TransactionStatus.COMPLETED);
 
-        when(transactionRepository.findAll()).thenReturn(Arrays.asList(txn1, txn2, txn3));
+        when(transactionRepository.scan("ACC-12345",
+                Instant.parse("2024-06-01T00:00:00Z"), Instant.parse("2024-07-01T00:00:00Z"), null))
+                .thenReturn(Arrays.asList(txn1, txn2));
 
         List<Transaction> result = transactionService.getTransactions(
                 "ACC-12345", "transfer", "2024-06-01", "2024-06-30");
@@ -217,6 +250,47 @@ class TransactionServiceTest {
         assertThat(result.get(0).getId()).isEqualTo("txn-1");
     }
 
+    @Test
+    void getTransactionPage_returnsLimitAndCursorThatResumesAfterLastRow() {
+        Transaction txn1 = new Transaction("txn-1", "ACC-12345", "ACC-67890",
+                new BigDecimal("10.00"), "USD", TransactionType.TRANSFER,
+                Instant.parse("2024-06-01T10:00:00Z"), TransactionStatus.COMPLETED);
+        Transaction txn2 = new Transaction("txn-2", "ACC-12345", "ACC-67890",
+                new BigDecimal("20.00"), "USD", TransactionType.TRANSFER,
+                Instant.parse("2024-06-02T10:00:00Z"), TransactionStatus.COMPLETED);
+        Transaction txn3 = new Transaction("txn-3", "ACC-12345", "ACC-67890",
+                new BigDecimal("30.00"), "USD", TransactionType.TRANSFER,
+                Instant.parse("2024-06-03T10:00:00Z"), TransactionStatus.COMPLETED);
+
+        when(transactionRepository.scan(null, null, null, null)).thenReturn(Arrays.asList(txn1, txn2, txn3));
+        when(transactionRepository.scan(null, null, null, TimelinePosition.of(txn2)))
+                .thenReturn(Arrays.asList(txn3));
+
+        TransactionPage first = transactionService.getTransactionPage(null, null, null, null, 2, null);
+
+        assertThat(first.getTransactions()).extracting(Transaction::getId).containsExactly("txn-1", "txn-2");
+        assertThat(first.getNextCursor()).isNotBlank();
+
+        TransactionPage second = transactionService.getTransactionPage(null, null, null, null, 2, first.getNextCursor());
+
+        assertThat(second.getTransactions()).extracting(Transaction::getId).containsExactly("txn-3");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getTransactionPage_withInvalidCursor_throwsException() {
+        assertThatThrownBy(() -> transactionService.getTransactionPage(null, null, null, null, 10, "not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    void getTransactionPage_withLimitOutOfRange_throwsException() {
+        assertThatThrownBy(() -> transactionService.getTransactionPage(null, null, null, null, 0, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Limit must be between 1 and 1000");
+    }
+
     @Test
     void getTransactionById_withValidId_returnsTransaction() {
         when(transactionRepository.findById("txn-1"))
@@ -0,0 +1,51 @@
+package com.example.banking.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountNumbersTest {
+
+    @Test
+    void isValid_matchesRegexOnValidAndInvalidInputs() {
+        String[] inputs = {"ACC-12345", "ACC-AbC12", "ACC-zzzzz", "ACC-00000", "acc-12345", "ACC-1234",
+                "ACC-123456", "ACC-12@45", "ACC-12 45", "ACC12345", "ACC-12-45", "ACC-1234é", "", "ACC-"};
+
+        for (String input : inputs) {
+            assertThat(AccountNumbers.isValid(input))
+                    .as(input)
+                    .isEqualTo(input.matches("^ACC-[A-Za-z0-9]{5}$"));
+        }
+    }
+
+    @Test
+    void isValid_withNull_returnsFalse() {
+        assertThat(AccountNumbers.isValid(null)).isFalse();
+    }
+
+    @Test
+    void pack_withInvalidAccountNumber_returnsInvalid() {
+        assertThat(AccountNumbers.pack("BAD-12345")).isEqualTo(AccountNumbers.INVALID);
+    }
+
+    @Test
+    void pack_isUniqueAndRoundTrips() {
+        long upper = AccountNumbers.pack("ACC-ABCDE");
+        long lower = AccountNumbers.pack("ACC-abcde");
+
+        assertThat(upper).isNotEqualTo(lower);
+        assertThat(AccountNumbers.unpack(upper)).isEqualTo("ACC-ABCDE");
+        assertThat(AccountNumbers.unpack(lower)).isEqualTo("ACC-abcde");
+        assertThat(AccountNumbers.unpack(AccountNumbers.pack("ACC-00000"))).isEqualTo("ACC-00000");
+        assertThat(AccountNumbers.unpack(AccountNumbers.pack("ACC-zzzzz"))).isEqualTo("ACC-zzzzz");
+    }
+
+    @Test
+    void unpack_withOutOfRangeValue_throwsException() {
+        assertThatThrownBy(() -> AccountNumbers.unpack(AccountNumbers.INVALID))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountNumbers.unpack(63))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.dto.AccountSummary;
+import com.banking.transactions.dto.BalanceResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures account balance and summary calculation against a pre-filled store.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int storeSize;
+
+    private TransactionService transactionService;
+    private AccountService accountService;
+    private String accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transactionService = new TransactionService();
+        BenchmarkData.seed(transactionService, storeSize);
+        accountService = new AccountService(transactionService);
+        accountId = BenchmarkData.account(7);
+    }
+
+    @Benchmark
+    public BalanceResponse getAccountBalance() {
+        return accountService.getAccountBalance(accountId);
+    }
+
+    @Benchmark
+    public AccountSummary getAccountSummary() {
+        // The copilot module computes the summary in TransactionService
+        return transactionService.getAccountSummary(accountId);
+    }
+}
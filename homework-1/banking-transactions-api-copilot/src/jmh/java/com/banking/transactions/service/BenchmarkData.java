@@ -0,0 +1,59 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.model.Transaction;
+import com.banking.transactions.model.Transaction.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * Deterministic store contents shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    static final Duration SPAN = Duration.ofDays(365);
+    static final String[] CURRENCIES = {"USD", "EUR", "GBP", "JPY"};
+    static final TransactionType[] TYPES = TransactionType.values();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Roughly 100 transactions per account, at least 10 accounts.
+     */
+    static int accountCount(int storeSize) {
+        return Math.max(10, storeSize / 100);
+    }
+
+    static String account(int index) {
+        return String.format("ACC-%05d", index % 100_000);
+    }
+
+    /**
+     * Loads {@code storeSize} completed transactions spread evenly over 2024 through
+     * {@link TransactionService#createTransaction}, which keeps the timestamps set here.
+     * Every amount is distinct, so none of the seeded transactions is rejected as a duplicate.
+     */
+    static void seed(TransactionService transactionService, int storeSize) {
+        Random random = new Random(42);
+        int accounts = accountCount(storeSize);
+        long stepNanos = SPAN.toNanos() / storeSize;
+
+        for (int i = 0; i < storeSize; i++) {
+            int from = random.nextInt(accounts);
+            int to = (from + 1 + random.nextInt(accounts - 1)) % accounts;
+            Transaction transaction = new Transaction(
+                    null,
+                    account(from),
+                    account(to),
+                    BigDecimal.valueOf(i + 1L, 2),
+                    CURRENCIES[random.nextInt(CURRENCIES.length)],
+                    TYPES[i % TYPES.length]);
+            transaction.setTimestamp(START.plusNanos(stepNanos * i));
+            transactionService.createTransaction(transaction);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.model.Transaction;
+import com.banking.transactions.model.Transaction.TransactionStatus;
+import com.banking.transactions.model.Transaction.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Journal write throughput per fsync policy, and the time for {@link TransactionService}
+ * to recover from a journal of 1M and 10M records.
+ */
+@Fork(1)
+public class TransactionJournalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class AppendState {
+
+        @Param({"NEVER", "INTERVAL", "ALWAYS"})
+        public FsyncPolicy fsyncPolicy;
+
+        // Prebuilt so the measured loop only covers encoding and appending
+        private final Transaction[] transactions = new Transaction[4096];
+        private final AtomicLong sequence = new AtomicLong();
+        private Path directory;
+        private TransactionJournal journal;
+
+        @Setup(Level.Trial)
+        public void createTransactions() {
+            for (int i = 0; i < transactions.length; i++) {
+                transactions[i] = transaction(i);
+            }
+        }
+
+        /**
+         * A fresh journal per iteration keeps the file from growing without bound.
+         */
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-append");
+            journal = TransactionJournal.open(directory.resolve("transactions.journal"), fsyncPolicy, t -> { });
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            journal.close();
+            deleteDirectory(directory);
+        }
+
+        Transaction next() {
+            return transactions[(int) (sequence.incrementAndGet() & (transactions.length - 1))];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+
+        @Param({"1000000", "10000000"})
+        public int recordCount;
+
+        private Path directory;
+        private Path journalPath;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-recovery");
+            journalPath = directory.resolve("transactions.journal");
+            try (TransactionJournal journal = TransactionJournal.open(journalPath, FsyncPolicy.NEVER, t -> { })) {
+                for (long i = 0; i < recordCount; i++) {
+                    journal.append(transaction(i));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteDirectory(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Threads(4)
+    public void append(AppendState state) {
+        state.journal.append(state.next());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public TransactionService recover(RecoveryState state) {
+        TransactionService transactionService = new TransactionService(state.journalPath, FsyncPolicy.NEVER);
+        transactionService.close();
+        return transactionService;
+    }
+
+    private static Transaction transaction(long sequence) {
+        Transaction transaction = new Transaction(
+                UUID.randomUUID().toString(),
+                BenchmarkData.account((int) (sequence % 10_000)),
+                BenchmarkData.account((int) ((sequence + 1) % 10_000)),
+                BigDecimal.valueOf(sequence % 100_000 + 1, 2),
+                "USD",
+                TransactionType.TRANSFER);
+        transaction.setTimestamp(BenchmarkData.START.plusNanos(sequence * 1_000_000));
+        transaction.setStatus(TransactionStatus.COMPLETED);
+        return transaction;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filtered transaction queries for every combination of the account, type and date range filters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionQueryBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int storeSize;
+
+    @Param({"NONE", "ACCOUNT", "TYPE", "DATE_RANGE", "ACCOUNT_TYPE", "ACCOUNT_DATE_RANGE", "TYPE_DATE_RANGE",
+            "ACCOUNT_TYPE_DATE_RANGE"})
+    public String filter;
+
+    private TransactionService transactionService;
+    private String accountId;
+    private String type;
+    private String from;
+    private String to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transactionService = new TransactionService();
+        BenchmarkData.seed(transactionService, storeSize);
+
+        accountId = filter.contains("ACCOUNT") ? BenchmarkData.account(7) : null;
+        type = filter.contains("TYPE") ? "transfer" : null;
+        from = filter.contains("DATE_RANGE") ? "2024-03-01" : null;
+        to = filter.contains("DATE_RANGE") ? "2024-03-31" : null;
+    }
+
+    @Benchmark
+    public List<Transaction> getTransactions() {
+        // Same dispatch as TransactionController: unfiltered requests return everything
+        if (accountId == null && type == null && from == null && to == null) {
+            return transactionService.getAllTransactions();
+        }
+        return transactionService.getFilteredTransactions(accountId, type, from, to);
+    }
+}
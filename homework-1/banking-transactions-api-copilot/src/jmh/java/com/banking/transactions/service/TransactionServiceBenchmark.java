@@ -0,0 +1,52 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.model.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures transaction creation, including validation and duplicate detection, against a pre-filled store.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int storeSize;
+
+    private TransactionService transactionService;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transactionService = new TransactionService();
+        BenchmarkData.seed(transactionService, storeSize);
+        // The seeded amounts run from 0.01 up to storeSize cents; continue after them
+        sequence = storeSize;
+    }
+
+    @Benchmark
+    public Transaction createTransaction() {
+        // A distinct amount per call keeps the duplicate check from rejecting the request
+        Transaction transaction = new Transaction(null, BenchmarkData.account(1), BenchmarkData.account(2),
+                BigDecimal.valueOf(++sequence, 2), "USD", Transaction.TransactionType.TRANSFER);
+        return transactionService.createTransaction(transaction);
+    }
+}
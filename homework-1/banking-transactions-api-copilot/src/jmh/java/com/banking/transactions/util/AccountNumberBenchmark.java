@@ -0,0 +1,50 @@
+package com.banking.transactions.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// Compares the previous regex-based account number checks with AccountNumberValidator
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountNumberBenchmark {
+
+    private static final Pattern ACCOUNT_PATTERN = Pattern.compile("^ACC-[A-Za-z0-9]{5}$");
+
+    @Param({"ACC-AbC12", "ACC-12@45"})
+    public String accountNumber;
+
+    @Benchmark
+    public boolean stringMatches() {
+        return accountNumber.matches("^ACC-[A-Za-z0-9]{5}$");
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return ACCOUNT_PATTERN.matcher(accountNumber).matches();
+    }
+
+    @Benchmark
+    public boolean validatorIsValid() {
+        return AccountNumberValidator.isValidAccountNumber(accountNumber);
+    }
+
+    @Benchmark
+    public long validatorPack() {
+        return AccountNumberValidator.packAccountNumber(accountNumber);
+    }
+}
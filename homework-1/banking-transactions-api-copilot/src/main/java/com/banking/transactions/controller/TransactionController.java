@@ -1,12 +1,20 @@
 package com.banking.transactions.controller;
 
+import com.banking.transactions.dto.TransactionPage;
 import com.banking.transactions.model.Transaction;
 import com.banking.transactions.service.TransactionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * REST controller for managing banking transactions.
@@ -16,15 +24,21 @@ import java.util.List;
 @RequestMapping("/transactions")
 public class TransactionController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final TransactionService transactionService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructs a new TransactionController.
      *
      * @param transactionService the service for transaction operations
+     * @param objectMapper the mapper used to write streamed rows
      */
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService, ObjectMapper objectMapper) {
         this.transactionService = transactionService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -47,6 +61,8 @@ public class TransactionController {
      * @param type optional transaction type filter (deposit, withdrawal, transfer)
      * @param from optional start date filter (ISO 8601 format: YYYY-MM-DD)
      * @param to optional end date filter (ISO 8601 format: YYYY-MM-DD)
+     * @param limit optional page size; enables cursor pagination
+     * @param cursor optional cursor from the previous page's X-Next-Cursor header
      * @return ResponseEntity with list of transactions and HTTP 200 status
      */
     @GetMapping
@@ -54,7 +70,19 @@ public class TransactionController {
             @RequestParam(required = false) String accountId,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String from,
-            @RequestParam(required = false) String to) {
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        
+        // Paged mode: the body stays a plain array, the next page position travels in a header
+        if (limit != null || cursor != null) {
+            TransactionPage page = transactionService.getTransactionPage(accountId, type, from, to, limit, cursor);
+            HttpHeaders headers = new HttpHeaders();
+            if (page.getNextCursor() != null) {
+                headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return new ResponseEntity<>(page.getTransactions(), headers, HttpStatus.OK);
+        }
         
         // If any filter is provided, use filtered results; otherwise return all
         List<Transaction> transactions;
@@ -67,6 +95,41 @@ public class TransactionController {
         return new ResponseEntity<>(transactions, HttpStatus.OK);
     }
 
+    /**
+     * Streams transactions as newline-delimited JSON, one row per line, with constant memory.
+     * Selected when the client sends {@code Accept: application/x-ndjson}.
+     *
+     * @param accountId optional account ID filter (matches fromAccount or toAccount)
+     * @param type optional transaction type filter (deposit, withdrawal, transfer)
+     * @param from optional start date filter (ISO 8601 format: YYYY-MM-DD)
+     * @param to optional end date filter (ISO 8601 format: YYYY-MM-DD)
+     * @return ResponseEntity with a streaming NDJSON body and HTTP 200 status
+     */
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTransactions(
+            @RequestParam(required = false) String accountId,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<Transaction> transactions = transactionService.streamFilteredTransactions(accountId, type, from, to);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // Lines are separated by '\n' only, without the default root value separator (a space)
+                generator.setRootValueSeparator(null);
+                Iterator<Transaction> iterator = transactions.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
     /**
      * Retrieves a specific transaction by its ID.
      *
@@ -0,0 +1,39 @@
+package com.banking.transactions.dto;
+
+import com.banking.transactions.model.Transaction;
+
+import java.util.List;
+
+/**
+ * One page of transactions returned by cursor-based pagination.
+ * {@code nextCursor} is null when there are no further pages.
+ */
+public class TransactionPage {
+
+    private List<Transaction> transactions;
+    private String nextCursor;
+
+    public TransactionPage() {
+    }
+
+    public TransactionPage(List<Transaction> transactions, String nextCursor) {
+        this.transactions = transactions;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(List<Transaction> transactions) {
+        this.transactions = transactions;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
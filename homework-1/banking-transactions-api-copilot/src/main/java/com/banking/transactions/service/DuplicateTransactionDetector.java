@@ -0,0 +1,140 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Detects repeated submissions of the same transaction within a sliding time window.
+ * Accepted transactions are indexed by a fingerprint of (fromAccount, toAccount, amount, currency, type),
+ * so each check is a single hash lookup. Fingerprints are also grouped into time buckets, which lets
+ * expired entries be dropped without scanning the index and keeps memory bounded by the window.
+ */
+class DuplicateTransactionDetector {
+
+    private static final int BUCKETS_PER_WINDOW = 5;
+
+    private final long windowMillis;
+    private final long bucketMillis;
+    private final Clock clock;
+
+    // fingerprint -> time the last identical transaction was accepted
+    private final Map<Fingerprint, Long> acceptedAt = new ConcurrentHashMap<>();
+
+    // bucket index (acceptance time / bucketMillis) -> fingerprints accepted in that bucket
+    private final ConcurrentNavigableMap<Long, Set<Fingerprint>> buckets = new ConcurrentSkipListMap<>();
+
+    /**
+     * Constructs a new DuplicateTransactionDetector.
+     *
+     * @param window how long an accepted transaction blocks identical submissions
+     * @param clock the clock used to timestamp accepted transactions
+     */
+    DuplicateTransactionDetector(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.bucketMillis = Math.max(1, windowMillis / BUCKETS_PER_WINDOW);
+        this.clock = clock;
+    }
+
+    /**
+     * Records the transaction unless an identical one was accepted within the window.
+     * The check and the record happen atomically, so of several identical concurrent
+     * submissions exactly one is accepted.
+     *
+     * @param transaction the transaction about to be stored
+     * @return true if the transaction is a duplicate and was not recorded
+     */
+    boolean checkAndRecord(Transaction transaction) {
+        long now = clock.millis();
+        evictExpired(now);
+
+        Fingerprint fingerprint = Fingerprint.of(transaction);
+        boolean[] duplicate = new boolean[1];
+        acceptedAt.compute(fingerprint, (key, previous) -> {
+            if (previous != null && previous > now - windowMillis) {
+                duplicate[0] = true;
+                return previous;
+            }
+            return now;
+        });
+
+        if (!duplicate[0]) {
+            buckets.computeIfAbsent(now / bucketMillis, bucket -> ConcurrentHashMap.newKeySet()).add(fingerprint);
+        }
+        return duplicate[0];
+    }
+
+    /**
+     * Records a transaction accepted before a restart at its original acceptance time, so identical
+     * submissions stay rejected for the rest of its window. Transactions accepted longer ago than the
+     * window are ignored, and a time in the future is treated as now.
+     *
+     * @param transaction the recovered transaction
+     * @param acceptedAtMillis when the transaction was accepted, in epoch milliseconds
+     */
+    void restore(Transaction transaction, long acceptedAtMillis) {
+        long now = clock.millis();
+        long time = Math.min(acceptedAtMillis, now);
+        if (time <= now - windowMillis) {
+            return;
+        }
+
+        Fingerprint fingerprint = Fingerprint.of(transaction);
+        acceptedAt.merge(fingerprint, time, Math::max);
+        buckets.computeIfAbsent(time / bucketMillis, bucket -> ConcurrentHashMap.newKeySet()).add(fingerprint);
+    }
+
+    /**
+     * Forgets a transaction that {@link #checkAndRecord} accepted but that was not stored after all,
+     * so a retry of it is not rejected as a duplicate.
+     *
+     * @param transaction the transaction that was not stored
+     */
+    void forget(Transaction transaction) {
+        // While the fingerprint is recorded every identical submission is rejected, so the entry is still ours
+        acceptedAt.remove(Fingerprint.of(transaction));
+    }
+
+    /**
+     * Returns the number of fingerprints currently tracked.
+     *
+     * @return tracked fingerprint count
+     */
+    int size() {
+        return acceptedAt.size();
+    }
+
+    private void evictExpired(long now) {
+        long cutoff = now - windowMillis;
+        // A bucket whose whole time range ends at or before the cutoff only holds expired fingerprints
+        long firstLiveBucket = cutoff / bucketMillis;
+
+        Map.Entry<Long, Set<Fingerprint>> oldest;
+        while ((oldest = buckets.firstEntry()) != null && oldest.getKey() < firstLiveBucket) {
+            if (buckets.remove(oldest.getKey(), oldest.getValue())) {
+                for (Fingerprint fingerprint : oldest.getValue()) {
+                    // Keep the entry if an identical transaction was accepted again since
+                    acceptedAt.computeIfPresent(fingerprint, (key, time) -> time <= cutoff ? null : time);
+                }
+            }
+        }
+    }
+
+    private record Fingerprint(String fromAccount, String toAccount, BigDecimal amount, String currency,
+                               Transaction.TransactionType type) {
+
+        static Fingerprint of(Transaction transaction) {
+            // Strip trailing zeros so 100.5 and 100.50 match, like the compareTo check they replace
+            BigDecimal amount = transaction.getAmount() != null ? transaction.getAmount().stripTrailingZeros() : null;
+            return new Fingerprint(transaction.getFromAccount(), transaction.getToAccount(), amount,
+                    transaction.getCurrency(), transaction.getType());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.banking.transactions.service;
+
+/**
+ * Controls when {@link TransactionJournal} writes are forced to the storage device.
+ */
+public enum FsyncPolicy {
+    /** Left to the operating system; survives a process crash but not a power loss. */
+    NEVER,
+    /** Forced in the background about once a second. */
+    INTERVAL,
+    /** Forced before each append returns; concurrent appends share one force (group commit). */
+    ALWAYS
+}
@@ -0,0 +1,334 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.model.Transaction;
+import com.banking.transactions.model.Transaction.TransactionStatus;
+import com.banking.transactions.model.Transaction.TransactionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of stored transactions, written through fixed-size memory-mapped regions of one file.
+ * Opening a journal replays every intact record, so the in-memory store can be rebuilt after a restart.
+ *
+ * <p>Record layout: {@code int length | int crc32c | payload}. The length is written last, so a record only
+ * becomes visible once it is complete; a torn record at the tail fails its checksum and is discarded on recovery.
+ */
+public class TransactionJournal implements Closeable {
+
+    static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    private static final int MAGIC = 0x54584a31; // "TXJ1"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    // Marks that the rest of a region is unused and the log continues in the next one
+    private static final int END_OF_REGION = -1;
+    private static final long SYNC_INTERVAL_MILLIS = 1000;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final FsyncPolicy fsyncPolicy;
+    private final int regionSize;
+
+    private final Lock appendLock = new ReentrantLock();
+    private volatile MappedByteBuffer region;
+    private long regionStart;
+    private volatile long appendedOffset;
+    private boolean closed;
+
+    // Group commit: one thread forces the file while later writers wait for it and are covered by the same force
+    private final Lock syncLock = new ReentrantLock();
+    private final Condition syncDone = syncLock.newCondition();
+    private long syncedOffset;
+    private boolean syncing;
+
+    private final ScheduledExecutorService syncScheduler;
+
+    /**
+     * Opens (or creates) a journal with the given region size.
+     *
+     * @param path the journal file
+     * @param fsyncPolicy when appended records are forced to disk
+     * @param regionSize size of each memory-mapped region in bytes
+     * @param replay receives every recorded transaction, oldest first
+     */
+    TransactionJournal(Path path, FsyncPolicy fsyncPolicy, int regionSize, Consumer<Transaction> replay) {
+        this.path = path;
+        this.fsyncPolicy = fsyncPolicy;
+        this.regionSize = regionSize;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            boolean empty = channel.size() == 0;
+            region = map(0);
+            if (empty) {
+                region.putInt(MAGIC).putInt(VERSION);
+            } else if (region.getInt() != MAGIC || region.getInt() != VERSION) {
+                channel.close();
+                throw new IllegalStateException("Not a transaction journal: " + path);
+            }
+            recover(replay);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open transaction journal " + path, e);
+        }
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "transaction-journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncScheduler.scheduleWithFixedDelay(() -> awaitDurable(appendedOffset),
+                    SYNC_INTERVAL_MILLIS, SYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } else {
+            syncScheduler = null;
+        }
+    }
+
+    /**
+     * Opens (or creates) the journal at the given path and replays it.
+     *
+     * @param path the journal file
+     * @param fsyncPolicy when appended records are forced to disk
+     * @param replay receives every recorded transaction, oldest first
+     * @return the opened journal, positioned after the last intact record
+     */
+    public static TransactionJournal open(Path path, FsyncPolicy fsyncPolicy, Consumer<Transaction> replay) {
+        return new TransactionJournal(path, fsyncPolicy, DEFAULT_REGION_SIZE, replay);
+    }
+
+    /**
+     * Appends a transaction to the journal. With {@link FsyncPolicy#ALWAYS} this returns only once
+     * the record has been forced to disk.
+     *
+     * @param transaction the transaction to record
+     * @throws IllegalStateException if the journal is closed
+     */
+    public void append(Transaction transaction) {
+        byte[] payload = encode(transaction);
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (recordSize > regionSize - FILE_HEADER_SIZE) {
+            throw new IllegalArgumentException("Transaction too large for the journal: " + transaction.getId());
+        }
+
+        long end;
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Transaction journal is closed: " + path);
+            }
+            if (region.remaining() < recordSize) {
+                nextRegion();
+            }
+            int position = region.position();
+            region.putInt(position + 4, checksum(payload));
+            region.put(position + RECORD_HEADER_SIZE, payload);
+            region.putInt(position, payload.length);
+            region.position(position + recordSize);
+            end = regionStart + region.position();
+            appendedOffset = end;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot extend transaction journal " + path, e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            awaitDurable(end);
+        }
+    }
+
+    /**
+     * Forces outstanding records to disk (unless the policy is {@link FsyncPolicy#NEVER}) and closes the file.
+     */
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (syncScheduler != null) {
+                syncScheduler.shutdownNow();
+            }
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                region.force();
+            }
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close transaction journal " + path, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void recover(Consumer<Transaction> replay) throws IOException {
+        while (true) {
+            if (region.remaining() < RECORD_HEADER_SIZE) {
+                nextRegion();
+                continue;
+            }
+            int position = region.position();
+            int length = region.getInt(position);
+            if (length == END_OF_REGION) {
+                nextRegion();
+                continue;
+            }
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || length > region.remaining() - RECORD_HEADER_SIZE) {
+                clearTail();
+                break;
+            }
+            byte[] payload = new byte[length];
+            region.get(position + RECORD_HEADER_SIZE, payload);
+            if (checksum(payload) != region.getInt(position + 4)) {
+                clearTail();
+                break;
+            }
+            replay.accept(decode(payload));
+            region.position(position + RECORD_HEADER_SIZE + length);
+        }
+        appendedOffset = regionStart + region.position();
+        syncedOffset = appendedOffset;
+    }
+
+    // Zeroes what follows a torn record, so the next append is never followed by stale bytes
+    private void clearTail() {
+        byte[] zeros = new byte[8192];
+        for (int position = region.position(); position < region.limit(); position += zeros.length) {
+            region.put(position, zeros, 0, Math.min(zeros.length, region.limit() - position));
+        }
+    }
+
+    private void nextRegion() throws IOException {
+        if (region.remaining() >= Integer.BYTES) {
+            region.putInt(region.position(), END_OF_REGION);
+        }
+        // Later syncs only force the current region, so the one being left must be durable first
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            region.force();
+        }
+        regionStart += regionSize;
+        region = map(regionStart);
+    }
+
+    private MappedByteBuffer map(long start) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, start, regionSize);
+    }
+
+    private void awaitDurable(long offset) {
+        syncLock.lock();
+        try {
+            while (syncedOffset < offset) {
+                if (syncing) {
+                    syncDone.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long target = appendedOffset;
+                MappedByteBuffer current = region;
+                syncLock.unlock();
+                try {
+                    current.force();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    syncDone.signalAll();
+                }
+                syncedOffset = Math.max(syncedOffset, target);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(Transaction transaction) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, transaction.getId());
+            writeString(out, transaction.getFromAccount());
+            writeString(out, transaction.getToAccount());
+            writeString(out, transaction.getAmount() != null ? transaction.getAmount().toString() : null);
+            writeString(out, transaction.getCurrency());
+            writeString(out, transaction.getType() != null ? transaction.getType().name() : null);
+            writeString(out, transaction.getStatus() != null ? transaction.getStatus().name() : null);
+            LocalDateTime timestamp = transaction.getTimestamp();
+            out.writeBoolean(timestamp != null);
+            if (timestamp != null) {
+                out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(timestamp.getNano());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Transaction decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        String id = readString(in);
+        String fromAccount = readString(in);
+        String toAccount = readString(in);
+        String amount = readString(in);
+        String currency = readString(in);
+        String type = readString(in);
+        String status = readString(in);
+        LocalDateTime timestamp = in.readBoolean()
+            ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+            : null;
+
+        Transaction transaction = new Transaction(id, fromAccount, toAccount,
+            amount != null ? new BigDecimal(amount) : null,
+            currency,
+            type != null ? TransactionType.valueOf(type) : null);
+        transaction.setTimestamp(timestamp);
+        transaction.setStatus(status != null ? TransactionStatus.valueOf(status) : null);
+        return transaction;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -1,28 +1,42 @@
 package com.banking.transactions.service;
 
 import com.banking.transactions.dto.AccountSummary;
+import com.banking.transactions.dto.TransactionPage;
 import com.banking.transactions.dto.ValidationErrorResponse;
 import com.banking.transactions.exception.ValidationException;
 import com.banking.transactions.model.Transaction;
 import com.banking.transactions.model.Transaction.TransactionStatus;
 import com.banking.transactions.model.Transaction.TransactionType;
+import com.banking.transactions.util.AccountNumberValidator;
 import com.banking.transactions.util.CurrencyValidator;
 import com.banking.transactions.util.ValidationMessages;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing banking transactions.
@@ -31,7 +45,59 @@ import java.util.stream.Collectors;
 @Service
 public class TransactionService {
     
-    private final ConcurrentHashMap<String, Transaction> transactions = new ConcurrentHashMap<>();
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final Duration DUPLICATE_WINDOW = Duration.ofMinutes(5);
+
+    // Sorted by id so pagination cursors keep a stable position while new transactions arrive
+    private final ConcurrentNavigableMap<String, Transaction> transactions = new ConcurrentSkipListMap<>();
+
+    private final DuplicateTransactionDetector duplicateDetector =
+        new DuplicateTransactionDetector(DUPLICATE_WINDOW, Clock.systemUTC());
+
+    // Null when transactions are kept in memory only
+    private final TransactionJournal journal;
+
+    /**
+     * Constructs a TransactionService that keeps transactions in memory only.
+     */
+    public TransactionService() {
+        this((Path) null, FsyncPolicy.NEVER);
+    }
+
+    /**
+     * Constructs a TransactionService from application configuration.
+     *
+     * @param journalPath path of the transaction journal; blank keeps transactions in memory only
+     * @param fsyncPolicy when journal writes are forced to disk
+     */
+    @Autowired
+    public TransactionService(@Value("${banking.journal.path:}") String journalPath,
+                              @Value("${banking.journal.fsync:INTERVAL}") FsyncPolicy fsyncPolicy) {
+        this(journalPath.isBlank() ? null : Path.of(journalPath), fsyncPolicy);
+    }
+
+    /**
+     * Constructs a TransactionService backed by a durable journal.
+     * Transactions already in the journal are replayed into the in-memory store and the duplicate window.
+     *
+     * @param journalPath path of the transaction journal, or null to keep transactions in memory only
+     * @param fsyncPolicy when journal writes are forced to disk
+     */
+    public TransactionService(Path journalPath, FsyncPolicy fsyncPolicy) {
+        this.journal = journalPath != null
+            ? TransactionJournal.open(journalPath, fsyncPolicy, this::recover)
+            : null;
+    }
+
+    private void recover(Transaction transaction) {
+        transactions.put(transaction.getId(), transaction);
+        // Transactions accepted shortly before the restart keep blocking identical submissions
+        if (transaction.getTimestamp() != null) {
+            long acceptedAt = transaction.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            duplicateDetector.restore(transaction, acceptedAt);
+        }
+    }
 
     /**
      * Creates a new transaction with comprehensive validation.
@@ -97,8 +163,8 @@ public class TransactionService {
             throw new ValidationException(errorResponse);
         }
         
-        // Check for duplicate transaction
-        if (isDuplicateTransaction(transaction)) {
+        // Check for duplicate transaction (identical details within the last 5 minutes)
+        if (duplicateDetector.checkAndRecord(transaction)) {
             errorResponse.addDetail("transaction", ValidationMessages.TRANSACTION_DUPLICATE);
             throw new ValidationException(errorResponse);
         }
@@ -110,12 +176,31 @@ public class TransactionService {
         // Set status to completed for simplicity
         transaction.setStatus(TransactionStatus.COMPLETED);
         
-        // Store transaction
+        // Store transaction, logging it first when persistence is enabled
+        if (journal != null) {
+            try {
+                journal.append(transaction);
+            } catch (RuntimeException e) {
+                // Not stored, so a retry must not be rejected as a duplicate of it
+                duplicateDetector.forget(transaction);
+                throw e;
+            }
+        }
         transactions.put(id, transaction);
         
         return transaction;
     }
 
+    /**
+     * Closes the transaction journal, if any, forcing outstanding records to disk.
+     */
+    @PreDestroy
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
     /**
      * Retrieves all transactions from the in-memory store.
      *
@@ -136,47 +221,115 @@ public class TransactionService {
      * @return list of transactions matching all provided filters
      */
     public List<Transaction> getFilteredTransactions(String accountId, String type, String from, String to) {
-        List<Transaction> result = new ArrayList<>(transactions.values());
-        
+        try (Stream<Transaction> result = streamFilteredTransactions(accountId, type, from, to)) {
+            return result.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Lazily streams transactions matching the optional filters, in id order.
+     * All filters are combined into a single predicate, so no intermediate lists are built.
+     *
+     * @param accountId optional account ID (matches fromAccount or toAccount)
+     * @param type optional transaction type (deposit, withdrawal, transfer)
+     * @param from optional start date in ISO 8601 format (YYYY-MM-DD)
+     * @param to optional end date in ISO 8601 format (YYYY-MM-DD)
+     * @return stream of transactions matching all provided filters
+     */
+    public Stream<Transaction> streamFilteredTransactions(String accountId, String type, String from, String to) {
+        return transactions.values().stream().filter(buildFilter(accountId, type, from, to));
+    }
+
+    /**
+     * Retrieves one page of transactions matching the optional filters.
+     * The cursor is opaque to clients; pass the {@code nextCursor} of the previous page to continue.
+     *
+     * @param accountId optional account ID (matches fromAccount or toAccount)
+     * @param type optional transaction type (deposit, withdrawal, transfer)
+     * @param from optional start date in ISO 8601 format (YYYY-MM-DD)
+     * @param to optional end date in ISO 8601 format (YYYY-MM-DD)
+     * @param limit optional page size (1-1000, defaults to 100)
+     * @param cursor optional cursor returned by the previous page
+     * @return the page with its transactions and the cursor of the next page, if any
+     * @throws ValidationException if the limit or cursor is invalid
+     */
+    public TransactionPage getTransactionPage(String accountId, String type, String from, String to,
+                                              Integer limit, String cursor) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            ValidationErrorResponse errorResponse = new ValidationErrorResponse();
+            errorResponse.addDetail("limit", ValidationMessages.LIMIT_RANGE);
+            throw new ValidationException(errorResponse);
+        }
+
+        // Resume strictly after the last id of the previous page
+        Map<String, Transaction> remaining = transactions;
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            remaining = transactions.tailMap(decodeCursor(cursor), false);
+        }
+
+        // Read one extra row to find out whether another page follows
+        List<Transaction> page = remaining.values().stream()
+            .filter(buildFilter(accountId, type, from, to))
+            .limit(pageSize + 1L)
+            .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (page.size() > pageSize) {
+            page = page.subList(0, pageSize);
+            nextCursor = encodeCursor(page.get(pageSize - 1).getId());
+        }
+        return new TransactionPage(page, nextCursor);
+    }
+
+    private Predicate<Transaction> buildFilter(String accountId, String type, String from, String to) {
+        Predicate<Transaction> filter = t -> true;
+
         // Filter by accountId (matches either fromAccount or toAccount)
         if (accountId != null && !accountId.trim().isEmpty()) {
-            result = result.stream()
-                .filter(t -> accountId.equals(t.getFromAccount()) || accountId.equals(t.getToAccount()))
-                .collect(Collectors.toList());
+            filter = filter.and(t -> accountId.equals(t.getFromAccount()) || accountId.equals(t.getToAccount()));
         }
-        
+
         // Filter by type
         if (type != null && !type.trim().isEmpty()) {
             Transaction.TransactionType transactionType = parseTransactionType(type);
             if (transactionType != null) {
-                result = result.stream()
-                    .filter(t -> t.getType() == transactionType)
-                    .collect(Collectors.toList());
+                filter = filter.and(t -> t.getType() == transactionType);
             }
         }
-        
+
         // Filter by date range
         if (from != null && !from.trim().isEmpty()) {
             LocalDate fromDate = parseDate(from);
             if (fromDate != null) {
                 LocalDateTime fromDateTime = fromDate.atStartOfDay();
-                result = result.stream()
-                    .filter(t -> t.getTimestamp() != null && !t.getTimestamp().isBefore(fromDateTime))
-                    .collect(Collectors.toList());
+                filter = filter.and(t -> t.getTimestamp() != null && !t.getTimestamp().isBefore(fromDateTime));
             }
         }
-        
+
         if (to != null && !to.trim().isEmpty()) {
             LocalDate toDate = parseDate(to);
             if (toDate != null) {
                 LocalDateTime toDateTime = toDate.atTime(23, 59, 59);
-                result = result.stream()
-                    .filter(t -> t.getTimestamp() != null && !t.getTimestamp().isAfter(toDateTime))
-                    .collect(Collectors.toList());
+                filter = filter.and(t -> t.getTimestamp() != null && !t.getTimestamp().isAfter(toDateTime));
             }
         }
-        
-        return result;
+
+        return filter;
+    }
+
+    private String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            ValidationErrorResponse errorResponse = new ValidationErrorResponse();
+            errorResponse.addDetail("cursor", ValidationMessages.CURSOR_INVALID);
+            throw new ValidationException(errorResponse);
+        }
     }
 
     /**
@@ -207,37 +360,9 @@ public class TransactionService {
     
     private boolean isValidAccountFormat(String accountNumber) {
         // Account format: ACC-XXXXX where X is alphanumeric (A-Z, a-z, 0-9)
-        return accountNumber != null && accountNumber.matches("^ACC-[A-Za-z0-9]{5}$");
+        return AccountNumberValidator.isValidAccountNumber(accountNumber);
     }
     
-    private boolean isDuplicateTransaction(Transaction newTransaction) {
-        // Check if identical transaction already exists (within last 5 minutes to prevent accidental duplicates)
-        long fiveMinutesAgo = System.currentTimeMillis() - (5 * 60 * 1000);
-        
-        for (Transaction existing : transactions.values()) {
-            if (existing.getFromAccount() != null && existing.getFromAccount().equals(newTransaction.getFromAccount()) &&
-                existing.getToAccount() != null && existing.getToAccount().equals(newTransaction.getToAccount()) &&
-                existing.getAmount() != null && existing.getAmount().compareTo(newTransaction.getAmount()) == 0 &&
-                existing.getCurrency() != null && existing.getCurrency().equals(newTransaction.getCurrency()) &&
-                existing.getType() == newTransaction.getType()) {
-                
-                // Check if the existing transaction was created within the last 5 minutes
-                if (existing.getTimestamp() != null) {
-                    long existingTimestamp = java.time.ZoneId.systemDefault()
-                        .getRules()
-                        .getOffset(existing.getTimestamp())
-                        .getTotalSeconds() * 1000L + 
-                        existing.getTimestamp().atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli();
-                    
-                    if (existingTimestamp > fiveMinutesAgo) {
-                        return true;
-                    }
-                }
-            }
-        }
-        return false;
-    }
-
     /**
      * Generates a statistical summary for a specific account.
      * Includes counts of deposits, withdrawals, total transactions, and most recent date.
@@ -0,0 +1,66 @@
+package com.banking.transactions.util;
+
+import java.util.Arrays;
+
+public class AccountNumberValidator {
+
+    public static final long INVALID_ACCOUNT = -1L;
+
+    // Account format: ACC-XXXXX where X is alphanumeric (A-Z, a-z, 0-9)
+    private static final String PREFIX = "ACC-";
+    private static final int SUFFIX_LENGTH = 5;
+    private static final int LENGTH = PREFIX.length() + SUFFIX_LENGTH;
+    private static final int BITS_PER_SYMBOL = 6;
+
+    private static final String SYMBOLS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    // Lookup table: ASCII character -> symbol code, -1 for characters outside [A-Za-z0-9]
+    private static final byte[] SYMBOL_CODES = new byte[128];
+
+    static {
+        Arrays.fill(SYMBOL_CODES, (byte) -1);
+        for (int i = 0; i < SYMBOLS.length(); i++) {
+            SYMBOL_CODES[SYMBOLS.charAt(i)] = (byte) i;
+        }
+    }
+
+    public static boolean isValidAccountNumber(String accountNumber) {
+        return packAccountNumber(accountNumber) != INVALID_ACCOUNT;
+    }
+
+    // Encodes the account number as a long (6 bits per suffix character), or INVALID_ACCOUNT if malformed.
+    // Checks the fixed-width shape with table lookups, so no regex is compiled and nothing is allocated.
+    public static long packAccountNumber(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != LENGTH || !accountNumber.startsWith(PREFIX)) {
+            return INVALID_ACCOUNT;
+        }
+
+        long packed = 0;
+        for (int i = PREFIX.length(); i < LENGTH; i++) {
+            char c = accountNumber.charAt(i);
+            int code = c < SYMBOL_CODES.length ? SYMBOL_CODES[c] : -1;
+            if (code < 0) {
+                return INVALID_ACCOUNT;
+            }
+            packed = (packed << BITS_PER_SYMBOL) | code;
+        }
+        return packed;
+    }
+
+    public static String unpackAccountNumber(long packed) {
+        if (packed < 0 || packed >= 1L << (BITS_PER_SYMBOL * SUFFIX_LENGTH)) {
+            throw new IllegalArgumentException("Invalid packed account number: " + packed);
+        }
+        char[] chars = new char[LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = LENGTH - 1; i >= PREFIX.length(); i--) {
+            int code = (int) (packed & ((1 << BITS_PER_SYMBOL) - 1));
+            if (code >= SYMBOLS.length()) {
+                throw new IllegalArgumentException("Invalid packed account number: " + packed);
+            }
+            chars[i] = SYMBOLS.charAt(code);
+            packed >>>= BITS_PER_SYMBOL;
+        }
+        return new String(chars);
+    }
+}
@@ -31,4 +31,8 @@ public final class ValidationMessages {
     // Transaction validation messages
     public static final String TRANSACTION_DUPLICATE = "Duplicate transaction detected with same details";
     public static final String TRANSACTION_SAME_ACCOUNT = "From account and to account cannot be the same";
+    
+    // Pagination validation messages
+    public static final String LIMIT_RANGE = "Limit must be between 1 and 1000";
+    public static final String CURSOR_INVALID = "Invalid pagination cursor";
 }
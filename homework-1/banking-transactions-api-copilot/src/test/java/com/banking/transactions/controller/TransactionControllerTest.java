@@ -1,5 +1,6 @@
 package com.banking.transactions.controller;
 
+import com.banking.transactions.dto.TransactionPage;
 import com.banking.transactions.model.Transaction;
 import com.banking.transactions.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -9,14 +10,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -132,6 +136,51 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void testGetAllTransactions_WithLimit_ReturnsNextCursorHeader() throws Exception {
+        // Arrange
+        Transaction t1 = createTransactionWithId("id-1", "ACC-11111", "ACC-22222", "50.00", "USD");
+        
+        when(transactionService.getTransactionPage(null, null, null, null, 1, null))
+                .thenReturn(new TransactionPage(Arrays.asList(t1), "next-page"));
+
+        // Act & Assert
+        mockMvc.perform(get("/transactions")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next-page"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value("id-1"));
+    }
+
+    @Test
+    void testStreamTransactions_Ndjson() throws Exception {
+        // Arrange
+        Transaction t1 = createTransactionWithId("id-1", "ACC-11111", "ACC-22222", "50.00", "USD");
+        Transaction t2 = createTransactionWithId("id-2", "ACC-33333", "ACC-44444", "75.00", "EUR");
+        
+        when(transactionService.streamFilteredTransactions(null, null, null, null))
+                .thenReturn(Stream.of(t1, t2));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/transactions")
+                .accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertEquals(objectMapper.writeValueAsString(t1) + "\n" + objectMapper.writeValueAsString(t2) + "\n", body);
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("id-1", objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("EUR", objectMapper.readTree(lines[1]).get("currency").asText());
+    }
+
     // Helper methods
     private Transaction createTransaction(String fromAccount, String toAccount, String amount, String currency, Transaction.TransactionType type) {
         Transaction transaction = new Transaction();
@@ -0,0 +1,194 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DuplicateTransactionDetector.
+ * Tests the duplicate window, fingerprint matching, expiry, and concurrent submissions.
+ */
+class DuplicateTransactionDetectorTest {
+
+    private MutableClock clock;
+    private DuplicateTransactionDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-15T10:00:00Z"));
+        detector = new DuplicateTransactionDetector(Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void testIdenticalTransactionWithinWindow_IsDuplicate() {
+        // Arrange
+        detector.checkAndRecord(transaction("100.00"));
+        clock.advance(Duration.ofMinutes(4));
+
+        // Act & Assert
+        assertTrue(detector.checkAndRecord(transaction("100.00")));
+    }
+
+    @Test
+    void testIdenticalTransactionAfterWindow_IsAccepted() {
+        // Arrange
+        detector.checkAndRecord(transaction("100.00"));
+        clock.advance(Duration.ofMinutes(5));
+
+        // Act & Assert
+        assertFalse(detector.checkAndRecord(transaction("100.00")));
+    }
+
+    @Test
+    void testAmountScale_DoesNotAffectMatching() {
+        // Arrange
+        detector.checkAndRecord(transaction("100.5"));
+
+        // Act & Assert
+        assertTrue(detector.checkAndRecord(transaction("100.50")));
+    }
+
+    @Test
+    void testDifferentDetails_AreNotDuplicates() {
+        // Arrange
+        detector.checkAndRecord(transaction("100.00"));
+        Transaction otherCurrency = transaction("100.00");
+        otherCurrency.setCurrency("EUR");
+        Transaction otherType = transaction("100.00");
+        otherType.setType(Transaction.TransactionType.DEPOSIT);
+
+        // Act & Assert
+        assertFalse(detector.checkAndRecord(transaction("100.01")));
+        assertFalse(detector.checkAndRecord(otherCurrency));
+        assertFalse(detector.checkAndRecord(otherType));
+    }
+
+    @Test
+    void testExpiredFingerprints_AreEvicted() {
+        // Arrange
+        for (int i = 1; i <= 1000; i++) {
+            detector.checkAndRecord(transaction(i + ".00"));
+        }
+        assertEquals(1000, detector.size());
+
+        // Act
+        clock.advance(Duration.ofMinutes(10));
+        detector.checkAndRecord(transaction("0.01"));
+
+        // Assert
+        assertEquals(1, detector.size());
+    }
+
+    @Test
+    void testRestoredTransaction_BlocksForRestOfItsWindow() {
+        // Arrange: accepted two minutes before the detector was restored
+        long acceptedAt = clock.millis() - Duration.ofMinutes(2).toMillis();
+        detector.restore(transaction("100.00"), acceptedAt);
+        detector.restore(transaction("200.00"), acceptedAt - Duration.ofMinutes(5).toMillis());
+
+        // Act & Assert
+        assertTrue(detector.checkAndRecord(transaction("100.00")));
+        assertFalse(detector.checkAndRecord(transaction("200.00")));
+        clock.advance(Duration.ofMinutes(3));
+        assertFalse(detector.checkAndRecord(transaction("100.00")));
+    }
+
+    @Test
+    void testForgottenTransaction_IsAcceptedAgain() {
+        // Arrange
+        detector.checkAndRecord(transaction("100.00"));
+
+        // Act
+        detector.forget(transaction("100.00"));
+
+        // Assert
+        assertFalse(detector.checkAndRecord(transaction("100.00")));
+        assertTrue(detector.checkAndRecord(transaction("100.00")));
+    }
+
+    @Test
+    void testConcurrentIdenticalSubmissions_ExactlyOneAccepted() throws Exception {
+        // Arrange
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return detector.checkAndRecord(transaction("250.00"));
+            }));
+        }
+        start.countDown();
+
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (!result.get(10, TimeUnit.SECONDS)) {
+                accepted++;
+            }
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, accepted);
+    }
+
+    private Transaction transaction(String amount) {
+        Transaction transaction = new Transaction();
+        transaction.setFromAccount("ACC-12345");
+        transaction.setToAccount("ACC-67890");
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setCurrency("USD");
+        transaction.setType(Transaction.TransactionType.TRANSFER);
+        return transaction;
+    }
+
+    /**
+     * Clock whose current instant is moved explicitly by the test.
+     */
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
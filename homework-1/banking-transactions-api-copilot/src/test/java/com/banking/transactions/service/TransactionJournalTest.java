@@ -0,0 +1,211 @@
+package com.banking.transactions.service;
+
+import com.banking.transactions.exception.ValidationException;
+import com.banking.transactions.model.Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TransactionJournal.
+ * Tests recovery after restart, region rollover, torn records, and group commit.
+ */
+class TransactionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRestartedService_RecoversTransactions() {
+        // Arrange
+        Path journal = directory.resolve("transactions.journal");
+        TransactionService service = new TransactionService(journal, FsyncPolicy.ALWAYS);
+        Transaction created = service.createTransaction(transaction("ACC-12345", "ACC-67890", "100.50"));
+        service.createTransaction(transaction("ACC-67890", "ACC-11111", "25.00"));
+        service.close();
+
+        // Act
+        TransactionService restarted = new TransactionService(journal, FsyncPolicy.ALWAYS);
+
+        // Assert
+        assertEquals(2, restarted.getAllTransactions().size());
+        Transaction recovered = restarted.getTransactionById(created.getId());
+        assertNotNull(recovered);
+        assertEquals(created.getFromAccount(), recovered.getFromAccount());
+        assertEquals(created.getToAccount(), recovered.getToAccount());
+        assertEquals(created.getAmount(), recovered.getAmount());
+        assertEquals(created.getCurrency(), recovered.getCurrency());
+        assertEquals(created.getType(), recovered.getType());
+        assertEquals(created.getTimestamp(), recovered.getTimestamp());
+        assertEquals(created.getStatus(), recovered.getStatus());
+        restarted.close();
+    }
+
+    @Test
+    void testRestartedService_StillRejectsRecentDuplicates() {
+        // Arrange
+        Path journal = directory.resolve("transactions.journal");
+        TransactionService service = new TransactionService(journal, FsyncPolicy.ALWAYS);
+        service.createTransaction(transaction("ACC-12345", "ACC-67890", "100.50"));
+        service.close();
+        TransactionService restarted = new TransactionService(journal, FsyncPolicy.ALWAYS);
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+            () -> restarted.createTransaction(transaction("ACC-12345", "ACC-67890", "100.50")));
+        assertNotNull(restarted.createTransaction(transaction("ACC-12345", "ACC-67890", "100.51")));
+        restarted.close();
+    }
+
+    @Test
+    void testFailedAppend_DoesNotBlockRetry() {
+        // Arrange: appends to a closed journal fail
+        TransactionService service = new TransactionService(directory.resolve("transactions.journal"),
+            FsyncPolicy.NEVER);
+        service.close();
+
+        // Act & Assert: the retry fails for the same reason, not as a duplicate of the first attempt
+        assertThrows(IllegalStateException.class,
+            () -> service.createTransaction(transaction("ACC-12345", "ACC-67890", "100.50")));
+        assertThrows(IllegalStateException.class,
+            () -> service.createTransaction(transaction("ACC-12345", "ACC-67890", "100.50")));
+        assertTrue(service.getAllTransactions().isEmpty());
+    }
+
+    @Test
+    void testReplay_AcrossManyRegions() {
+        // Arrange
+        Path path = directory.resolve("transactions.journal");
+        List<String> appended = new ArrayList<>();
+        TransactionJournal journal = new TransactionJournal(path, FsyncPolicy.NEVER, 512, t -> { });
+        for (int i = 0; i < 100; i++) {
+            Transaction transaction = transaction("ACC-12345", "ACC-67890", "10.00");
+            transaction.setId(UUID.randomUUID().toString());
+            appended.add(transaction.getId());
+            journal.append(transaction);
+        }
+        journal.close();
+
+        // Act
+        List<String> replayed = new ArrayList<>();
+        new TransactionJournal(path, FsyncPolicy.NEVER, 512, t -> replayed.add(t.getId())).close();
+
+        // Assert
+        assertEquals(appended, replayed);
+    }
+
+    @Test
+    void testReplay_TornLastRecordIsDropped() throws Exception {
+        // Arrange
+        Path path = directory.resolve("transactions.journal");
+        TransactionJournal journal = TransactionJournal.open(path, FsyncPolicy.NEVER, t -> { });
+        journal.append(withId("txn-1"));
+        journal.append(withId("txn-2"));
+        journal.close();
+
+        // Flip a payload byte of the second record: file header (8) + first record (8 + length) + record header (8)
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(8);
+            long secondRecord = 8 + 8 + file.readInt();
+            file.seek(secondRecord + 8 + 3);
+            int value = file.read();
+            file.seek(secondRecord + 8 + 3);
+            file.write(value ^ 0xFF);
+        }
+
+        // Act
+        List<String> replayed = new ArrayList<>();
+        journal = TransactionJournal.open(path, FsyncPolicy.NEVER, t -> replayed.add(t.getId()));
+        journal.append(withId("txn-3"));
+        journal.close();
+
+        List<String> replayedAgain = new ArrayList<>();
+        TransactionJournal.open(path, FsyncPolicy.NEVER, t -> replayedAgain.add(t.getId())).close();
+
+        // Assert
+        assertEquals(List.of("txn-1"), replayed);
+        assertEquals(List.of("txn-1", "txn-3"), replayedAgain);
+    }
+
+    @Test
+    void testConcurrentAppendsWithGroupCommit_AllRecovered() throws Exception {
+        // Arrange
+        Path path = directory.resolve("transactions.journal");
+        TransactionJournal journal = new TransactionJournal(path, FsyncPolicy.ALWAYS, 4096, t -> { });
+        int threads = 8;
+        int appendsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < appendsPerThread; i++) {
+                    journal.append(withId("txn-" + thread + "-" + i));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        journal.close();
+
+        List<String> replayed = new CopyOnWriteArrayList<>();
+        new TransactionJournal(path, FsyncPolicy.NEVER, 4096, t -> replayed.add(t.getId())).close();
+
+        // Assert
+        assertEquals(threads * appendsPerThread, replayed.size());
+        assertEquals(replayed.size(), replayed.stream().distinct().count());
+    }
+
+    @Test
+    void testOpen_ForeignFile() throws Exception {
+        // Arrange
+        Path path = directory.resolve("not-a-journal.txt");
+        Files.writeString(path, "hello world");
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> TransactionJournal.open(path, FsyncPolicy.NEVER, t -> { }));
+        assertTrue(exception.getMessage().contains("Not a transaction journal"));
+    }
+
+    private Transaction transaction(String fromAccount, String toAccount, String amount) {
+        Transaction transaction = new Transaction();
+        transaction.setFromAccount(fromAccount);
+        transaction.setToAccount(toAccount);
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setCurrency("USD");
+        transaction.setType(Transaction.TransactionType.TRANSFER);
+        return transaction;
+    }
+
+    private Transaction withId(String id) {
+        Transaction transaction = transaction("ACC-12345", "ACC-67890", "10.00");
+        transaction.setId(id);
+        transaction.setTimestamp(LocalDateTime.of(2024, 1, 15, 10, 30));
+        return transaction;
+    }
+}
@@ -1,6 +1,7 @@
 package com.banking.transactions.service;
 
 import com.banking.transactions.dto.AccountSummary;
+import com.banking.transactions.dto.TransactionPage;
 import com.banking.transactions.exception.ValidationException;
 import com.banking.transactions.model.Transaction;
 import com.banking.transactions.util.ValidationMessages;
@@ -8,7 +9,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -168,6 +172,23 @@ class TransactionServiceTest {
                           d.getMessage().equals(ValidationMessages.TRANSACTION_SAME_ACCOUNT)));
     }
 
+    @Test
+    void testCreateTransaction_Duplicate() {
+        // Arrange
+        transactionService.createTransaction(createValidTransaction("ACC-12345", "ACC-67890", "100.50", "USD"));
+        Transaction duplicate = createValidTransaction("ACC-12345", "ACC-67890", "100.5", "USD");
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            transactionService.createTransaction(duplicate);
+        });
+
+        assertTrue(exception.getErrorResponse().getDetails().stream()
+            .anyMatch(d -> d.getField().equals("transaction") &&
+                          d.getMessage().equals(ValidationMessages.TRANSACTION_DUPLICATE)));
+        assertEquals(1, transactionService.getAllTransactions().size());
+    }
+
     @Test
     void testGetAllTransactions() {
         // Arrange
@@ -247,6 +268,53 @@ class TransactionServiceTest {
         assertEquals(Transaction.TransactionType.DEPOSIT, filtered.get(0).getType());
     }
 
+    @Test
+    void testGetTransactionPage_WalksAllPagesWithoutDuplicates() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            transactionService.createTransaction(createValidTransaction("ACC-11111", "ACC-22222", (i + 1) + ".00", "USD"));
+        }
+        transactionService.createTransaction(createValidTransaction("ACC-33333", "ACC-44444", "9.00", "USD"));
+
+        // Act
+        TransactionPage first = transactionService.getTransactionPage("ACC-11111", null, null, null, 2, null);
+        TransactionPage second = transactionService.getTransactionPage("ACC-11111", null, null, null, 2, first.getNextCursor());
+        TransactionPage third = transactionService.getTransactionPage("ACC-11111", null, null, null, 2, second.getNextCursor());
+
+        // Assert
+        assertEquals(2, first.getTransactions().size());
+        assertEquals(2, second.getTransactions().size());
+        assertEquals(1, third.getTransactions().size());
+        assertNotNull(first.getNextCursor());
+        assertNotNull(second.getNextCursor());
+        assertNull(third.getNextCursor());
+
+        Set<String> ids = new HashSet<>();
+        Stream.of(first, second, third).forEach(page -> page.getTransactions().forEach(t -> ids.add(t.getId())));
+        assertEquals(5, ids.size());
+    }
+
+    @Test
+    void testGetTransactionPage_InvalidLimit() {
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class, () ->
+            transactionService.getTransactionPage(null, null, null, null, 0, null));
+
+        assertTrue(exception.getErrorResponse().getDetails().stream()
+            .anyMatch(d -> d.getField().equals("limit") &&
+                          d.getMessage().equals(ValidationMessages.LIMIT_RANGE)));
+    }
+
+    @Test
+    void testGetTransactionPage_InvalidCursor() {
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class, () ->
+            transactionService.getTransactionPage(null, null, null, null, 10, "not base64!"));
+
+        assertTrue(exception.getErrorResponse().getDetails().stream()
+            .anyMatch(d -> d.getField().equals("cursor")));
+    }
+
     @Test
     void testGetAccountSummary() {
         // Arrange
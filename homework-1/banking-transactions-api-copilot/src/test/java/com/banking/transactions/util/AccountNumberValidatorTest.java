@@ -0,0 +1,53 @@
+package com.banking.transactions.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AccountNumberValidator.
+ * Tests account number format validation and packed encoding.
+ */
+class AccountNumberValidatorTest {
+
+    @Test
+    void testValidAccountNumbers() {
+        assertTrue(AccountNumberValidator.isValidAccountNumber("ACC-12345"));
+        assertTrue(AccountNumberValidator.isValidAccountNumber("ACC-ABCDE"));
+        assertTrue(AccountNumberValidator.isValidAccountNumber("ACC-AbC12"));
+        assertTrue(AccountNumberValidator.isValidAccountNumber("ACC-zzzzz"));
+    }
+
+    @Test
+    void testInvalidAccountNumbers() {
+        assertFalse(AccountNumberValidator.isValidAccountNumber(null));
+        assertFalse(AccountNumberValidator.isValidAccountNumber(""));
+        assertFalse(AccountNumberValidator.isValidAccountNumber("acc-12345"));
+        assertFalse(AccountNumberValidator.isValidAccountNumber("ACC-1234"));
+        assertFalse(AccountNumberValidator.isValidAccountNumber("ACC-123456"));
+        assertFalse(AccountNumberValidator.isValidAccountNumber("ACC-12@45"));
+        assertFalse(AccountNumberValidator.isValidAccountNumber("ACC-12 45"));
+        assertFalse(AccountNumberValidator.isValidAccountNumber("ACC12345X"));
+        assertFalse(AccountNumberValidator.isValidAccountNumber("ACC-1234é"));
+    }
+
+    @Test
+    void testPackAndUnpack_RoundTrip() {
+        // Arrange
+        long upper = AccountNumberValidator.packAccountNumber("ACC-ABCDE");
+        long lower = AccountNumberValidator.packAccountNumber("ACC-abcde");
+
+        // Assert
+        assertNotEquals(upper, lower);
+        assertEquals("ACC-ABCDE", AccountNumberValidator.unpackAccountNumber(upper));
+        assertEquals("ACC-abcde", AccountNumberValidator.unpackAccountNumber(lower));
+        assertEquals(AccountNumberValidator.INVALID_ACCOUNT, AccountNumberValidator.packAccountNumber("BAD-12345"));
+    }
+
+    @Test
+    void testUnpack_OutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+            () -> AccountNumberValidator.unpackAccountNumber(AccountNumberValidator.INVALID_ACCOUNT));
+        assertThrows(IllegalArgumentException.class, () -> AccountNumberValidator.unpackAccountNumber(63));
+    }
+}
@@ -0,0 +1,82 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.ClassificationResult;
+import com.support.ticket.model.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Cost per ticket of ClassificationService.classify, with and without reading the reasoning text, and of a
+// repeated ticket served from the result cache.
+// Run with -prof gc to see the bytes allocated per classification (gc.alloc.rate.norm).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassificationBenchmark {
+
+    private static final String[] FILLER = {
+            "the", "app", "when", "i", "open", "my", "dashboard", "page", "it", "shows", "a", "blank", "screen",
+            "and", "then", "after", "some", "seconds", "nothing", "happens", "we", "tried", "again", "today",
+            "customer", "reported", "issue", "with", "their", "account", "settings", "on", "mobile", "device"
+    };
+
+    @Param({"200", "2000"})
+    private int descriptionLength;
+
+    private ClassificationService classificationService;
+    private ClassificationService cachingClassificationService;
+    private Ticket ticket;
+
+    @Setup
+    public void setUp() {
+        classificationService = new ClassificationService(null);
+        cachingClassificationService = new ClassificationService(null, 1000, Duration.ofMinutes(10));
+        List<String> keywords = ClassificationService.KEYWORDS;
+
+        Random random = new Random(42);
+        StringBuilder description = new StringBuilder(descriptionLength + 32);
+        while (description.length() < descriptionLength) {
+            // Roughly one word in twenty is a classification keyword
+            String word = random.nextInt(20) == 0
+                    ? keywords.get(random.nextInt(keywords.size()))
+                    : FILLER[random.nextInt(FILLER.length)];
+            description.append(word).append(' ');
+        }
+        description.setLength(descriptionLength);
+
+        ticket = new Ticket();
+        ticket.setSubject("Problem with my Account");
+        ticket.setDescription(description.toString());
+    }
+
+    @Benchmark
+    public ClassificationResult classify() {
+        return classificationService.classify(ticket);
+    }
+
+    @Benchmark
+    public ClassificationResult classifyCached() {
+        return cachingClassificationService.classify(ticket);
+    }
+
+    @Benchmark
+    public String classifyWithReasoning() {
+        return classificationService.classify(ticket).getReasoning();
+    }
+}
@@ -0,0 +1,84 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.ClassificationResult;
+import com.support.ticket.model.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Keyword lookup over a 2000-character ticket description: one String.contains scan per keyword (the
+// approach ClassificationService used before) against a single pass of the compiled KeywordAutomaton.
+// classify measures the whole classification with the automaton in place.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeywordMatchingBenchmark {
+
+    private static final int DESCRIPTION_LENGTH = 2000;
+    private static final String[] FILLER = {
+            "the", "app", "when", "i", "open", "my", "dashboard", "page", "it", "shows", "a", "blank", "screen",
+            "and", "then", "after", "some", "seconds", "nothing", "happens", "we", "tried", "again", "today",
+            "customer", "reported", "issue", "with", "their", "account", "settings", "on", "mobile", "device"
+    };
+
+    private final List<String> keywords = ClassificationService.KEYWORDS;
+    private KeywordAutomaton automaton;
+    private ClassificationService classificationService;
+    private String text;
+    private Ticket ticket;
+
+    @Setup
+    public void setUp() {
+        automaton = new KeywordAutomaton(keywords);
+        classificationService = new ClassificationService(null);
+
+        Random random = new Random(42);
+        StringBuilder description = new StringBuilder(DESCRIPTION_LENGTH + 32);
+        while (description.length() < DESCRIPTION_LENGTH) {
+            // Roughly one word in twenty is a classification keyword
+            String word = random.nextInt(20) == 0
+                    ? keywords.get(random.nextInt(keywords.size()))
+                    : FILLER[random.nextInt(FILLER.length)];
+            description.append(word).append(' ');
+        }
+        description.setLength(DESCRIPTION_LENGTH);
+
+        ticket = new Ticket();
+        ticket.setSubject("Problem with my account");
+        ticket.setDescription(description.toString());
+        text = (ticket.getSubject() + " " + ticket.getDescription()).toLowerCase();
+    }
+
+    @Benchmark
+    public boolean[] containsPerKeyword() {
+        boolean[] found = new boolean[keywords.size()];
+        for (int i = 0; i < found.length; i++) {
+            found[i] = text.contains(keywords.get(i).toLowerCase());
+        }
+        return found;
+    }
+
+    @Benchmark
+    public boolean[] automaton() {
+        return automaton.findAll(text);
+    }
+
+    @Benchmark
+    public ClassificationResult classify() {
+        return classificationService.classify(ticket);
+    }
+}
@@ -0,0 +1,101 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Latency of a first-page TicketSearchIndex query over a synthetic corpus whose words follow a Zipf distribution
+// over a 5000-word vocabulary. The word ranks pick how many tickets a term matches: rank 1 is in nearly every
+// ticket, rank 50 in about one in twenty, rank 2000 in a few hundred per million.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class TicketSearchBenchmark {
+
+    private static final int VOCABULARY = 5000;
+    private static final int DESCRIPTION_WORDS = 30;
+    private static final int SUBJECT_WORDS = 5;
+
+    @Param({"100000", "1000000"})
+    private int tickets;
+
+    private TicketSearchIndex index;
+    private double[] cumulative;
+
+    @Setup
+    public void setUp() {
+        cumulative = new double[VOCABULARY];
+        double sum = 0;
+        for (int rank = 1; rank <= VOCABULARY; rank++) {
+            sum += 1.0 / rank;
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < VOCABULARY; i++) {
+            cumulative[i] /= sum;
+        }
+
+        index = new TicketSearchIndex(null);
+        Random random = new Random(42);
+        List<Ticket> batch = new ArrayList<>(10000);
+        for (int i = 0; i < tickets; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setId(UUID.randomUUID());
+            ticket.setSubject(words(random, SUBJECT_WORDS));
+            ticket.setDescription(words(random, DESCRIPTION_WORDS));
+            batch.add(ticket);
+            if (batch.size() == 10000) {
+                index.index(batch);
+                batch.clear();
+            }
+        }
+        index.index(batch);
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            text.append('w').append(rank < 0 ? -rank - 1 : rank).append(' ');
+        }
+        return text.toString();
+    }
+
+    @Benchmark
+    public TicketSearchIndex.Result rareTerm() {
+        return index.search("w1999", 0, 20);
+    }
+
+    @Benchmark
+    public TicketSearchIndex.Result commonTerm() {
+        return index.search("w49", 0, 20);
+    }
+
+    @Benchmark
+    public TicketSearchIndex.Result twoTerms() {
+        return index.search("w49 w1999", 0, 20);
+    }
+
+    @Benchmark
+    public TicketSearchIndex.Result mostFrequentTerm() {
+        return index.search("w0", 0, 20);
+    }
+}
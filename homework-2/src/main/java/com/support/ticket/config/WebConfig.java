@@ -1,6 +1,7 @@
 package com.support.ticket.config;
 
 import com.support.ticket.model.Category;
+import com.support.ticket.model.ExportFormat;
 import com.support.ticket.model.Priority;
 import com.support.ticket.model.Status;
 import org.springframework.context.annotation.Configuration;
@@ -31,5 +32,11 @@ public class WebConfig implements WebMvcConfigurer {
                 return Status.fromValue(source);
             }
         });
+        registry.addConverter(new Converter<String, ExportFormat>() {
+            @Override
+            public ExportFormat convert(String source) {
+                return ExportFormat.fromValue(source);
+            }
+        });
     }
 }
@@ -1,19 +1,26 @@
 package com.support.ticket.controller;
 
 import com.support.ticket.dto.*;
-import com.support.ticket.model.Category;
-import com.support.ticket.model.Priority;
-import com.support.ticket.model.Status;
+import com.support.ticket.model.ExportFormat;
 import com.support.ticket.model.Ticket;
+import com.support.ticket.service.BatchClassificationService;
 import com.support.ticket.service.ClassificationService;
+import com.support.ticket.service.ImportJobService;
+import com.support.ticket.service.TicketExportService;
 import com.support.ticket.service.TicketImportService;
 import com.support.ticket.service.TicketService;
+import com.support.ticket.service.TicketStatsService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,42 +31,93 @@ public class TicketController {
     private final TicketService ticketService;
     private final TicketImportService importService;
     private final ClassificationService classificationService;
+    private final ImportJobService importJobService;
+    private final BatchClassificationService batchClassificationService;
+    private final TicketExportService exportService;
+    private final TicketStatsService statsService;
 
     public TicketController(TicketService ticketService, TicketImportService importService,
-                            ClassificationService classificationService) {
+                            ClassificationService classificationService, ImportJobService importJobService,
+                            BatchClassificationService batchClassificationService,
+                            TicketExportService exportService, TicketStatsService statsService) {
         this.ticketService = ticketService;
         this.importService = importService;
         this.classificationService = classificationService;
+        this.importJobService = importJobService;
+        this.batchClassificationService = batchClassificationService;
+        this.exportService = exportService;
+        this.statsService = statsService;
     }
 
     @PostMapping
     public ResponseEntity<TicketResponse> createTicket(
             @Valid @RequestBody CreateTicketRequest request,
             @RequestParam(value = "autoClassify", required = false, defaultValue = "false") boolean autoClassify) {
-        TicketResponse response = ticketService.createTicket(request);
-        if (autoClassify) {
-            Ticket ticket = ticketService.getTicketEntityById(response.getId());
-            ClassificationResult result = classificationService.classifyAndUpdate(ticket);
-            response = ticketService.getTicketById(response.getId());
-        }
+        TicketResponse response = ticketService.createTicket(request, autoClassify);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @PostMapping("/import")
-    public ResponseEntity<BulkImportResponse> importTickets(@RequestParam("file") MultipartFile file) {
-        BulkImportResponse response = importService.importTickets(file);
+    public ResponseEntity<BulkImportResponse> importTickets(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "autoClassify", required = false, defaultValue = "false") boolean autoClassify) {
+        BulkImportResponse response = importService.importTickets(file, autoClassify);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/import", params = "async=true")
+    public ResponseEntity<ImportJobResponse> startImportJob(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "autoClassify", required = false, defaultValue = "false") boolean autoClassify) {
+        ImportJobResponse response = importJobService.submit(file, autoClassify);
+        return ResponseEntity.accepted()
+                .location(URI.create("/tickets/import/" + response.getJobId()))
+                .body(response);
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(importJobService.getJob(jobId));
+    }
+
+    @DeleteMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobResponse> cancelImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(importJobService.cancel(jobId));
+    }
+
     @GetMapping
-    public ResponseEntity<List<TicketResponse>> getAllTickets(
-            @RequestParam(required = false) Category category,
-            @RequestParam(required = false) Priority priority,
-            @RequestParam(required = false) Status status) {
-        List<TicketResponse> tickets = ticketService.getAllTickets(category, priority, status);
+    public ResponseEntity<List<TicketResponse>> getAllTickets(@Valid TicketFilter filter) {
+        List<TicketResponse> tickets = ticketService.getAllTickets(filter);
         return ResponseEntity.ok(tickets);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<TicketPageResponse> getTicketPage(
+            @Valid TicketFilter filter,
+            @RequestParam int limit,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(ticketService.getTicketPage(filter, limit, after));
+    }
+
+    // Written straight to the response as rows are read, so the size of the export does not matter
+    @GetMapping("/export")
+    public void exportTickets(@Valid TicketFilter filter, @RequestParam ExportFormat format,
+                              HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("tickets." + format.getValue()).build().toString());
+        exportService.export(filter, format, response.getOutputStream());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TicketSearchResponse> searchTickets(
+            @RequestParam("q") String query,
+            @RequestParam(required = false, defaultValue = "0") int offset,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ticketService.searchTickets(query, offset, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TicketResponse> getTicketById(@PathVariable UUID id) {
         TicketResponse response = ticketService.getTicketById(id);
@@ -80,6 +138,23 @@ public class TicketController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<TicketStatsResponse> getStats() {
+        return ResponseEntity.ok(statsService.getStats());
+    }
+
+    @GetMapping("/classification-cache")
+    public ResponseEntity<ClassificationCacheStats> getClassificationCacheStats() {
+        return ResponseEntity.ok(classificationService.getCacheStats());
+    }
+
+    @PostMapping("/auto-classify")
+    public ResponseEntity<BatchClassificationResponse> autoClassifyBatch(
+            @Valid @RequestBody BatchClassificationRequest request) {
+        BatchClassificationResponse response = batchClassificationService.classify(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/{id}/auto-classify")
     public ResponseEntity<ClassificationResult> autoClassify(@PathVariable UUID id) {
         Ticket ticket = ticketService.getTicketEntityById(id);
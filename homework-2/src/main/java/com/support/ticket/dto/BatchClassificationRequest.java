@@ -0,0 +1,30 @@
+package com.support.ticket.dto;
+
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Status;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+// Selects the tickets to classify: either an explicit list of ids, or a filter. An empty filter selects every ticket.
+public class BatchClassificationRequest {
+
+    @Size(max = 10000, message = "At most 10000 ids can be classified per request")
+    private List<UUID> ids;
+
+    private boolean uncategorized;
+    private Category category;
+    private Status status;
+
+    public List<UUID> getIds() { return ids; }
+    public void setIds(List<UUID> ids) { this.ids = ids; }
+
+    public boolean isUncategorized() { return uncategorized; }
+    public void setUncategorized(boolean uncategorized) { this.uncategorized = uncategorized; }
+
+    public Category getCategory() { return category; }
+    public void setCategory(Category category) { this.category = category; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+}
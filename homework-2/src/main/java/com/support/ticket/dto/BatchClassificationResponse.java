@@ -0,0 +1,35 @@
+package com.support.ticket.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class BatchClassificationResponse {
+
+    private int processed;
+    private int changed;
+    private Map<String, Integer> categories = new LinkedHashMap<>();
+    private Map<String, Integer> priorities = new LinkedHashMap<>();
+    private List<UUID> notFound = new ArrayList<>();
+    private long durationMs;
+
+    public int getProcessed() { return processed; }
+    public void setProcessed(int processed) { this.processed = processed; }
+
+    public int getChanged() { return changed; }
+    public void setChanged(int changed) { this.changed = changed; }
+
+    public Map<String, Integer> getCategories() { return categories; }
+    public void setCategories(Map<String, Integer> categories) { this.categories = categories; }
+
+    public Map<String, Integer> getPriorities() { return priorities; }
+    public void setPriorities(Map<String, Integer> priorities) { this.priorities = priorities; }
+
+    public List<UUID> getNotFound() { return notFound; }
+    public void setNotFound(List<UUID> notFound) { this.notFound = notFound; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+}
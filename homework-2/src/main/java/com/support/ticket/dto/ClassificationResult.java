@@ -3,16 +3,22 @@ package com.support.ticket.dto;
 import com.support.ticket.model.Category;
 import com.support.ticket.model.Priority;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class ClassificationResult {
 
     private Category category;
     private Priority priority;
     private double confidence;
-    private String reasoning;
+    // Volatile because cached results are shared: a reader sees either null or the complete text
+    private volatile String reasoning;
+    // Builds reasoning on first read, so callers that only need the category and priority never pay for the text
+    private final Supplier<String> reasoningSupplier;
     private List<String> keywordsFound;
 
-    public ClassificationResult() {}
+    public ClassificationResult() {
+        this.reasoningSupplier = null;
+    }
 
     public ClassificationResult(Category category, Priority priority, double confidence,
                                 String reasoning, List<String> keywordsFound) {
@@ -20,6 +26,16 @@ public class ClassificationResult {
         this.priority = priority;
         this.confidence = confidence;
         this.reasoning = reasoning;
+        this.reasoningSupplier = null;
+        this.keywordsFound = keywordsFound;
+    }
+
+    public ClassificationResult(Category category, Priority priority, double confidence,
+                                Supplier<String> reasoningSupplier, List<String> keywordsFound) {
+        this.category = category;
+        this.priority = priority;
+        this.confidence = confidence;
+        this.reasoningSupplier = reasoningSupplier;
         this.keywordsFound = keywordsFound;
     }
 
@@ -32,7 +48,15 @@ public class ClassificationResult {
     public double getConfidence() { return confidence; }
     public void setConfidence(double confidence) { this.confidence = confidence; }
 
-    public String getReasoning() { return reasoning; }
+    public String getReasoning() {
+        // Threads that race on the first read each build the same text; only the finished text is published
+        String text = reasoning;
+        if (text == null && reasoningSupplier != null) {
+            text = reasoningSupplier.get();
+            reasoning = text;
+        }
+        return text;
+    }
     public void setReasoning(String reasoning) { this.reasoning = reasoning; }
 
     public List<String> getKeywordsFound() { return keywordsFound; }
@@ -0,0 +1,61 @@
+package com.support.ticket.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.support.ticket.model.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobResponse {
+
+    private UUID jobId;
+    private ImportJobStatus status;
+    private String filename;
+    private int rowsProcessed;
+    private int successful;
+    private int failed;
+    private double rowsPerSecond;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+    private List<BulkImportResponse.ImportError> errors;
+
+    public UUID getJobId() { return jobId; }
+    public void setJobId(UUID jobId) { this.jobId = jobId; }
+
+    public ImportJobStatus getStatus() { return status; }
+    public void setStatus(ImportJobStatus status) { this.status = status; }
+
+    public String getFilename() { return filename; }
+    public void setFilename(String filename) { this.filename = filename; }
+
+    public int getRowsProcessed() { return rowsProcessed; }
+    public void setRowsProcessed(int rowsProcessed) { this.rowsProcessed = rowsProcessed; }
+
+    public int getSuccessful() { return successful; }
+    public void setSuccessful(int successful) { this.successful = successful; }
+
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public List<BulkImportResponse.ImportError> getErrors() { return errors; }
+    public void setErrors(List<BulkImportResponse.ImportError> errors) { this.errors = errors; }
+}
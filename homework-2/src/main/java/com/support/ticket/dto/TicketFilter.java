@@ -0,0 +1,59 @@
+package com.support.ticket.dto;
+
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+import jakarta.validation.constraints.AssertTrue;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDateTime;
+
+// Criteria for listing tickets; every criterion left null matches all tickets.
+// createdFrom is inclusive and createdTo exclusive.
+public class TicketFilter {
+
+    private Category category;
+    private Priority priority;
+    private Status status;
+    private String assignedTo;
+    private String customerId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    public TicketFilter() {}
+
+    public TicketFilter(Category category, Priority priority, Status status) {
+        this.category = category;
+        this.priority = priority;
+        this.status = status;
+    }
+
+    @AssertTrue(message = "createdFrom must not be after createdTo")
+    public boolean isCreatedRangeValid() {
+        return createdFrom == null || createdTo == null || !createdFrom.isAfter(createdTo);
+    }
+
+    public Category getCategory() { return category; }
+    public void setCategory(Category category) { this.category = category; }
+
+    public Priority getPriority() { return priority; }
+    public void setPriority(Priority priority) { this.priority = priority; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public String getAssignedTo() { return assignedTo; }
+    public void setAssignedTo(String assignedTo) { this.assignedTo = assignedTo; }
+
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public LocalDateTime getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(LocalDateTime createdFrom) { this.createdFrom = createdFrom; }
+
+    public LocalDateTime getCreatedTo() { return createdTo; }
+    public void setCreatedTo(LocalDateTime createdTo) { this.createdTo = createdTo; }
+}
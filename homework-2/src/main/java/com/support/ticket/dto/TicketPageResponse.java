@@ -0,0 +1,23 @@
+package com.support.ticket.dto;
+
+import java.util.List;
+
+public class TicketPageResponse {
+
+    private List<TicketSummaryResponse> items;
+    // Pass as "after" to get the next page; null on the last page
+    private String nextCursor;
+
+    public TicketPageResponse() {}
+
+    public TicketPageResponse(List<TicketSummaryResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TicketSummaryResponse> getItems() { return items; }
+    public void setItems(List<TicketSummaryResponse> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
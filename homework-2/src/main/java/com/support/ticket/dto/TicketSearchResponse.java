@@ -0,0 +1,56 @@
+package com.support.ticket.dto;
+
+import java.util.List;
+
+public class TicketSearchResponse {
+
+    private String query;
+    // Number of matching tickets, of which items is the requested slice in rank order
+    private int total;
+    private int offset;
+    private int limit;
+    private List<Hit> items;
+
+    public TicketSearchResponse() {}
+
+    public TicketSearchResponse(String query, int total, int offset, int limit, List<Hit> items) {
+        this.query = query;
+        this.total = total;
+        this.offset = offset;
+        this.limit = limit;
+        this.items = items;
+    }
+
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public int getOffset() { return offset; }
+    public void setOffset(int offset) { this.offset = offset; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+
+    public List<Hit> getItems() { return items; }
+    public void setItems(List<Hit> items) { this.items = items; }
+
+    public static class Hit {
+        private double score;
+        private TicketSummaryResponse ticket;
+
+        public Hit() {}
+
+        public Hit(double score, TicketSummaryResponse ticket) {
+            this.score = score;
+            this.ticket = ticket;
+        }
+
+        public double getScore() { return score; }
+        public void setScore(double score) { this.score = score; }
+
+        public TicketSummaryResponse getTicket() { return ticket; }
+        public void setTicket(TicketSummaryResponse ticket) { this.ticket = ticket; }
+    }
+}
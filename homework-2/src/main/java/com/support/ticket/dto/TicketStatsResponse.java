@@ -0,0 +1,52 @@
+package com.support.ticket.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class TicketStatsResponse {
+
+    private long total;
+    private Map<String, Long> byCategory;
+    private long uncategorized;
+    private Map<String, Long> byPriority;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byAssignee;
+    private long unassigned;
+    private long resolved;
+    private Double meanTimeToResolveSeconds;
+    private Double averageClassificationConfidence;
+    private LocalDateTime generatedAt;
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public Map<String, Long> getByCategory() { return byCategory; }
+    public void setByCategory(Map<String, Long> byCategory) { this.byCategory = byCategory; }
+
+    public long getUncategorized() { return uncategorized; }
+    public void setUncategorized(long uncategorized) { this.uncategorized = uncategorized; }
+
+    public Map<String, Long> getByPriority() { return byPriority; }
+    public void setByPriority(Map<String, Long> byPriority) { this.byPriority = byPriority; }
+
+    public Map<String, Long> getByStatus() { return byStatus; }
+    public void setByStatus(Map<String, Long> byStatus) { this.byStatus = byStatus; }
+
+    public Map<String, Long> getByAssignee() { return byAssignee; }
+    public void setByAssignee(Map<String, Long> byAssignee) { this.byAssignee = byAssignee; }
+
+    public long getUnassigned() { return unassigned; }
+    public void setUnassigned(long unassigned) { this.unassigned = unassigned; }
+
+    public long getResolved() { return resolved; }
+    public void setResolved(long resolved) { this.resolved = resolved; }
+
+    public Double getMeanTimeToResolveSeconds() { return meanTimeToResolveSeconds; }
+    public void setMeanTimeToResolveSeconds(Double meanTimeToResolveSeconds) { this.meanTimeToResolveSeconds = meanTimeToResolveSeconds; }
+
+    public Double getAverageClassificationConfidence() { return averageClassificationConfidence; }
+    public void setAverageClassificationConfidence(Double averageClassificationConfidence) { this.averageClassificationConfidence = averageClassificationConfidence; }
+
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+}
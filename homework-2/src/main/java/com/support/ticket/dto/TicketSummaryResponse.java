@@ -0,0 +1,83 @@
+package com.support.ticket.dto;
+
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+import com.support.ticket.repository.TicketSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class TicketSummaryResponse {
+
+    private UUID id;
+    private String customerId;
+    private String customerEmail;
+    private String customerName;
+    private String subject;
+    private Category category;
+    private Priority priority;
+    private Status status;
+    private String assignedTo;
+    private Double classificationConfidence;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<String> tags;
+
+    public static TicketSummaryResponse fromSummary(TicketSummary summary, List<String> tags) {
+        TicketSummaryResponse response = new TicketSummaryResponse();
+        response.id = summary.getId();
+        response.customerId = summary.getCustomerId();
+        response.customerEmail = summary.getCustomerEmail();
+        response.customerName = summary.getCustomerName();
+        response.subject = summary.getSubject();
+        response.category = summary.getCategory();
+        response.priority = summary.getPriority();
+        response.status = summary.getStatus();
+        response.assignedTo = summary.getAssignedTo();
+        response.classificationConfidence = summary.getClassificationConfidence();
+        response.createdAt = summary.getCreatedAt();
+        response.updatedAt = summary.getUpdatedAt();
+        response.tags = tags;
+        return response;
+    }
+
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getCustomerId() { return customerId; }
+    public void setCustomerId(String customerId) { this.customerId = customerId; }
+
+    public String getCustomerEmail() { return customerEmail; }
+    public void setCustomerEmail(String customerEmail) { this.customerEmail = customerEmail; }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) { this.customerName = customerName; }
+
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+
+    public Category getCategory() { return category; }
+    public void setCategory(Category category) { this.category = category; }
+
+    public Priority getPriority() { return priority; }
+    public void setPriority(Priority priority) { this.priority = priority; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public String getAssignedTo() { return assignedTo; }
+    public void setAssignedTo(String assignedTo) { this.assignedTo = assignedTo; }
+
+    public Double getClassificationConfidence() { return classificationConfidence; }
+    public void setClassificationConfidence(Double classificationConfidence) { this.classificationConfidence = classificationConfidence; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+}
@@ -0,0 +1,8 @@
+package com.support.ticket.exception;
+
+public class ImportJobRejectedException extends RuntimeException {
+
+    public ImportJobRejectedException(String message) {
+        super(message);
+    }
+}
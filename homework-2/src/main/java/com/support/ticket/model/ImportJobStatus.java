@@ -0,0 +1,26 @@
+package com.support.ticket.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum ImportJobStatus {
+    QUEUED("queued"),
+    RUNNING("running"),
+    COMPLETED("completed"),
+    FAILED("failed"),
+    CANCELLED("cancelled");
+
+    private final String value;
+
+    ImportJobStatus(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -7,7 +7,16 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tickets")
+// Indexes for the list filters: the enum filters lead with the column most often given alone, and created_at
+// closes the ones used for date ranges and the (createdAt, id) keyset order of the paged listing
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_status_priority", columnList = "status, priority"),
+        @Index(name = "idx_tickets_category_status", columnList = "category, status"),
+        @Index(name = "idx_tickets_priority", columnList = "priority"),
+        @Index(name = "idx_tickets_assigned_to", columnList = "assigned_to, status"),
+        @Index(name = "idx_tickets_customer_created", columnList = "customer_id, created_at"),
+        @Index(name = "idx_tickets_created", columnList = "created_at, id")
+})
 public class Ticket {
 
     @Id
@@ -0,0 +1,116 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+import com.support.ticket.model.Ticket;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Reads the columns classification needs, a page at a time, without going through the persistence context.
+// The returned tickets are detached and only carry id, subject, description, category and priority.
+@Repository
+public class TicketBatchReader {
+
+    private static final String SELECT_FOR_CLASSIFICATION =
+            "SELECT id, subject, description, category, priority FROM tickets";
+
+    private static final String SELECT_FOR_SEARCH = "SELECT t.id, t.subject, t.description, g.tag FROM tickets t "
+            + "LEFT JOIN ticket_tags g ON g.ticket_id = t.id ORDER BY t.id";
+
+    private static final RowMapper<Ticket> CLASSIFICATION_ROW = (rs, rowNum) -> {
+        Ticket ticket = new Ticket();
+        ticket.setId(rs.getObject("id", UUID.class));
+        ticket.setSubject(rs.getString("subject"));
+        ticket.setDescription(rs.getString("description"));
+        String category = rs.getString("category");
+        ticket.setCategory(category != null ? Category.valueOf(category) : null);
+        ticket.setPriority(Priority.valueOf(rs.getString("priority")));
+        return ticket;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketBatchReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Keyset page ordered by id: the next page starts after the last id of this one, so rows that stop matching
+    // the filter once they are classified do not shift later rows out of view the way OFFSET paging would
+    public List<Ticket> findForClassification(boolean uncategorized, Category category, Status status,
+                                              UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_FOR_CLASSIFICATION).append(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        if (uncategorized) {
+            sql.append(" AND category IS NULL");
+        }
+        if (category != null) {
+            sql.append(" AND category = ?");
+            args.add(category.name());
+            types.add(Types.VARCHAR);
+        }
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status.name());
+            types.add(Types.VARCHAR);
+        }
+        if (afterId != null) {
+            sql.append(" AND id > ?");
+            args.add(afterId);
+            types.add(Types.OTHER);
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        types.add(Types.INTEGER);
+
+        return jdbcTemplate.query(sql.toString(), args.toArray(),
+                types.stream().mapToInt(Integer::intValue).toArray(), CLASSIFICATION_ROW);
+    }
+
+    public List<Ticket> findForClassification(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        int[] types = new int[ids.size()];
+        Arrays.fill(types, Types.OTHER);
+        return jdbcTemplate.query(SELECT_FOR_CLASSIFICATION + " WHERE id IN (" + placeholders + ")",
+                ids.toArray(), types, CLASSIFICATION_ROW);
+    }
+
+    // Streams every ticket with only id, subject, description and tags set, one ticket at a time. The join
+    // yields one row per tag in id order, so consecutive rows are folded into a ticket before it is handed on.
+    public void forEachSearchText(Consumer<Ticket> consumer) {
+        Ticket[] current = new Ticket[1];
+        jdbcTemplate.query(SELECT_FOR_SEARCH, (RowCallbackHandler) rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            if (current[0] == null || !current[0].getId().equals(id)) {
+                if (current[0] != null) {
+                    consumer.accept(current[0]);
+                }
+                current[0] = new Ticket();
+                current[0].setId(id);
+                current[0].setSubject(rs.getString("subject"));
+                current[0].setDescription(rs.getString("description"));
+            }
+            String tag = rs.getString("tag");
+            if (tag != null) {
+                current[0].getTags().add(tag);
+            }
+        });
+        if (current[0] != null) {
+            consumer.accept(current[0]);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Inserts new tickets and their tags, and writes classifications back, with JDBC batches, bypassing the
+// persistence context for bulk imports and batch classification.
+// The column lists mirror the Ticket mapping; callers provide the surrounding transaction.
+@Repository
+public class TicketBatchWriter {
+
+    private static final String INSERT_TICKET = "INSERT INTO tickets (id, customer_id, customer_email, "
+            + "customer_name, subject, description, category, priority, status, created_at, updated_at, "
+            + "resolved_at, assigned_to, source, browser, device_type, classification_confidence) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TAG = "INSERT INTO ticket_tags (ticket_id, tag) VALUES (?, ?)";
+
+    private static final String UPDATE_CLASSIFICATION = "UPDATE tickets SET category = ?, priority = ?, "
+            + "classification_confidence = ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Assigns ids and creation timestamps like the entity callbacks would, then writes all rows in two batches
+    public int insertAll(List<Ticket> tickets) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> ticketRows = new ArrayList<>(tickets.size());
+        List<Object[]> tagRows = new ArrayList<>();
+        for (Ticket ticket : tickets) {
+            ticket.setId(UUID.randomUUID());
+            ticket.setCreatedAt(now);
+            ticket.setUpdatedAt(now);
+            ticketRows.add(ticketRow(ticket));
+            for (String tag : ticket.getTags()) {
+                tagRows.add(new Object[]{ticket.getId(), tag});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TICKET, ticketRows, TICKET_TYPES);
+        if (!tagRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG, tagRows, TAG_TYPES);
+        }
+        return tickets.size();
+    }
+
+    // Writes category, priority and confidence of already classified tickets; returns the number of rows updated
+    public int updateClassifications(List<Ticket> tickets) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(tickets.size());
+        for (Ticket ticket : tickets) {
+            rows.add(new Object[]{
+                    name(ticket.getCategory()),
+                    name(ticket.getPriority()),
+                    ticket.getClassificationConfidence(),
+                    now,
+                    ticket.getId()
+            });
+        }
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_CLASSIFICATION, rows, CLASSIFICATION_TYPES)) {
+            updated += Math.max(count, 0);
+        }
+        return updated;
+    }
+
+    private static final int[] TICKET_TYPES = {
+            Types.OTHER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP,
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE
+    };
+
+    private static final int[] TAG_TYPES = {Types.OTHER, Types.VARCHAR};
+
+    private static final int[] CLASSIFICATION_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.TIMESTAMP, Types.OTHER
+    };
+
+    private Object[] ticketRow(Ticket ticket) {
+        TicketMetadata metadata = ticket.getMetadata();
+        return new Object[]{
+                ticket.getId(),
+                ticket.getCustomerId(),
+                ticket.getCustomerEmail(),
+                ticket.getCustomerName(),
+                ticket.getSubject(),
+                ticket.getDescription(),
+                name(ticket.getCategory()),
+                name(ticket.getPriority()),
+                name(ticket.getStatus()),
+                timestamp(ticket.getCreatedAt()),
+                timestamp(ticket.getUpdatedAt()),
+                timestamp(ticket.getResolvedAt()),
+                ticket.getAssignedTo(),
+                metadata != null ? name(metadata.getSource()) : null,
+                metadata != null ? metadata.getBrowser() : null,
+                metadata != null ? name(metadata.getDeviceType()) : null,
+                ticket.getClassificationConfidence()
+        };
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
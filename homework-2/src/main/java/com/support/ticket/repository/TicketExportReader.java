@@ -0,0 +1,43 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.dto.TicketFilter;
+import com.support.ticket.model.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+// Streams the tickets matching a TicketFilter for export. Tags are fetched in the same query and rows come in
+// id order, so Hibernate assembles each ticket from consecutive rows without a second query per ticket.
+// The stream must be consumed inside a transaction; callers detach each ticket once it is written so the
+// persistence context does not grow with the export.
+@Repository
+public class TicketExportReader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Stream<Ticket> stream(TicketFilter filter, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Ticket> query = cb.createQuery(Ticket.class);
+        Root<Ticket> root = query.from(Ticket.class);
+        root.fetch("tags", JoinType.LEFT);
+        query.select(root)
+                .where(TicketSpecifications.matching(filter).toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    public void detach(Ticket ticket) {
+        entityManager.detach(ticket);
+    }
+}
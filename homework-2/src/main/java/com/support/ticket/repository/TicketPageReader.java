@@ -0,0 +1,68 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+import com.support.ticket.model.Ticket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Reads list-view rows for a ticket Specification in (createdAt, id) order. Only the TicketSummary columns are
+// selected, so tickets are neither loaded as entities nor have their tags fetched.
+@Repository
+public class TicketPageReader {
+
+    private static final String[] COLUMNS = {"id", "customerId", "customerEmail", "customerName", "subject",
+            "category", "priority", "status", "assignedTo", "classificationConfidence", "createdAt", "updatedAt"};
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<TicketSummary> findSummaries(Specification<Ticket> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Ticket> root = query.from(Ticket.class);
+        query.multiselect(Arrays.stream(COLUMNS).map(column -> root.get(column).alias(column))
+                        .collect(Collectors.toList()))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(TupleSummary::new)
+                .collect(Collectors.toList());
+    }
+
+    private static class TupleSummary implements TicketSummary {
+        private final Tuple tuple;
+
+        TupleSummary(Tuple tuple) { this.tuple = tuple; }
+
+        @Override public UUID getId() { return tuple.get("id", UUID.class); }
+        @Override public String getCustomerId() { return tuple.get("customerId", String.class); }
+        @Override public String getCustomerEmail() { return tuple.get("customerEmail", String.class); }
+        @Override public String getCustomerName() { return tuple.get("customerName", String.class); }
+        @Override public String getSubject() { return tuple.get("subject", String.class); }
+        @Override public Category getCategory() { return tuple.get("category", Category.class); }
+        @Override public Priority getPriority() { return tuple.get("priority", Priority.class); }
+        @Override public Status getStatus() { return tuple.get("status", Status.class); }
+        @Override public String getAssignedTo() { return tuple.get("assignedTo", String.class); }
+        @Override public Double getClassificationConfidence() {
+            return tuple.get("classificationConfidence", Double.class);
+        }
+        @Override public LocalDateTime getCreatedAt() { return tuple.get("createdAt", LocalDateTime.class); }
+        @Override public LocalDateTime getUpdatedAt() { return tuple.get("updatedAt", LocalDateTime.class); }
+    }
+}
@@ -1,29 +1,35 @@
 package com.support.ticket.repository;
 
-import com.support.ticket.model.Category;
-import com.support.ticket.model.Priority;
-import com.support.ticket.model.Status;
 import com.support.ticket.model.Ticket;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, UUID> {
+public interface TicketRepository extends JpaRepository<Ticket, UUID>, JpaSpecificationExecutor<Ticket> {
 
-    List<Ticket> findByCategory(Category category);
+    String SELECT_SUMMARY = "SELECT t.id AS id, t.customerId AS customerId, t.customerEmail AS customerEmail, "
+            + "t.customerName AS customerName, t.subject AS subject, t.category AS category, "
+            + "t.priority AS priority, t.status AS status, t.assignedTo AS assignedTo, "
+            + "t.classificationConfidence AS classificationConfidence, t.createdAt AS createdAt, "
+            + "t.updatedAt AS updatedAt FROM Ticket t ";
 
-    List<Ticket> findByPriority(Priority priority);
+    // Filtered listing with tags joined in, instead of one tags select per ticket
+    @Override
+    @EntityGraph(attributePaths = "tags")
+    List<Ticket> findAll(Specification<Ticket> spec);
 
-    List<Ticket> findByStatus(Status status);
+    @Query(SELECT_SUMMARY + "WHERE t.id IN :ids")
+    List<TicketSummary> findSummariesByIds(@Param("ids") List<UUID> ids);
 
-    List<Ticket> findByCategoryAndPriority(Category category, Priority priority);
-
-    List<Ticket> findByCategoryAndPriorityAndStatus(Category category, Priority priority, Status status);
-
-    List<Ticket> findByCategoryAndStatus(Category category, Status status);
-
-    List<Ticket> findByPriorityAndStatus(Priority priority, Status status);
+    // Tags of many tickets in one query, as (ticket id, tag) pairs
+    @Query("SELECT t.id, tag FROM Ticket t JOIN t.tags tag WHERE t.id IN :ids")
+    List<Object[]> findTagsByTicketIds(@Param("ids") List<UUID> ids);
 }
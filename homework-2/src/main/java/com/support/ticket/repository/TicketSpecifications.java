@@ -0,0 +1,57 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.dto.TicketFilter;
+import com.support.ticket.model.Ticket;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Builds ticket queries from a TicketFilter. Only the criteria that are set become predicates, so the WHERE
+// clause stays a plain conjunction of equalities and ranges that the indexes declared on Ticket can serve.
+public final class TicketSpecifications {
+
+    private TicketSpecifications() {}
+
+    public static Specification<Ticket> matching(TicketFilter filter) {
+        if (!filter.isCreatedRangeValid()) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getCategory() != null) {
+                predicates.add(cb.equal(root.get("category"), filter.getCategory()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(cb.equal(root.get("priority"), filter.getPriority()));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getAssignedTo() != null) {
+                predicates.add(cb.equal(root.get("assignedTo"), filter.getAssignedTo()));
+            }
+            if (filter.getCustomerId() != null) {
+                predicates.add(cb.equal(root.get("customerId"), filter.getCustomerId()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Tickets after the given position in (createdAt, id) order. The plain createdAt >= bound lets the created_at
+    // index seek to the position; the OR only drops the rows at or before it that share its timestamp.
+    public static Specification<Ticket> after(LocalDateTime createdAt, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("createdAt"), createdAt),
+                cb.or(cb.greaterThan(root.get("createdAt"), createdAt), cb.greaterThan(root.get("id"), id)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.dto.TicketStatsResponse;
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Ticket counts and averages for dashboards, aggregated by the database in a single statement. Every branch of
+// the UNION ALL is one GROUP BY (H2 has no GROUPING SETS), and the grouped columns are the leading columns of
+// the filter indexes, so no ticket rows leave the database.
+@Repository
+public class TicketStatsReader {
+
+    private static final String SELECT_STATS =
+            "SELECT 'total' AS dimension, CAST(NULL AS VARCHAR) AS bucket, COUNT(*) AS tickets, "
+            + "COUNT(resolved_at) AS resolved, "
+            + "AVG(CAST(TIMESTAMPDIFF(SECOND, created_at, resolved_at) AS DOUBLE)) AS resolve_seconds, "
+            + "AVG(classification_confidence) AS confidence FROM tickets "
+            + "UNION ALL " + grouped("category")
+            + "UNION ALL " + grouped("priority")
+            + "UNION ALL " + grouped("status")
+            + "UNION ALL " + grouped("assigned_to")
+            + "ORDER BY dimension, tickets DESC, bucket";
+
+    private static String grouped(String column) {
+        return "SELECT '" + column + "', " + column + ", COUNT(*), NULL, NULL, NULL FROM tickets GROUP BY "
+                + column + " ";
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketStatsReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public TicketStatsResponse read() {
+        // Every category, priority and status is listed, with zero when no ticket has it
+        Map<String, Long> byCategory = new LinkedHashMap<>();
+        for (Category category : Category.values()) {
+            byCategory.put(category.getValue(), 0L);
+        }
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority.getValue(), 0L);
+        }
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (Status status : Status.values()) {
+            byStatus.put(status.getValue(), 0L);
+        }
+        // Assignees come most tickets first
+        Map<String, Long> byAssignee = new LinkedHashMap<>();
+        TicketStatsResponse stats = new TicketStatsResponse();
+
+        jdbcTemplate.query(SELECT_STATS, rs -> {
+            String dimension = rs.getString("dimension");
+            String bucket = rs.getString("bucket");
+            long tickets = rs.getLong("tickets");
+            if (dimension.equals("total")) {
+                stats.setTotal(tickets);
+                stats.setResolved(rs.getLong("resolved"));
+                stats.setMeanTimeToResolveSeconds(rs.getObject("resolve_seconds", Double.class));
+                stats.setAverageClassificationConfidence(rs.getObject("confidence", Double.class));
+            } else if (dimension.equals("category")) {
+                if (bucket == null) {
+                    stats.setUncategorized(tickets);
+                } else {
+                    byCategory.put(Category.valueOf(bucket).getValue(), tickets);
+                }
+            } else if (dimension.equals("priority")) {
+                byPriority.put(Priority.valueOf(bucket).getValue(), tickets);
+            } else if (dimension.equals("status")) {
+                byStatus.put(Status.valueOf(bucket).getValue(), tickets);
+            } else if (bucket == null) {
+                stats.setUnassigned(tickets);
+            } else {
+                byAssignee.put(bucket, tickets);
+            }
+        });
+
+        stats.setByCategory(byCategory);
+        stats.setByPriority(byPriority);
+        stats.setByStatus(byStatus);
+        stats.setByAssignee(byAssignee);
+        stats.setGeneratedAt(LocalDateTime.now());
+        return stats;
+    }
+}
@@ -0,0 +1,36 @@
+package com.support.ticket.repository;
+
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// List-view projection of a ticket: the columns a ticket list shows, without description, metadata or tags
+public interface TicketSummary {
+
+    UUID getId();
+
+    String getCustomerId();
+
+    String getCustomerEmail();
+
+    String getCustomerName();
+
+    String getSubject();
+
+    Category getCategory();
+
+    Priority getPriority();
+
+    Status getStatus();
+
+    String getAssignedTo();
+
+    Double getClassificationConfidence();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
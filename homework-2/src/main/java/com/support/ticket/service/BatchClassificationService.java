@@ -0,0 +1,177 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.BatchClassificationRequest;
+import com.support.ticket.dto.BatchClassificationResponse;
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketBatchReader;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Classifies many tickets in one request. Same pipeline shape as the bulk import: this thread reads pages of
+// page-size tickets, the worker pool classifies them, and this thread writes each classified page back with
+// one JDBC batch in its own transaction. At most maxPagesInFlight pages are held at once, so memory stays
+// bounded however many tickets match.
+@Service
+public class BatchClassificationService {
+
+    private final TicketBatchReader ticketBatchReader;
+    private final TicketService ticketService;
+    private final ClassificationService classificationService;
+    private final int pageSize;
+    private final int maxPagesInFlight;
+    private final ExecutorService workers;
+
+    public BatchClassificationService(TicketBatchReader ticketBatchReader, TicketService ticketService,
+                                      ClassificationService classificationService,
+                                      @Value("${ticket.classification.page-size:500}") int pageSize,
+                                      @Value("${ticket.classification.workers:0}") int workers) {
+        this.ticketBatchReader = ticketBatchReader;
+        this.ticketService = ticketService;
+        this.classificationService = classificationService;
+        this.pageSize = pageSize;
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.maxPagesInFlight = threads * 2;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ticket-classify-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public BatchClassificationResponse classify(BatchClassificationRequest request) {
+        boolean hasFilter = request.isUncategorized() || request.getCategory() != null || request.getStatus() != null;
+        if (request.getIds() != null && hasFilter) {
+            throw new IllegalArgumentException("Provide either ids or a filter, not both");
+        }
+        if (request.isUncategorized() && request.getCategory() != null) {
+            throw new IllegalArgumentException("Provide either uncategorized or category, not both");
+        }
+
+        long started = System.nanoTime();
+        BatchClassificationResponse response = new BatchClassificationResponse();
+        Deque<Future<ClassifiedPage>> inFlight = new ArrayDeque<>();
+        try {
+            if (request.getIds() != null) {
+                classifyIds(request.getIds(), inFlight, response);
+            } else {
+                classifyMatching(request, inFlight, response);
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll(), response);
+            }
+        } finally {
+            inFlight.forEach(pending -> pending.cancel(true));
+        }
+        response.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return response;
+    }
+
+    private void classifyIds(List<UUID> requestedIds, Deque<Future<ClassifiedPage>> inFlight,
+                             BatchClassificationResponse response) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(requestedIds));
+        Set<UUID> found = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += pageSize) {
+            List<Ticket> page = ticketBatchReader.findForClassification(
+                    ids.subList(from, Math.min(from + pageSize, ids.size())));
+            page.forEach(ticket -> found.add(ticket.getId()));
+            submit(page, inFlight, response);
+        }
+        for (UUID id : ids) {
+            if (!found.contains(id)) {
+                response.getNotFound().add(id);
+            }
+        }
+    }
+
+    private void classifyMatching(BatchClassificationRequest request, Deque<Future<ClassifiedPage>> inFlight,
+                                  BatchClassificationResponse response) {
+        UUID afterId = null;
+        List<Ticket> page;
+        do {
+            page = ticketBatchReader.findForClassification(request.isUncategorized(), request.getCategory(),
+                    request.getStatus(), afterId, pageSize);
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+                submit(page, inFlight, response);
+            }
+        } while (page.size() == pageSize);
+    }
+
+    private void submit(List<Ticket> page, Deque<Future<ClassifiedPage>> inFlight,
+                        BatchClassificationResponse response) {
+        if (page.isEmpty()) {
+            return;
+        }
+        inFlight.add(workers.submit(() -> classifyPage(page)));
+        if (inFlight.size() >= maxPagesInFlight) {
+            write(inFlight.poll(), response);
+        }
+    }
+
+    private ClassifiedPage classifyPage(List<Ticket> page) {
+        int changed = 0;
+        for (Ticket ticket : page) {
+            Category previousCategory = ticket.getCategory();
+            Priority previousPriority = ticket.getPriority();
+            classificationService.applyClassification(ticket);
+            if (ticket.getCategory() != previousCategory || ticket.getPriority() != previousPriority) {
+                changed++;
+            }
+        }
+        return new ClassifiedPage(page, changed);
+    }
+
+    private void write(Future<ClassifiedPage> pending, BatchClassificationResponse response) {
+        ClassifiedPage page;
+        try {
+            page = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch classification was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to classify tickets: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        ticketService.updateClassifications(page.tickets);
+        response.setProcessed(response.getProcessed() + page.tickets.size());
+        response.setChanged(response.getChanged() + page.changed);
+        for (Ticket ticket : page.tickets) {
+            response.getCategories().merge(ticket.getCategory().getValue(), 1, Integer::sum);
+            response.getPriorities().merge(ticket.getPriority().getValue(), 1, Integer::sum);
+        }
+    }
+
+    private static class ClassifiedPage {
+        final List<Ticket> tickets;
+        final int changed;
+
+        ClassifiedPage(List<Ticket> tickets, int changed) {
+            this.tickets = tickets;
+            this.changed = changed;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.ClassificationCacheStats;
+import com.support.ticket.dto.ClassificationResult;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// Bounded cache of classification results, least recently used first out, with a time-to-live per entry.
+// Results are keyed by a 64-bit fingerprint of the ticket text instead of the text itself, so lookups do not
+// copy or retain ticket text. The keyword tables are compiled into ClassificationService and never change while
+// the application runs, so a cached result stays valid until it expires or is evicted.
+// Entries are spread by fingerprint over independently locked segments, each evicting its own least recently used
+// entry once it holds its share of the maximum size, so classifier threads rarely wait on each other. Small caches
+// keep a single segment, where eviction order is exact.
+class ClassificationCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ClassificationCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    ClassificationCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        this.maxSize = Math.max(maxSize, 0);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        // A power of two, so a segment is picked by masking
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, this.maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(this.maxSize / segmentCount + (i < this.maxSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    // FNV-1a over the text classification sees: subject and description joined by a space. ASCII letters are
+    // folded to lower case, which keyword matching and the case-insensitive patterns ignore anyway; every
+    // other character is hashed as is, so texts with the same fingerprint classify the same way.
+    static long fingerprint(CharSequence... texts) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int t = 0; t < texts.length; t++) {
+            if (t > 0) {
+                hash = (hash ^ ' ') * FNV_PRIME;
+            }
+            CharSequence text = texts[t];
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+                hash = (hash ^ c) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    ClassificationResult get(long fingerprint) {
+        Segment segment = segmentFor(fingerprint);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(fingerprint);
+            if (entry != null && nanoClock.getAsLong() - entry.createdAt > ttlNanos) {
+                segment.remove(fingerprint);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result;
+    }
+
+    void put(long fingerprint, ClassificationResult result) {
+        Segment segment = segmentFor(fingerprint);
+        Entry entry = new Entry(result, nanoClock.getAsLong());
+        synchronized (segment) {
+            segment.put(fingerprint, entry);
+        }
+    }
+
+    ClassificationCacheStats stats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new ClassificationCacheStats(size, maxSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private Segment segmentFor(long fingerprint) {
+        int hash = (int) (fingerprint ^ (fingerprint >>> 32));
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    // One lock's share of the entries, in access order
+    private final class Segment extends LinkedHashMap<Long, Entry> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static class Entry {
+        final ClassificationResult result;
+        final long createdAt;
+
+        Entry(ClassificationResult result, long createdAt) {
+            this.result = result;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.support.ticket.service;
 
+import com.support.ticket.dto.ClassificationCacheStats;
 import com.support.ticket.dto.ClassificationResult;
 import com.support.ticket.model.Category;
 import com.support.ticket.model.Priority;
 import com.support.ticket.model.Ticket;
 import com.support.ticket.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -14,12 +18,30 @@ import java.util.regex.Pattern;
 public class ClassificationService {
 
     private final TicketRepository ticketRepository;
+    private final ClassificationCache cache;
 
     private static final Map<Category, List<KeywordEntry>> CATEGORY_KEYWORDS = new LinkedHashMap<>();
     private static final Map<Priority, List<String>> PRIORITY_KEYWORDS = new LinkedHashMap<>();
     private static final List<Pattern> BUG_REPORT_PATTERNS = new ArrayList<>();
     private static final double CONFIDENCE_THRESHOLD = 0.3;
 
+    private static final int CATEGORY_COUNT = Category.values().length;
+
+    // Every category keyword followed by every priority keyword, in table order, compiled into one automaton
+    static final List<String> KEYWORDS = new ArrayList<>();
+    private static final KeywordAutomaton KEYWORD_AUTOMATON;
+
+    // Lookup tables indexed by position in KEYWORDS, built once from the keyword tables above
+    private static final int CATEGORY_KEYWORD_COUNT;
+    private static final int[] KEYWORD_CATEGORY;
+    private static final double[] KEYWORD_WEIGHT;
+    private static final Priority[] KEYWORD_PRIORITY;
+    private static final int[] STRONG_BUG_KEYWORDS;
+    private static final Category[] SCORED_CATEGORIES;
+    // Keyword each bug report pattern contains, so the pattern only runs when the automaton found it; -1 runs always
+    private static final int[] BUG_REPORT_PATTERN_KEYWORD;
+    private static final double CONFIDENCE_SCALE;
+
     static {
         CATEGORY_KEYWORDS.put(Category.ACCOUNT_ACCESS, List.of(
                 new KeywordEntry("login", 1.0), new KeywordEntry("password", 1.0),
@@ -77,96 +99,138 @@ public class ClassificationService {
         PRIORITY_KEYWORDS.put(Priority.LOW, List.of(
                 "minor", "cosmetic", "suggestion", "nice to have", "when you get a chance"
         ));
+
+        List<Integer> categories = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (Map.Entry<Category, List<KeywordEntry>> entry : CATEGORY_KEYWORDS.entrySet()) {
+            for (KeywordEntry keyword : entry.getValue()) {
+                KEYWORDS.add(keyword.word);
+                categories.add(entry.getKey().ordinal());
+                weights.add(keyword.weight);
+            }
+        }
+        CATEGORY_KEYWORD_COUNT = KEYWORDS.size();
+        KEYWORD_CATEGORY = categories.stream().mapToInt(Integer::intValue).toArray();
+        KEYWORD_WEIGHT = weights.stream().mapToDouble(Double::doubleValue).toArray();
+
+        List<Priority> priorities = new ArrayList<>();
+        for (Map.Entry<Priority, List<String>> entry : PRIORITY_KEYWORDS.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                KEYWORDS.add(keyword);
+                priorities.add(entry.getKey());
+            }
+        }
+        KEYWORD_PRIORITY = priorities.toArray(new Priority[0]);
+
+        STRONG_BUG_KEYWORDS = new int[]{
+                KEYWORDS.indexOf("defect"), KEYWORDS.indexOf("regression")
+        };
+        SCORED_CATEGORIES = CATEGORY_KEYWORDS.keySet().toArray(new Category[0]);
+        BUG_REPORT_PATTERN_KEYWORD = new int[]{
+                -1, KEYWORDS.indexOf("reproduce"), KEYWORDS.indexOf("expected"), KEYWORDS.indexOf("actual")
+        };
+        CONFIDENCE_SCALE = Arrays.stream(KEYWORD_WEIGHT).max().orElse(1.0) * 5;
+        KEYWORD_AUTOMATON = new KeywordAutomaton(KEYWORDS);
     }
 
+    // Without the cache; used where every call should classify, e.g. tests and benchmarks
     public ClassificationService(TicketRepository ticketRepository) {
+        this(ticketRepository, 0, Duration.ZERO);
+    }
+
+    @Autowired
+    public ClassificationService(TicketRepository ticketRepository,
+                                 @Value("${ticket.classification.cache.max-size:5000}") int cacheMaxSize,
+                                 @Value("${ticket.classification.cache.ttl:10m}") Duration cacheTtl) {
         this.ticketRepository = ticketRepository;
+        this.cache = new ClassificationCache(cacheMaxSize, cacheTtl);
     }
 
     public ClassificationResult classify(Ticket ticket) {
-        String text = (ticket.getSubject() + " " + ticket.getDescription()).toLowerCase();
+        String subject = Objects.toString(ticket.getSubject(), "");
+        String description = Objects.toString(ticket.getDescription(), "");
+        if (!cache.isEnabled()) {
+            return classify(subject, description);
+        }
 
-        Map<Category, Double> scores = new LinkedHashMap<>();
-        Map<Category, List<String>> foundKeywords = new LinkedHashMap<>();
+        long fingerprint = ClassificationCache.fingerprint(subject, description);
+        ClassificationResult result = cache.get(fingerprint);
+        if (result == null) {
+            result = classify(subject, description);
+            cache.put(fingerprint, result);
+        }
+        // Callers get their own copy; each copy reads the reasoning text of the shared cached result
+        ClassificationResult cached = result;
+        return new ClassificationResult(cached.getCategory(), cached.getPriority(), cached.getConfidence(),
+                cached::getReasoning, cached.getKeywordsFound());
+    }
 
-        for (Map.Entry<Category, List<KeywordEntry>> entry : CATEGORY_KEYWORDS.entrySet()) {
-            Category category = entry.getKey();
-            double score = 0;
-            List<String> keywords = new ArrayList<>();
-            for (KeywordEntry keyword : entry.getValue()) {
-                if (text.contains(keyword.word.toLowerCase())) {
-                    score += keyword.weight;
-                    keywords.add(keyword.word);
-                }
+    public ClassificationCacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private ClassificationResult classify(String subject, String description) {
+        boolean[] found = KEYWORD_AUTOMATON.findAll(subject, description);
+
+        // Scores and hit counts per Category.ordinal()
+        double[] scores = new double[CATEGORY_COUNT];
+        int[] hits = new int[CATEGORY_COUNT];
+        for (int i = 0; i < CATEGORY_KEYWORD_COUNT; i++) {
+            if (found[i]) {
+                int category = KEYWORD_CATEGORY[i];
+                scores[category] += KEYWORD_WEIGHT[i];
+                hits[category]++;
             }
-            scores.put(category, score);
-            foundKeywords.put(category, keywords);
         }
 
-        boolean hasStructuralPatterns = false;
-        for (Pattern pattern : BUG_REPORT_PATTERNS) {
-            if (pattern.matcher(text).find()) {
-                hasStructuralPatterns = true;
-                scores.merge(Category.BUG_REPORT, 2.0, Double::sum);
-                break;
-            }
+        boolean hasStructuralPatterns = hasStructuralPatterns(found, subject + " " + description);
+        if (hasStructuralPatterns) {
+            scores[Category.BUG_REPORT.ordinal()] += 2.0;
         }
 
         // Disambiguation
-        double bugScore = scores.getOrDefault(Category.BUG_REPORT, 0.0);
-        double techScore = scores.getOrDefault(Category.TECHNICAL_ISSUE, 0.0);
-        double featureScore = scores.getOrDefault(Category.FEATURE_REQUEST, 0.0);
-        double billingScore = scores.getOrDefault(Category.BILLING_QUESTION, 0.0);
+        double bugScore = scores[Category.BUG_REPORT.ordinal()];
+        double techScore = scores[Category.TECHNICAL_ISSUE.ordinal()];
+        double featureScore = scores[Category.FEATURE_REQUEST.ordinal()];
+        double billingScore = scores[Category.BILLING_QUESTION.ordinal()];
 
         if (bugScore > 0 && techScore > 0) {
             if (hasStructuralPatterns) {
-                scores.put(Category.TECHNICAL_ISSUE, techScore * 0.5);
+                scores[Category.TECHNICAL_ISSUE.ordinal()] = techScore * 0.5;
             } else {
-                scores.put(Category.BUG_REPORT, bugScore * 0.5);
+                scores[Category.BUG_REPORT.ordinal()] = bugScore * 0.5;
             }
         }
 
-        if (bugScore > 0 && featureScore > 0) {
-            if (foundKeywords.getOrDefault(Category.BUG_REPORT, List.of()).stream()
-                    .anyMatch(k -> k.equals("defect") || k.equals("regression"))) {
-                scores.put(Category.FEATURE_REQUEST, featureScore * 0.5);
-            }
+        if (bugScore > 0 && featureScore > 0 && anyFound(found, STRONG_BUG_KEYWORDS)) {
+            scores[Category.FEATURE_REQUEST.ordinal()] = featureScore * 0.5;
         }
 
         if (featureScore > 0 && billingScore > 0) {
-            int featureHits = foundKeywords.getOrDefault(Category.FEATURE_REQUEST, List.of()).size();
-            int billingHits = foundKeywords.getOrDefault(Category.BILLING_QUESTION, List.of()).size();
-            if (billingHits > featureHits) {
-                scores.put(Category.FEATURE_REQUEST, featureScore * 0.5);
-            } else if (featureHits > billingHits) {
-                scores.put(Category.BILLING_QUESTION, billingScore * 0.5);
+            if (hits[Category.BILLING_QUESTION.ordinal()] > hits[Category.FEATURE_REQUEST.ordinal()]) {
+                scores[Category.FEATURE_REQUEST.ordinal()] = featureScore * 0.5;
+            } else if (hits[Category.FEATURE_REQUEST.ordinal()] > hits[Category.BILLING_QUESTION.ordinal()]) {
+                scores[Category.BILLING_QUESTION.ordinal()] = billingScore * 0.5;
             }
         }
 
-        // Find best category
-        Category bestCategory = Category.OTHER;
+        // Find best category, in keyword table order
+        Category scoredCategory = null;
         double bestScore = 0;
         double secondBestScore = 0;
-        List<String> bestKeywords = new ArrayList<>();
-
-        for (Map.Entry<Category, Double> entry : scores.entrySet()) {
-            if (entry.getValue() > bestScore) {
+        for (Category category : SCORED_CATEGORIES) {
+            double score = scores[category.ordinal()];
+            if (score > bestScore) {
                 secondBestScore = bestScore;
-                bestScore = entry.getValue();
-                bestCategory = entry.getKey();
-                bestKeywords = foundKeywords.getOrDefault(entry.getKey(), List.of());
-            } else if (entry.getValue() > secondBestScore) {
-                secondBestScore = entry.getValue();
+                bestScore = score;
+                scoredCategory = category;
+            } else if (score > secondBestScore) {
+                secondBestScore = score;
             }
         }
 
         // Calculate confidence (0.0 - 1.0)
-        double totalWeight = CATEGORY_KEYWORDS.values().stream()
-                .flatMap(List::stream)
-                .mapToDouble(k -> k.weight)
-                .max().orElse(1.0) * 5;
-
-        double confidence = Math.min(1.0, bestScore / totalWeight);
+        double confidence = Math.min(1.0, bestScore / CONFIDENCE_SCALE);
 
         if (secondBestScore > 0 && bestScore > 0) {
             double ratio = secondBestScore / bestScore;
@@ -175,50 +239,90 @@ public class ClassificationService {
             }
         }
 
+        Category bestCategory = scoredCategory != null ? scoredCategory : Category.OTHER;
         if (bestScore == 0 || confidence < CONFIDENCE_THRESHOLD) {
             bestCategory = Category.OTHER;
             confidence = bestScore > 0 ? confidence : 0.0;
         }
 
-        // Detect priority
-        Priority priority = detectPriority(text);
-        List<String> allKeywords = new ArrayList<>(bestKeywords);
+        Priority priority = detectPriority(found);
+        // Keywords of the highest scoring category, kept even when low confidence turns the result into OTHER
+        List<String> keywords = scoredCategory != null
+                ? Collections.unmodifiableList(foundKeywords(found, scoredCategory))
+                : List.of();
 
-        // Build reasoning
-        StringBuilder reasoning = new StringBuilder();
-        reasoning.append("Classified as ").append(bestCategory.getValue());
-        if (!bestKeywords.isEmpty()) {
-            reasoning.append(" based on keywords: ").append(String.join(", ", bestKeywords));
-        }
-        if (hasStructuralPatterns) {
-            reasoning.append(". Structural patterns detected (reproduction steps).");
-        }
-        reasoning.append(". Priority set to ").append(priority.getValue()).append(".");
-
-        return new ClassificationResult(bestCategory, priority, confidence,
-                reasoning.toString(), allKeywords);
+        Category category = bestCategory;
+        return new ClassificationResult(category, priority, confidence,
+                () -> reasoning(category, keywords, hasStructuralPatterns, priority), keywords);
     }
 
     public ClassificationResult classifyAndUpdate(Ticket ticket) {
+        ClassificationResult result = applyClassification(ticket);
+        ticketRepository.save(ticket);
+        return result;
+    }
+
+    public ClassificationResult applyClassification(Ticket ticket) {
         ClassificationResult result = classify(ticket);
         ticket.setCategory(result.getCategory());
         ticket.setPriority(result.getPriority());
         ticket.setClassificationConfidence(result.getConfidence());
-        ticketRepository.save(ticket);
         return result;
     }
 
-    private Priority detectPriority(String text) {
-        for (Map.Entry<Priority, List<String>> entry : PRIORITY_KEYWORDS.entrySet()) {
-            for (String keyword : entry.getValue()) {
-                if (text.contains(keyword.toLowerCase())) {
-                    return entry.getKey();
-                }
+    private static boolean anyFound(boolean[] found, int[] keywordIndexes) {
+        for (int index : keywordIndexes) {
+            if (found[index]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> foundKeywords(boolean[] found, Category category) {
+        List<String> keywords = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_KEYWORD_COUNT; i++) {
+            if (found[i] && KEYWORD_CATEGORY[i] == category.ordinal()) {
+                keywords.add(KEYWORDS.get(i));
+            }
+        }
+        return keywords;
+    }
+
+    private static Priority detectPriority(boolean[] found) {
+        for (int i = CATEGORY_KEYWORD_COUNT; i < found.length; i++) {
+            if (found[i]) {
+                return KEYWORD_PRIORITY[i - CATEGORY_KEYWORD_COUNT];
             }
         }
         return Priority.MEDIUM;
     }
 
+    private static boolean hasStructuralPatterns(boolean[] found, String text) {
+        for (int i = 0; i < BUG_REPORT_PATTERNS.size(); i++) {
+            int keyword = BUG_REPORT_PATTERN_KEYWORD[i];
+            if ((keyword < 0 || found[keyword]) && BUG_REPORT_PATTERNS.get(i).matcher(text).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Only built when a caller reads ClassificationResult.getReasoning(), e.g. when it is serialized
+    private static String reasoning(Category category, List<String> keywords, boolean hasStructuralPatterns,
+                                    Priority priority) {
+        StringBuilder reasoning = new StringBuilder();
+        reasoning.append("Classified as ").append(category.getValue());
+        if (!keywords.isEmpty()) {
+            reasoning.append(" based on keywords: ").append(String.join(", ", keywords));
+        }
+        if (hasStructuralPatterns) {
+            reasoning.append(". Structural patterns detected (reproduction steps).");
+        }
+        reasoning.append(". Priority set to ").append(priority.getValue()).append(".");
+        return reasoning.toString();
+    }
+
     private static class KeywordEntry {
         final String word;
         final double weight;
@@ -227,5 +331,10 @@ public class ClassificationService {
             this.word = word;
             this.weight = weight;
         }
+
+        @Override
+        public String toString() {
+            return word + "=" + weight;
+        }
     }
 }
@@ -0,0 +1,104 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.BulkImportResponse;
+import com.support.ticket.dto.ImportJobResponse;
+import com.support.ticket.model.ImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// State of one background import. Status changes are synchronized; row counters live in the shared
+// ImportProgress, which the importing thread updates as chunks are saved.
+class ImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final String filename;
+    private final boolean autoClassify;
+    private final ImportProgress progress = new ImportProgress();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private ImportJobStatus status = ImportJobStatus.QUEUED;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long startNanos;
+    private long finishNanos;
+    private String message;
+    private BulkImportResponse result;
+
+    ImportJob(String filename, boolean autoClassify) {
+        this.filename = filename;
+        this.autoClassify = autoClassify;
+    }
+
+    UUID getId() { return id; }
+    String getFilename() { return filename; }
+    boolean isAutoClassify() { return autoClassify; }
+    ImportProgress getProgress() { return progress; }
+
+    synchronized ImportJobStatus getStatus() { return status; }
+
+    // Returns false when the job was cancelled while it was still queued
+    synchronized boolean start() {
+        if (status != ImportJobStatus.QUEUED) {
+            return false;
+        }
+        status = ImportJobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+        startNanos = System.nanoTime();
+        return true;
+    }
+
+    synchronized void complete(BulkImportResponse result) {
+        this.result = result;
+        finish(progress.cancelled ? ImportJobStatus.CANCELLED : ImportJobStatus.COMPLETED);
+    }
+
+    synchronized void fail(String message) {
+        this.message = message;
+        finish(ImportJobStatus.FAILED);
+    }
+
+    // A queued job is cancelled at once; a running one stops after the chunk it is saving
+    synchronized void cancel() {
+        if (status == ImportJobStatus.QUEUED) {
+            progress.cancelled = true;
+            finish(ImportJobStatus.CANCELLED);
+        } else if (status == ImportJobStatus.RUNNING) {
+            progress.cancelled = true;
+        }
+    }
+
+    private void finish(ImportJobStatus finalStatus) {
+        status = finalStatus;
+        finishedAt = LocalDateTime.now();
+        finishNanos = System.nanoTime();
+    }
+
+    synchronized ImportJobResponse toResponse() {
+        ImportJobResponse response = new ImportJobResponse();
+        response.setJobId(id);
+        response.setStatus(status);
+        response.setFilename(filename);
+        response.setCreatedAt(createdAt);
+        response.setStartedAt(startedAt);
+        response.setFinishedAt(finishedAt);
+        response.setMessage(message);
+        if (result != null) {
+            response.setRowsProcessed(result.getTotal());
+            response.setSuccessful(result.getSuccessful());
+            response.setFailed(result.getFailed());
+            response.setErrors(result.getErrors());
+        } else {
+            int successful = progress.successful;
+            int processed = progress.processed;
+            response.setRowsProcessed(processed);
+            response.setSuccessful(successful);
+            response.setFailed(processed - successful);
+        }
+        if (startedAt != null) {
+            long elapsed = (finishedAt != null ? finishNanos : System.nanoTime()) - startNanos;
+            response.setRowsPerSecond(elapsed > 0 ? response.getRowsProcessed() * 1e9 / elapsed : 0);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,146 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.BulkImportResponse;
+import com.support.ticket.dto.ImportJobResponse;
+import com.support.ticket.exception.ImportException;
+import com.support.ticket.exception.ImportJobNotFoundException;
+import com.support.ticket.exception.ImportJobRejectedException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs imports in the background. The upload is copied to a temporary file first, because the multipart
+// part is deleted when the request ends. At most max-concurrent-jobs imports run at once and up to
+// max-queued-jobs wait; beyond that new jobs are rejected. Finished jobs are kept for polling until
+// retained-jobs newer ones have finished.
+@Service
+public class ImportJobService {
+
+    private final TicketImportService importService;
+    private final ThreadPoolExecutor executor;
+    private final int retainedJobs;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Queue<UUID> finishedJobs = new ConcurrentLinkedQueue<>();
+
+    public ImportJobService(TicketImportService importService,
+                            @Value("${ticket.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                            @Value("${ticket.import.max-queued-jobs:10}") int maxQueuedJobs,
+                            @Value("${ticket.import.retained-jobs:100}") int retainedJobs) {
+        this.importService = importService;
+        this.retainedJobs = retainedJobs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), runnable -> {
+                    Thread thread = new Thread(runnable, "ticket-import-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public ImportJobResponse submit(MultipartFile file, boolean autoClassify) {
+        String filename = file.getOriginalFilename();
+        importService.checkSupportedFormat(filename);
+
+        Path upload;
+        try {
+            upload = Files.createTempFile("ticket-import-", filename.substring(filename.lastIndexOf('.')));
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new ImportException("Failed to read file: " + e.getMessage(), e);
+        }
+
+        ImportJob job = new ImportJob(filename, autoClassify);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(upload);
+            throw new ImportJobRejectedException("Too many import jobs in progress, try again later");
+        }
+        return job.toResponse();
+    }
+
+    public ImportJobResponse getJob(UUID jobId) {
+        return findJob(jobId).toResponse();
+    }
+
+    public ImportJobResponse cancel(UUID jobId) {
+        ImportJob job = findJob(jobId);
+        job.cancel();
+        if (job.getStatus().isFinished()) {
+            retire(job);
+        }
+        return job.toResponse();
+    }
+
+    private ImportJob findJob(UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    private void run(ImportJob job, Path upload) {
+        try {
+            if (!job.start()) {
+                return;
+            }
+            try (InputStream inputStream = Files.newInputStream(upload)) {
+                BulkImportResponse result = importService.importTickets(job.getFilename(), inputStream,
+                        job.isAutoClassify(), job.getProgress());
+                job.complete(result);
+            } catch (ImportException e) {
+                job.fail(e.getMessage());
+            } catch (IOException | RuntimeException e) {
+                job.fail("Import failed: " + e.getMessage());
+            }
+            retire(job);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private synchronized void retire(ImportJob job) {
+        if (finishedJobs.contains(job.getId())) {
+            return;
+        }
+        finishedJobs.add(job.getId());
+        while (finishedJobs.size() > retainedJobs) {
+            UUID oldest = finishedJobs.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // A leftover temporary file is removed with the temp directory
+        }
+    }
+}
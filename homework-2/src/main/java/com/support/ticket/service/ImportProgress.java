@@ -0,0 +1,18 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.BulkImportResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Counters of one running import. Only the importing thread writes them; job status requests read them
+// while the import runs, so the counters are volatile.
+class ImportProgress {
+
+    volatile int total;
+    volatile int processed;
+    volatile int successful;
+    volatile boolean cancelled;
+    final List<BulkImportResponse.ImportError> errors = new ArrayList<>();
+    BulkImportResponse.ImportError fileError;
+}
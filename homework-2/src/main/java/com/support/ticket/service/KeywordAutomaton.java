@@ -0,0 +1,162 @@
+package com.support.ticket.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+// Aho-Corasick automaton over a fixed keyword list, compiled into a dense transition table so that finding
+// every keyword in a text is one pass with one array lookup per character. Keywords are matched as plain
+// substrings, like String.contains on the lower-cased text; both keywords and text are lower-cased by the automaton.
+final class KeywordAutomaton {
+
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final int keywordCount;
+    // Characters that occur in some keyword map to columns 1..n; every other character maps to column 0
+    private final int[] asciiColumns = new int[128];
+    private final Map<Character, Integer> otherColumns = new HashMap<>();
+    private final int columns;
+    // Row offsets (state * columns) rather than state numbers, so a step is a single add and load
+    private final int[] transitions;
+    // Keywords ending at each state, indexed by row offset
+    private final int[][] matches;
+
+    KeywordAutomaton(List<String> keywords) {
+        keywordCount = keywords.size();
+        List<String> patterns = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            patterns.add(keyword.toLowerCase());
+        }
+
+        int nextColumn = 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (column(c) == 0) {
+                    if (c < 128) {
+                        asciiColumns[c] = nextColumn++;
+                    } else {
+                        otherColumns.put(c, nextColumn++);
+                    }
+                }
+            }
+        }
+        columns = nextColumn;
+        // Upper-case ASCII letters share the column of their lower-case letter, so text needs no lower-casing pass
+        for (char c = 'A'; c <= 'Z'; c++) {
+            asciiColumns[c] = asciiColumns[Character.toLowerCase(c)];
+        }
+
+        // Trie: goto[state][column], -1 where there is no edge yet
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> outputs = new ArrayList<>();
+        trie.add(newRow());
+        outputs.add(new ArrayList<>());
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int column = column(pattern.charAt(i));
+                if (trie.get(state)[column] < 0) {
+                    trie.get(state)[column] = trie.size();
+                    trie.add(newRow());
+                    outputs.add(new ArrayList<>());
+                }
+                state = trie.get(state)[column];
+            }
+            outputs.get(state).add(id);
+        }
+
+        // Breadth-first over the trie: fill missing edges from the failure state and inherit its outputs
+        int states = trie.size();
+        int[] next = new int[states * columns];
+        int[][] ending = new int[states][];
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int column = 0; column < columns; column++) {
+            int child = trie.get(0)[column];
+            if (child < 0) {
+                next[column] = 0;
+            } else {
+                next[column] = child;
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        ending[0] = outputs.get(0).stream().mapToInt(Integer::intValue).toArray();
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> output = outputs.get(state);
+            output.addAll(outputs.get(failure[state]));
+            ending[state] = output.isEmpty()
+                    ? NO_MATCHES
+                    : output.stream().distinct().mapToInt(Integer::intValue).toArray();
+            for (int column = 0; column < columns; column++) {
+                int child = trie.get(state)[column];
+                int fallback = next[failure[state] * columns + column];
+                if (child < 0) {
+                    next[state * columns + column] = fallback;
+                } else {
+                    next[state * columns + column] = child;
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+
+        transitions = new int[next.length];
+        matches = new int[next.length][];
+        for (int state = 0; state < states; state++) {
+            for (int column = 0; column < columns; column++) {
+                transitions[state * columns + column] = next[state * columns + column] * columns;
+            }
+            matches[state * columns] = ending[state];
+        }
+    }
+
+    // found[i] is true when keyword i occurs anywhere in the texts joined by single spaces
+    boolean[] findAll(CharSequence... texts) {
+        boolean[] found = new boolean[keywordCount];
+        // Empty keywords sit on the root state and, like String.contains, match any text
+        for (int id : matches[0]) {
+            found[id] = true;
+        }
+        int offset = 0;
+        for (int t = 0; t < texts.length; t++) {
+            if (t > 0) {
+                offset = step(offset, ' ', found);
+            }
+            CharSequence text = texts[t];
+            for (int i = 0; i < text.length(); i++) {
+                offset = step(offset, text.charAt(i), found);
+            }
+        }
+        return found;
+    }
+
+    private int step(int offset, char c, boolean[] found) {
+        int next = transitions[offset + (c < 128 ? asciiColumns[c] : otherColumn(c))];
+        for (int id : matches[next]) {
+            found[id] = true;
+        }
+        return next;
+    }
+
+    private int column(char c) {
+        return c < 128 ? asciiColumns[c] : otherColumn(c);
+    }
+
+    private int otherColumn(char c) {
+        return otherColumns.isEmpty() ? 0 : otherColumns.getOrDefault(Character.toLowerCase(c), 0);
+    }
+
+    private int[] newRow() {
+        int[] row = new int[columns];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
@@ -0,0 +1,67 @@
+package com.support.ticket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.support.ticket.dto.TicketFilter;
+import com.support.ticket.model.ExportFormat;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketExportReader;
+import com.support.ticket.service.export.CsvTicketExportWriter;
+import com.support.ticket.service.export.NdjsonTicketExportWriter;
+import com.support.ticket.service.export.TicketExportWriter;
+import com.support.ticket.service.export.XmlTicketExportWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TicketExportService {
+
+    private final TicketExportReader exportReader;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TicketExportService(TicketExportReader exportReader, ObjectMapper objectMapper,
+                               @Value("${ticket.export.fetch-size:500}") int fetchSize) {
+        this.exportReader = exportReader;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // Writes each matching ticket as it is read and then detaches it, so neither the result nor the persistence
+    // context holds more than one fetch of tickets at a time. Returns the number of tickets written.
+    @Transactional(readOnly = true)
+    public long export(TicketFilter filter, ExportFormat format, OutputStream output) throws IOException {
+        long exported = 0;
+        try (Stream<Ticket> tickets = exportReader.stream(filter, fetchSize)) {
+            TicketExportWriter writer = writerFor(format, output);
+            writer.start();
+            Iterator<Ticket> iterator = tickets.iterator();
+            while (iterator.hasNext()) {
+                Ticket ticket = iterator.next();
+                writer.write(ticket);
+                exportReader.detach(ticket);
+                exported++;
+            }
+            writer.finish();
+        }
+        return exported;
+    }
+
+    private TicketExportWriter writerFor(ExportFormat format, OutputStream output) throws IOException {
+        switch (format) {
+            case CSV:
+                return new CsvTicketExportWriter(output);
+            case NDJSON:
+                return new NdjsonTicketExportWriter(output, objectMapper);
+            case XML:
+                return new XmlTicketExportWriter(output);
+            default:
+                throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+}
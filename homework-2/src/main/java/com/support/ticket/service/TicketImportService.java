@@ -3,18 +3,31 @@ package com.support.ticket.service;
 import com.support.ticket.dto.BulkImportResponse;
 import com.support.ticket.dto.CreateTicketRequest;
 import com.support.ticket.exception.ImportException;
+import com.support.ticket.model.Ticket;
 import com.support.ticket.service.parser.CsvImportParser;
 import com.support.ticket.service.parser.JsonImportParser;
 import com.support.ticket.service.parser.XmlImportParser;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Service
 public class TicketImportService {
@@ -23,65 +36,245 @@ public class TicketImportService {
     private final JsonImportParser jsonParser;
     private final XmlImportParser xmlParser;
     private final TicketService ticketService;
+    private final ClassificationService classificationService;
     private final Validator validator;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final int maxChunksInFlight;
+    private final ExecutorService workers;
 
     public TicketImportService(CsvImportParser csvParser, JsonImportParser jsonParser,
                                XmlImportParser xmlParser, TicketService ticketService,
-                               Validator validator) {
+                               ClassificationService classificationService, Validator validator,
+                               @Value("${ticket.import.chunk-size:500}") int chunkSize,
+                               @Value("${ticket.import.max-reported-errors:1000}") int maxReportedErrors,
+                               @Value("${ticket.import.workers:0}") int workers) {
         this.csvParser = csvParser;
         this.jsonParser = jsonParser;
         this.xmlParser = xmlParser;
         this.ticketService = ticketService;
+        this.classificationService = classificationService;
         this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.maxChunksInFlight = threads * 2;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ticket-import-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
     }
 
     public BulkImportResponse importTickets(MultipartFile file) {
+        return importTickets(file, false);
+    }
+
+    public BulkImportResponse importTickets(MultipartFile file, boolean autoClassify) {
         String filename = file.getOriginalFilename();
+        checkSupportedFormat(filename);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return importTickets(filename, inputStream, autoClassify, new ImportProgress());
+        } catch (IOException e) {
+            throw new ImportException("Failed to read file: " + e.getMessage(), e);
+        }
+    }
+
+    BulkImportResponse importTickets(String filename, InputStream inputStream, boolean autoClassify,
+                                     ImportProgress progress) {
+        try (Stream<CreateTicketRequest> requests = openRequests(filename, inputStream)) {
+            return importRequests(requests, autoClassify, progress);
+        }
+    }
+
+    void checkSupportedFormat(String filename) {
         if (filename == null) {
             throw new ImportException("File name is required");
         }
+        if (!filename.endsWith(".csv") && !filename.endsWith(".json") && !filename.endsWith(".xml")) {
+            throw new ImportException("Unsupported file format. Supported: csv, json, xml");
+        }
+    }
+
+    // Three stages: this thread parses rows into chunks, the worker pool validates (and optionally classifies)
+    // each chunk, and this thread persists finished chunks in file order. At most maxChunksInFlight chunks are
+    // parsed ahead of the one being persisted, so memory stays bounded however large the file is.
+    // Cancelling stops reading; chunks already saved stay imported and chunks still in flight are dropped.
+    private BulkImportResponse importRequests(Stream<CreateTicketRequest> requests, boolean autoClassify,
+                                              ImportProgress progress) {
+        Deque<Future<List<ProcessedRow>>> inFlight = new ArrayDeque<>();
+        List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+        boolean submitted = false;
 
-        List<CreateTicketRequest> requests;
         try {
-            if (filename.endsWith(".csv")) {
-                requests = csvParser.parse(file.getInputStream());
-            } else if (filename.endsWith(".json")) {
-                requests = jsonParser.parse(file.getInputStream());
-            } else if (filename.endsWith(".xml")) {
-                requests = xmlParser.parse(file.getInputStream());
-            } else {
-                throw new ImportException("Unsupported file format. Supported: csv, json, xml");
+            Iterator<CreateTicketRequest> iterator = requests.iterator();
+            while (!progress.cancelled) {
+                CreateTicketRequest request;
+                try {
+                    if (!iterator.hasNext()) {
+                        break;
+                    }
+                    request = iterator.next();
+                } catch (ImportException e) {
+                    // Before the first full chunk the whole file is rejected; after it, earlier rows stay imported
+                    if (!submitted) {
+                        throw e;
+                    }
+                    progress.total++;
+                    progress.fileError = new BulkImportResponse.ImportError(progress.total, "file", e.getMessage());
+                    progress.processed++;
+                    break;
+                }
+                progress.total++;
+                chunk.add(new ParsedRow(progress.total, request));
+
+                if (chunk.size() == chunkSize) {
+                    inFlight.add(submit(chunk, autoClassify));
+                    submitted = true;
+                    chunk = new ArrayList<>(chunkSize);
+                    if (inFlight.size() >= maxChunksInFlight) {
+                        persist(inFlight.poll(), progress);
+                    }
+                }
             }
-        } catch (IOException e) {
-            throw new ImportException("Failed to read file: " + e.getMessage(), e);
+            if (!chunk.isEmpty() && !progress.cancelled) {
+                inFlight.add(submit(chunk, autoClassify));
+            }
+            while (!inFlight.isEmpty() && !progress.cancelled) {
+                persist(inFlight.poll(), progress);
+            }
+        } finally {
+            inFlight.forEach(pending -> pending.cancel(true));
         }
 
-        int total = requests.size();
-        int successful = 0;
-        List<BulkImportResponse.ImportError> errors = new ArrayList<>();
+        if (progress.fileError != null) {
+            addError(progress.errors, progress.fileError);
+        }
+        int total = progress.cancelled ? progress.processed : progress.total;
+        return new BulkImportResponse(total, progress.successful, total - progress.successful, progress.errors);
+    }
 
-        for (int i = 0; i < requests.size(); i++) {
-            CreateTicketRequest request = requests.get(i);
-            Set<ConstraintViolation<CreateTicketRequest>> violations = validator.validate(request);
+    private Stream<CreateTicketRequest> openRequests(String filename, InputStream inputStream) {
+        if (filename.endsWith(".csv")) {
+            return csvParser.stream(inputStream);
+        } else if (filename.endsWith(".json")) {
+            return jsonParser.stream(inputStream);
+        } else if (filename.endsWith(".xml")) {
+            return xmlParser.stream(inputStream);
+        } else {
+            throw new ImportException("Unsupported file format. Supported: csv, json, xml");
+        }
+    }
 
-            if (violations.isEmpty()) {
-                try {
-                    ticketService.createTicket(request);
-                    successful++;
-                } catch (Exception e) {
-                    errors.add(new BulkImportResponse.ImportError(i + 1, "general", e.getMessage()));
-                }
+    private Future<List<ProcessedRow>> submit(List<ParsedRow> chunk, boolean autoClassify) {
+        return workers.submit(() -> {
+            List<ProcessedRow> processed = new ArrayList<>(chunk.size());
+            for (ParsedRow row : chunk) {
+                processed.add(process(row, autoClassify));
+            }
+            return processed;
+        });
+    }
+
+    private ProcessedRow process(ParsedRow row, boolean autoClassify) {
+        Set<ConstraintViolation<CreateTicketRequest>> violations = validator.validate(row.request);
+        if (!violations.isEmpty()) {
+            List<BulkImportResponse.ImportError> errors = new ArrayList<>(violations.size());
+            for (ConstraintViolation<CreateTicketRequest> violation : violations) {
+                errors.add(new BulkImportResponse.ImportError(
+                        row.line,
+                        violation.getPropertyPath().toString(),
+                        violation.getMessage()
+                ));
+            }
+            return new ProcessedRow(row.line, null, errors);
+        }
+
+        Ticket ticket = ticketService.toEntity(row.request);
+        if (autoClassify) {
+            classificationService.applyClassification(ticket);
+        }
+        return new ProcessedRow(row.line, ticket, List.of());
+    }
+
+    private void persist(Future<List<ProcessedRow>> pending, ImportProgress progress) {
+        List<ProcessedRow> rows;
+        try {
+            rows = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportException("Import was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ImportException("Failed to process rows: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        List<Ticket> tickets = new ArrayList<>(rows.size());
+        List<Integer> lines = new ArrayList<>(rows.size());
+        for (ProcessedRow row : rows) {
+            if (row.ticket != null) {
+                tickets.add(row.ticket);
+                lines.add(row.line);
             } else {
-                for (ConstraintViolation<CreateTicketRequest> violation : violations) {
-                    errors.add(new BulkImportResponse.ImportError(
-                            i + 1,
-                            violation.getPropertyPath().toString(),
-                            violation.getMessage()
-                    ));
+                row.errors.forEach(error -> addError(progress.errors, error));
+            }
+        }
+        int saved = tickets.isEmpty() ? 0 : insert(tickets, lines, progress);
+        // processed is raised first so that readers, which read successful first, never see successful > processed
+        progress.processed += rows.size();
+        progress.successful += saved;
+    }
+
+    private int insert(List<Ticket> tickets, List<Integer> lines, ImportProgress progress) {
+        try {
+            return ticketService.insertTickets(tickets);
+        } catch (Exception e) {
+            // The chunk was rolled back; retry its rows one by one so only the failing ones are reported
+            int saved = 0;
+            for (int i = 0; i < tickets.size(); i++) {
+                try {
+                    saved += ticketService.insertTickets(List.of(tickets.get(i)));
+                } catch (Exception rowError) {
+                    addError(progress.errors, new BulkImportResponse.ImportError(lines.get(i), "general",
+                            rowError.getMessage()));
                 }
             }
+            return saved;
+        }
+    }
+
+    // Failed counts stay exact; only the detailed error list is capped
+    private void addError(List<BulkImportResponse.ImportError> errors, BulkImportResponse.ImportError error) {
+        if (errors.size() < maxReportedErrors) {
+            errors.add(error);
         }
+    }
+
+    private static class ParsedRow {
+        final int line;
+        final CreateTicketRequest request;
 
-        return new BulkImportResponse(total, successful, total - successful, errors);
+        ParsedRow(int line, CreateTicketRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+    }
+
+    private static class ProcessedRow {
+        final int line;
+        final Ticket ticket;
+        final List<BulkImportResponse.ImportError> errors;
+
+        ProcessedRow(int line, Ticket ticket, List<BulkImportResponse.ImportError> errors) {
+            this.line = line;
+            this.ticket = ticket;
+            this.errors = errors;
+        }
     }
 }
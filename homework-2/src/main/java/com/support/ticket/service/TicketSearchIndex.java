@@ -0,0 +1,327 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketBatchReader;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over ticket subject, description and tags, ranked with BM25. It is filled from the
+// tickets table at startup and TicketService keeps it in step with every create, update and delete.
+// Each ticket is a document number; postings lists hold document numbers in ascending order, so a search merges
+// them in one pass. A changed ticket is appended under a new number and its old document only marked removed;
+// removed documents are dropped, and numbers compacted, once they outnumber the live ones.
+@Component
+public class TicketSearchIndex implements SmartInitializingSingleton {
+
+    static final int MAX_RESULTS = 10000;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Subject terms count this many times, so a match in the subject outranks one in the description
+    private static final int SUBJECT_WEIGHT = 2;
+    private static final int MIN_REMOVED_BEFORE_COMPACTION = 1024;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "i", "if", "in", "into", "is", "it",
+            "me", "my", "of", "on", "or", "so", "that", "the", "their", "this", "to", "was", "we", "with");
+
+    private final TicketBatchReader ticketBatchReader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> documents = new HashMap<>();
+    // By document number: ticket id, and weighted term count or -1 once removed
+    private UUID[] ids = new UUID[1024];
+    private int[] lengths = new int[1024];
+    private int documentCount;
+    private int liveCount;
+    private long liveLength;
+
+    public TicketSearchIndex(TicketBatchReader ticketBatchReader) {
+        this.ticketBatchReader = ticketBatchReader;
+    }
+
+    // Runs once the schema exists and before the web server takes requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            Arrays.fill(ids, 0, documentCount, null);
+            documentCount = 0;
+            liveCount = 0;
+            liveLength = 0;
+            ticketBatchReader.forEachSearchText(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds the tickets, replacing what was indexed for any of them before
+    public void index(List<Ticket> tickets) {
+        lock.writeLock().lock();
+        try {
+            for (Ticket ticket : tickets) {
+                removeDocument(ticket.getId());
+                add(ticket);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Tickets matching any query term, best first; ties go to the most recently indexed ticket
+    public Result search(String query, int offset, int limit) {
+        List<String> terms = terms(query).stream().distinct().toList();
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            if (lists.isEmpty() || liveCount == 0) {
+                return new Result(0, List.of());
+            }
+
+            // Document frequencies still count removed documents until the next compaction
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = lists.get(i).size;
+                idf[i] = Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+            }
+            double averageLength = (double) liveLength / liveCount;
+
+            int wanted = offset + limit;
+            PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::getScore)
+                    .thenComparingInt(match -> match.document));
+            int[] cursors = new int[lists.size()];
+            int total = 0;
+            while (true) {
+                int document = Integer.MAX_VALUE;
+                for (int i = 0; i < cursors.length; i++) {
+                    Postings list = lists.get(i);
+                    if (cursors[i] < list.size && list.documents[cursors[i]] < document) {
+                        document = list.documents[cursors[i]];
+                    }
+                }
+                if (document == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                int length = lengths[document];
+                double score = 0;
+                for (int i = 0; i < cursors.length; i++) {
+                    Postings list = lists.get(i);
+                    if (cursors[i] < list.size && list.documents[cursors[i]] == document) {
+                        int tf = list.frequencies[cursors[i]++];
+                        score += idf[i] * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+                    }
+                }
+                if (length < 0) {
+                    continue;
+                }
+                total++;
+                if (best.size() < wanted) {
+                    best.add(new Match(document, ids[document], score));
+                } else if (score > best.peek().score
+                        || (score == best.peek().score && document > best.peek().document)) {
+                    best.poll();
+                    best.add(new Match(document, ids[document], score));
+                }
+            }
+
+            List<Match> ranked = new ArrayList<>(best);
+            ranked.sort(best.comparator().reversed());
+            return new Result(total, ranked.subList(Math.min(offset, ranked.size()), ranked.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lower-cased runs of letters and digits, without stop words
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!STOP_WORDS.contains(term)) {
+                    terms.add(term);
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private void add(Ticket ticket) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int length = count(ticket.getSubject(), SUBJECT_WEIGHT, frequencies)
+                + count(ticket.getDescription(), 1, frequencies);
+        for (String tag : ticket.getTags()) {
+            length += count(tag, 1, frequencies);
+        }
+
+        if (documentCount == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        int document = documentCount++;
+        ids[document] = ticket.getId();
+        lengths[document] = length;
+        documents.put(ticket.getId(), document);
+        liveCount++;
+        liveLength += length;
+        for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(document, entry.getValue()[0]);
+        }
+    }
+
+    private static int count(String text, int weight, Map<String, int[]> frequencies) {
+        List<String> terms = terms(text);
+        for (String term : terms) {
+            frequencies.computeIfAbsent(term, t -> new int[1])[0] += weight;
+        }
+        return terms.size() * weight;
+    }
+
+    private void removeDocument(UUID id) {
+        Integer document = documents.remove(id);
+        if (document != null) {
+            liveCount--;
+            liveLength -= lengths[document];
+            lengths[document] = -1;
+        }
+    }
+
+    private void compactIfNeeded() {
+        int removed = documentCount - liveCount;
+        if (removed < MIN_REMOVED_BEFORE_COMPACTION || removed < liveCount) {
+            return;
+        }
+        int[] renumbered = new int[documentCount];
+        int next = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (lengths[document] >= 0) {
+                renumbered[document] = next;
+                ids[next] = ids[document];
+                lengths[next] = lengths[document];
+                documents.put(ids[next], next);
+                next++;
+            } else {
+                renumbered[document] = -1;
+            }
+        }
+        Arrays.fill(ids, next, documentCount, null);
+        documentCount = next;
+
+        Iterator<Postings> lists = postings.values().iterator();
+        while (lists.hasNext()) {
+            Postings list = lists.next();
+            int kept = 0;
+            for (int i = 0; i < list.size; i++) {
+                int document = renumbered[list.documents[i]];
+                if (document >= 0) {
+                    list.documents[kept] = document;
+                    list.frequencies[kept] = list.frequencies[i];
+                    kept++;
+                }
+            }
+            list.size = kept;
+            if (kept == 0) {
+                lists.remove();
+            }
+        }
+    }
+
+    // Documents containing one term, in ascending document order, with the weighted term frequency of each
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    public static final class Match {
+        private final int document;
+        private final UUID id;
+        private final double score;
+
+        Match(int document, UUID id, double score) {
+            this.document = document;
+            this.id = id;
+            this.score = score;
+        }
+
+        public UUID getId() { return id; }
+        public double getScore() { return score; }
+    }
+
+    public static final class Result {
+        private final int total;
+        private final List<Match> matches;
+
+        Result(int total, List<Match> matches) {
+            this.total = total;
+            this.matches = matches;
+        }
+
+        public int getTotal() { return total; }
+        public List<Match> getMatches() { return matches; }
+    }
+}
@@ -1,28 +1,88 @@
 package com.support.ticket.service;
 
 import com.support.ticket.dto.CreateTicketRequest;
+import com.support.ticket.dto.TicketFilter;
+import com.support.ticket.dto.TicketPageResponse;
 import com.support.ticket.dto.TicketResponse;
+import com.support.ticket.dto.TicketSearchResponse;
+import com.support.ticket.dto.TicketSummaryResponse;
 import com.support.ticket.dto.UpdateTicketRequest;
 import com.support.ticket.exception.TicketNotFoundException;
 import com.support.ticket.model.*;
+import com.support.ticket.repository.TicketBatchWriter;
+import com.support.ticket.repository.TicketPageReader;
 import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.repository.TicketSpecifications;
+import com.support.ticket.repository.TicketSummary;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 public class TicketService {
 
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final TicketRepository ticketRepository;
+    private final TicketBatchWriter ticketBatchWriter;
+    private final TicketPageReader ticketPageReader;
+    private final ClassificationService classificationService;
+    private final TicketSearchIndex searchIndex;
 
-    public TicketService(TicketRepository ticketRepository) {
+    public TicketService(TicketRepository ticketRepository, TicketBatchWriter ticketBatchWriter,
+                         TicketPageReader ticketPageReader, ClassificationService classificationService,
+                         TicketSearchIndex searchIndex) {
         this.ticketRepository = ticketRepository;
+        this.ticketBatchWriter = ticketBatchWriter;
+        this.ticketPageReader = ticketPageReader;
+        this.classificationService = classificationService;
+        this.searchIndex = searchIndex;
     }
 
     public TicketResponse createTicket(CreateTicketRequest request) {
+        return createTicket(request, false);
+    }
+
+    // Classifies the new entity before it is first persisted, so an auto-classified ticket costs one insert
+    // and the response is built from the saved entity without reading it back
+    @Transactional
+    public TicketResponse createTicket(CreateTicketRequest request, boolean autoClassify) {
+        Ticket ticket = toEntity(request);
+        if (autoClassify) {
+            classificationService.applyClassification(ticket);
+        }
+        Ticket saved = ticketRepository.save(ticket);
+        afterCommit(() -> searchIndex.index(List.of(saved)));
+        return TicketResponse.fromEntity(saved);
+    }
+
+    @Transactional
+    public int insertTickets(List<Ticket> tickets) {
+        int inserted = ticketBatchWriter.insertAll(tickets);
+        afterCommit(() -> searchIndex.index(tickets));
+        return inserted;
+    }
+
+    @Transactional
+    public int updateClassifications(List<Ticket> tickets) {
+        return ticketBatchWriter.updateClassifications(tickets);
+    }
+
+    public Ticket toEntity(CreateTicketRequest request) {
         Ticket ticket = new Ticket();
         ticket.setCustomerId(request.getCustomerId());
         ticket.setCustomerEmail(request.getCustomerEmail());
@@ -43,32 +103,107 @@ public class TicketService {
             metadata.setDeviceType(request.getMetadata().getDeviceType());
             ticket.setMetadata(metadata);
         }
-        Ticket saved = ticketRepository.save(ticket);
-        return TicketResponse.fromEntity(saved);
+        return ticket;
     }
 
-    public List<TicketResponse> getAllTickets(Category category, Priority priority, Status status) {
-        List<Ticket> tickets;
-        if (category != null && priority != null && status != null) {
-            tickets = ticketRepository.findByCategoryAndPriorityAndStatus(category, priority, status);
-        } else if (category != null && priority != null) {
-            tickets = ticketRepository.findByCategoryAndPriority(category, priority);
-        } else if (category != null && status != null) {
-            tickets = ticketRepository.findByCategoryAndStatus(category, status);
-        } else if (priority != null && status != null) {
-            tickets = ticketRepository.findByPriorityAndStatus(priority, status);
-        } else if (category != null) {
-            tickets = ticketRepository.findByCategory(category);
-        } else if (priority != null) {
-            tickets = ticketRepository.findByPriority(priority);
-        } else if (status != null) {
-            tickets = ticketRepository.findByStatus(status);
-        } else {
-            tickets = ticketRepository.findAll();
-        }
+    public List<TicketResponse> getAllTickets(TicketFilter filter) {
+        List<Ticket> tickets = ticketRepository.findAll(TicketSpecifications.matching(filter));
         return tickets.stream().map(TicketResponse::fromEntity).collect(Collectors.toList());
     }
 
+    // One page of list-view rows matching the filter in (createdAt, id) order, plus their tags from a single
+    // secondary query. One row more than the limit is read to tell whether another page follows.
+    @Transactional(readOnly = true)
+    public TicketPageResponse getTicketPage(TicketFilter filter, int limit, String after) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Specification<Ticket> spec = TicketSpecifications.matching(filter);
+        if (after != null) {
+            String[] cursor = decodeCursor(after);
+            spec = spec.and(TicketSpecifications.after(LocalDateTime.parse(cursor[0]), UUID.fromString(cursor[1])));
+        }
+
+        List<TicketSummary> rows = ticketPageReader.findSummaries(spec, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<TicketSummary> page = hasMore ? rows.subList(0, limit) : rows;
+
+        Map<UUID, List<String>> tags = findTags(page.stream().map(TicketSummary::getId).collect(Collectors.toList()));
+        List<TicketSummaryResponse> items = new ArrayList<>(page.size());
+        for (TicketSummary summary : page) {
+            items.add(TicketSummaryResponse.fromSummary(summary, tags.getOrDefault(summary.getId(), List.of())));
+        }
+        TicketSummary last = hasMore ? page.get(page.size() - 1) : null;
+        return new TicketPageResponse(items, last != null ? encodeCursor(last) : null);
+    }
+
+    // Ranks tickets with the search index, then reads the list-view rows and tags of the requested slice only
+    @Transactional(readOnly = true)
+    public TicketSearchResponse searchTickets(String query, int offset, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        // Written so that offset + limit cannot overflow
+        if (offset < 0 || offset > TicketSearchIndex.MAX_RESULTS - limit) {
+            throw new IllegalArgumentException("offset must not be negative and offset + limit must not exceed "
+                    + TicketSearchIndex.MAX_RESULTS);
+        }
+
+        TicketSearchIndex.Result result = searchIndex.search(query, offset, limit);
+        List<UUID> ids = result.getMatches().stream().map(TicketSearchIndex.Match::getId).collect(Collectors.toList());
+        Map<UUID, TicketSummary> summaries = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (TicketSummary summary : ticketRepository.findSummariesByIds(ids)) {
+                summaries.put(summary.getId(), summary);
+            }
+        }
+        Map<UUID, List<String>> tags = findTags(ids);
+
+        List<TicketSearchResponse.Hit> items = new ArrayList<>(ids.size());
+        for (TicketSearchIndex.Match match : result.getMatches()) {
+            // A ticket deleted since the search ran is left out of the page
+            TicketSummary summary = summaries.get(match.getId());
+            if (summary != null) {
+                items.add(new TicketSearchResponse.Hit(match.getScore(),
+                        TicketSummaryResponse.fromSummary(summary, tags.getOrDefault(match.getId(), List.of()))));
+            }
+        }
+        return new TicketSearchResponse(query, result.getTotal(), offset, limit, items);
+    }
+
+    private Map<UUID, List<String>> findTags(List<UUID> ids) {
+        Map<UUID, List<String>> tags = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Object[] row : ticketRepository.findTagsByTicketIds(ids)) {
+                tags.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return tags;
+    }
+
+    // Opaque to clients: the createdAt and id of the last row, URL-safe Base64 encoded
+    private static String encodeCursor(TicketSummary last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length == 2) {
+                LocalDateTime.parse(position[0]);
+                UUID.fromString(position[1]);
+                return position;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Reported below like any other malformed cursor
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
     public TicketResponse getTicketById(UUID id) {
         Ticket ticket = ticketRepository.findById(id)
                 .orElseThrow(() -> new TicketNotFoundException(id));
@@ -101,6 +236,9 @@ public class TicketService {
         if (request.getTags() != null) ticket.setTags(request.getTags());
 
         Ticket saved = ticketRepository.save(ticket);
+        if (request.getSubject() != null || request.getDescription() != null || request.getTags() != null) {
+            afterCommit(() -> searchIndex.index(List.of(saved)));
+        }
         return TicketResponse.fromEntity(saved);
     }
 
@@ -109,9 +247,27 @@ public class TicketService {
             throw new TicketNotFoundException(id);
         }
         ticketRepository.deleteById(id);
+        afterCommit(() -> searchIndex.remove(id));
     }
 
     public Ticket saveTicket(Ticket ticket) {
-        return ticketRepository.save(ticket);
+        Ticket saved = ticketRepository.save(ticket);
+        afterCommit(() -> searchIndex.index(List.of(saved)));
+        return saved;
+    }
+
+    // The search index only sees committed changes: inside a transaction the update waits for the commit,
+    // and is dropped on rollback
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
     }
 }
@@ -0,0 +1,46 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.TicketStatsResponse;
+import com.support.ticket.repository.TicketStatsReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// Serves ticket statistics, reusing the last result for a short time so dashboards polling every few seconds
+// cost one aggregate query per interval rather than one per poll. Callers arriving while the result is being
+// recomputed wait for it instead of running the query again.
+@Service
+public class TicketStatsService {
+
+    private final TicketStatsReader statsReader;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private TicketStatsResponse cached;
+    private long cachedAt;
+
+    @Autowired
+    public TicketStatsService(TicketStatsReader statsReader, @Value("${ticket.stats.cache-ttl:5s}") Duration cacheTtl) {
+        this(statsReader, cacheTtl, System::nanoTime);
+    }
+
+    TicketStatsService(TicketStatsReader statsReader, Duration cacheTtl, LongSupplier nanoClock) {
+        this.statsReader = statsReader;
+        this.ttlNanos = cacheTtl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized TicketStatsResponse getStats() {
+        if (ttlNanos <= 0) {
+            return statsReader.read();
+        }
+        long now = nanoClock.getAsLong();
+        if (cached == null || now - cachedAt >= ttlNanos) {
+            cached = statsReader.read();
+            cachedAt = now;
+        }
+        return cached;
+    }
+}
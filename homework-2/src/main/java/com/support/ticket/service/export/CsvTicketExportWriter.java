@@ -0,0 +1,63 @@
+package com.support.ticket.service.export;
+
+import com.opencsv.CSVWriter;
+import com.support.ticket.model.Ticket;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+// One row per ticket. The first five columns match the CSV import format, so an export can be imported again;
+// tags are joined with ';'.
+public class CsvTicketExportWriter implements TicketExportWriter {
+
+    static final String[] HEADER = {
+            "customer_id", "customer_email", "customer_name", "subject", "description", "id", "category",
+            "priority", "status", "assigned_to", "tags", "source", "browser", "device_type",
+            "classification_confidence", "created_at", "updated_at", "resolved_at"
+    };
+
+    private final CSVWriter csv;
+
+    public CsvTicketExportWriter(OutputStream output) {
+        this.csv = new CSVWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void start() {
+        csv.writeNext(HEADER, false);
+    }
+
+    @Override
+    public void write(Ticket ticket) {
+        csv.writeNext(new String[]{
+                ticket.getCustomerId(),
+                ticket.getCustomerEmail(),
+                ticket.getCustomerName(),
+                ticket.getSubject(),
+                ticket.getDescription(),
+                ExportValues.of(ticket.getId()),
+                ticket.getCategory() != null ? ticket.getCategory().getValue() : null,
+                ticket.getPriority() != null ? ticket.getPriority().getValue() : null,
+                ticket.getStatus() != null ? ticket.getStatus().getValue() : null,
+                ticket.getAssignedTo(),
+                String.join(";", ticket.getTags()),
+                ticket.getMetadata() != null && ticket.getMetadata().getSource() != null
+                        ? ticket.getMetadata().getSource().getValue() : null,
+                ticket.getMetadata() != null ? ticket.getMetadata().getBrowser() : null,
+                ticket.getMetadata() != null && ticket.getMetadata().getDeviceType() != null
+                        ? ticket.getMetadata().getDeviceType().getValue() : null,
+                ExportValues.of(ticket.getClassificationConfidence()),
+                ExportValues.of(ticket.getCreatedAt()),
+                ExportValues.of(ticket.getUpdatedAt()),
+                ExportValues.of(ticket.getResolvedAt())
+        }, false);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        csv.flush();
+    }
+}
@@ -0,0 +1,18 @@
+package com.support.ticket.service.export;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Text form of optional values in CSV and XML exports: null stays null, so the field is left empty or omitted.
+// Timestamps are formatted like the JSON responses, always with seconds.
+final class ExportValues {
+
+    private ExportValues() {}
+
+    static String of(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+        }
+        return value != null ? value.toString() : null;
+    }
+}
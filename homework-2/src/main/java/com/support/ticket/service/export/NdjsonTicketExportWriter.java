@@ -0,0 +1,37 @@
+package com.support.ticket.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.support.ticket.dto.TicketResponse;
+import com.support.ticket.model.Ticket;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// One JSON object per line, in the same shape as GET /tickets/{id}
+public class NdjsonTicketExportWriter implements TicketExportWriter {
+
+    private final JsonGenerator generator;
+
+    public NdjsonTicketExportWriter(OutputStream output, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines are separated by '\n' alone, not also by the default root value separator (a space)
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void write(Ticket ticket) throws IOException {
+        generator.writeObject(TicketResponse.fromEntity(ticket));
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,16 @@
+package com.support.ticket.service.export;
+
+import com.support.ticket.model.Ticket;
+
+import java.io.IOException;
+
+// Writes tickets to an output stream one at a time in a single export format. The output stream belongs to the
+// caller: finish flushes what is buffered but leaves the stream open.
+public interface TicketExportWriter {
+
+    void start() throws IOException;
+
+    void write(Ticket ticket) throws IOException;
+
+    void finish() throws IOException;
+}
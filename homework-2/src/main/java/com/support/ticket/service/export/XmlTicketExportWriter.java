@@ -0,0 +1,95 @@
+package com.support.ticket.service.export;
+
+import com.support.ticket.model.Ticket;
+import com.support.ticket.model.TicketMetadata;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+
+// A <tickets> document with one <ticket> element per ticket, written with StAX. Element names are the field
+// names of the JSON responses, tags are wrapped like in the XML import format, and empty fields are left out.
+public class XmlTicketExportWriter implements TicketExportWriter {
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final XMLStreamWriter xml;
+
+    public XmlTicketExportWriter(OutputStream output) throws IOException {
+        try {
+            this.xml = OUTPUT_FACTORY.createXMLStreamWriter(output, "UTF-8");
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot start XML export", e);
+        }
+    }
+
+    @Override
+    public void start() throws IOException {
+        try {
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("tickets");
+        } catch (XMLStreamException e) {
+            throw new IOException("XML export failed", e);
+        }
+    }
+
+    @Override
+    public void write(Ticket ticket) throws IOException {
+        try {
+            xml.writeStartElement("ticket");
+            element("id", ExportValues.of(ticket.getId()));
+            element("customerId", ticket.getCustomerId());
+            element("customerEmail", ticket.getCustomerEmail());
+            element("customerName", ticket.getCustomerName());
+            element("subject", ticket.getSubject());
+            element("description", ticket.getDescription());
+            element("category", ticket.getCategory() != null ? ticket.getCategory().getValue() : null);
+            element("priority", ticket.getPriority() != null ? ticket.getPriority().getValue() : null);
+            element("status", ticket.getStatus() != null ? ticket.getStatus().getValue() : null);
+            element("assignedTo", ticket.getAssignedTo());
+            if (!ticket.getTags().isEmpty()) {
+                xml.writeStartElement("tags");
+                for (String tag : ticket.getTags()) {
+                    element("tag", tag);
+                }
+                xml.writeEndElement();
+            }
+            TicketMetadata metadata = ticket.getMetadata();
+            if (metadata != null) {
+                xml.writeStartElement("metadata");
+                element("source", metadata.getSource() != null ? metadata.getSource().getValue() : null);
+                element("browser", metadata.getBrowser());
+                element("deviceType", metadata.getDeviceType() != null ? metadata.getDeviceType().getValue() : null);
+                xml.writeEndElement();
+            }
+            element("classificationConfidence", ExportValues.of(ticket.getClassificationConfidence()));
+            element("createdAt", ExportValues.of(ticket.getCreatedAt()));
+            element("updatedAt", ExportValues.of(ticket.getUpdatedAt()));
+            element("resolvedAt", ExportValues.of(ticket.getResolvedAt()));
+            xml.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new IOException("XML export failed", e);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try {
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException("XML export failed", e);
+        }
+    }
+
+    private void element(String name, String value) throws XMLStreamException {
+        if (value != null) {
+            xml.writeStartElement(name);
+            xml.writeCharacters(value);
+            xml.writeEndElement();
+        }
+    }
+}
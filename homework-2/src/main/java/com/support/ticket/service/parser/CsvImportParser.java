@@ -1,7 +1,7 @@
 package com.support.ticket.service.parser;
 
 import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
 import com.support.ticket.dto.CreateTicketRequest;
 import com.support.ticket.exception.ImportException;
 import org.springframework.stereotype.Component;
@@ -9,7 +9,10 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class CsvImportParser {
@@ -19,13 +22,21 @@ public class CsvImportParser {
     );
 
     public List<CreateTicketRequest> parse(InputStream inputStream) {
-        try (CSVReader reader = new CSVReader(new InputStreamReader(inputStream))) {
-            List<String[]> allRows = reader.readAll();
-            if (allRows.isEmpty()) {
-                return Collections.emptyList();
+        try (Stream<CreateTicketRequest> requests = stream(inputStream)) {
+            return requests.collect(Collectors.toList());
+        }
+    }
+
+    // Reads the header eagerly, then one row per element; closing the stream closes the input
+    public Stream<CreateTicketRequest> stream(InputStream inputStream) {
+        CSVReader reader = new CSVReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        try {
+            String[] headers = reader.readNext();
+            if (headers == null) {
+                RecordStreams.close(reader);
+                return Stream.empty();
             }
 
-            String[] headers = allRows.get(0);
             Map<String, Integer> headerMap = new HashMap<>();
             for (int i = 0; i < headers.length; i++) {
                 headerMap.put(headers[i].trim().toLowerCase(), i);
@@ -37,27 +48,35 @@ public class CsvImportParser {
                 }
             }
 
-            List<CreateTicketRequest> requests = new ArrayList<>();
-            for (int i = 1; i < allRows.size(); i++) {
-                String[] row = allRows.get(i);
-                if (row.length == 0 || (row.length == 1 && row[0].isBlank())) {
-                    continue;
-                }
-                CreateTicketRequest request = new CreateTicketRequest();
-                request.setCustomerId(getColumn(row, headerMap, "customer_id"));
-                request.setCustomerEmail(getColumn(row, headerMap, "customer_email"));
-                request.setCustomerName(getColumn(row, headerMap, "customer_name"));
-                request.setSubject(getColumn(row, headerMap, "subject"));
-                request.setDescription(getColumn(row, headerMap, "description"));
-                requests.add(request);
-            }
-
-            return requests;
-        } catch (IOException | CsvException e) {
-            throw new ImportException("Failed to parse CSV file: " + e.getMessage(), e);
+            return RecordStreams.of(() -> nextRow(reader, headerMap), reader, "CSV");
+        } catch (IOException | CsvValidationException e) {
+            RecordStreams.close(reader);
+            throw RecordStreams.failure("CSV", e);
+        } catch (RuntimeException e) {
+            RecordStreams.close(reader);
+            throw e;
         }
     }
 
+    private CreateTicketRequest nextRow(CSVReader reader, Map<String, Integer> headerMap)
+            throws IOException, CsvValidationException {
+        String[] row;
+        do {
+            row = reader.readNext();
+        } while (row != null && (row.length == 0 || (row.length == 1 && row[0].isBlank())));
+        return row != null ? toRequest(row, headerMap) : null;
+    }
+
+    private CreateTicketRequest toRequest(String[] row, Map<String, Integer> headerMap) {
+        CreateTicketRequest request = new CreateTicketRequest();
+        request.setCustomerId(getColumn(row, headerMap, "customer_id"));
+        request.setCustomerEmail(getColumn(row, headerMap, "customer_email"));
+        request.setCustomerName(getColumn(row, headerMap, "customer_name"));
+        request.setSubject(getColumn(row, headerMap, "subject"));
+        request.setDescription(getColumn(row, headerMap, "description"));
+        return request;
+    }
+
     private String getColumn(String[] row, Map<String, Integer> headerMap, String column) {
         Integer index = headerMap.get(column);
         if (index == null || index >= row.length) {
@@ -1,42 +1,75 @@
 package com.support.ticket.service.parser;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.support.ticket.dto.CreateTicketRequest;
 import com.support.ticket.exception.ImportException;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class JsonImportParser {
 
     private final ObjectMapper objectMapper;
+    private final ObjectReader requestReader;
 
     public JsonImportParser(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.requestReader = objectMapper.readerFor(CreateTicketRequest.class);
     }
 
     public List<CreateTicketRequest> parse(InputStream inputStream) {
+        try (Stream<CreateTicketRequest> requests = stream(inputStream)) {
+            return requests.collect(Collectors.toList());
+        }
+    }
+
+    // Accepts an array of tickets or a single ticket object; array elements are bound one at a time as they are read
+    public Stream<CreateTicketRequest> stream(InputStream inputStream) {
+        JsonParser parser = null;
         try {
-            byte[] bytes = inputStream.readAllBytes();
-            if (bytes.length == 0) {
-                return Collections.emptyList();
+            parser = objectMapper.getFactory().createParser(inputStream);
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                parser.close();
+                return Stream.empty();
             }
-            String content = new String(bytes).trim();
-            if (content.startsWith("[")) {
-                return objectMapper.readValue(content, new TypeReference<List<CreateTicketRequest>>() {});
-            } else if (content.startsWith("{")) {
-                CreateTicketRequest single = objectMapper.readValue(content, CreateTicketRequest.class);
-                return List.of(single);
-            } else {
+            if (first == JsonToken.START_OBJECT) {
+                CreateTicketRequest single = requestReader.readValue(parser);
+                parser.close();
+                return Stream.of(single);
+            }
+            if (first != JsonToken.START_ARRAY) {
                 throw new ImportException("Invalid JSON format: expected array or object");
             }
+
+            JsonParser elements = parser;
+            return RecordStreams.of(() -> nextElement(elements), elements, "JSON");
         } catch (IOException e) {
-            throw new ImportException("Failed to parse JSON file: " + e.getMessage(), e);
+            if (parser != null) {
+                RecordStreams.close(parser);
+            }
+            throw RecordStreams.failure("JSON", e);
+        } catch (RuntimeException e) {
+            if (parser != null) {
+                RecordStreams.close(parser);
+            }
+            throw e;
+        }
+    }
+
+    private CreateTicketRequest nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return null;
         }
+        return requestReader.readValue(parser);
     }
 }
@@ -0,0 +1,60 @@
+package com.support.ticket.service.parser;
+
+import com.support.ticket.dto.CreateTicketRequest;
+import com.support.ticket.exception.ImportException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Turns a record-at-a-time reader into a lazy Stream that closes the underlying source when it is closed
+final class RecordStreams {
+
+    @FunctionalInterface
+    interface RecordReader {
+        // Returns null once the input is exhausted
+        CreateTicketRequest next() throws Exception;
+    }
+
+    private RecordStreams() {}
+
+    static Stream<CreateTicketRequest> of(RecordReader reader, Closeable source, String format) {
+        Spliterator<CreateTicketRequest> records = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super CreateTicketRequest> action) {
+                CreateTicketRequest request;
+                try {
+                    request = reader.next();
+                } catch (ImportException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw failure(format, e);
+                }
+                if (request == null) {
+                    return false;
+                }
+                action.accept(request);
+                return true;
+            }
+        };
+        return StreamSupport.stream(records, false).onClose(() -> close(source));
+    }
+
+    static ImportException failure(String format, Exception cause) {
+        return new ImportException("Failed to parse " + format + " file: " + cause.getMessage(), cause);
+    }
+
+    static void close(Closeable source) {
+        try {
+            source.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,21 +1,26 @@
 package com.support.ticket.service.parser;
 
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
-import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 import com.support.ticket.dto.CreateTicketRequest;
 import com.support.ticket.exception.ImportException;
 import org.springframework.stereotype.Component;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class XmlImportParser {
 
+    private static final String TICKET_ELEMENT = "ticket";
+
     private final XmlMapper xmlMapper;
 
     public XmlImportParser() {
@@ -23,33 +28,79 @@ public class XmlImportParser {
     }
 
     public List<CreateTicketRequest> parse(InputStream inputStream) {
+        try (Stream<CreateTicketRequest> requests = stream(inputStream)) {
+            return requests.collect(Collectors.toList());
+        }
+    }
+
+    // Walks <tickets> with StAX and binds each <ticket> element on its own as it is reached
+    public Stream<CreateTicketRequest> stream(InputStream inputStream) {
+        BufferedInputStream input = new BufferedInputStream(inputStream);
+        XMLStreamReader reader = null;
         try {
-            byte[] bytes = inputStream.readAllBytes();
-            if (bytes.length == 0) {
-                return Collections.emptyList();
-            }
-            String content = new String(bytes).trim();
-            if (content.isEmpty()) {
-                return Collections.emptyList();
+            if (isBlank(input)) {
+                input.close();
+                return Stream.empty();
             }
-            TicketList ticketList = xmlMapper.readValue(content, TicketList.class);
-            if (ticketList.getTickets() == null) {
-                return Collections.emptyList();
-            }
-            return ticketList.getTickets();
-        } catch (IOException e) {
-            throw new ImportException("Failed to parse XML file: " + e.getMessage(), e);
+            reader = xmlMapper.getFactory().getXMLInputFactory().createXMLStreamReader(input);
+            reader.nextTag();
+
+            XMLStreamReader elements = reader;
+            Closeable source = () -> closeReader(elements, input);
+            return RecordStreams.of(() -> nextTicket(elements), source, "XML");
+        } catch (IOException | XMLStreamException e) {
+            closeQuietly(reader, input);
+            throw RecordStreams.failure("XML", e);
+        } catch (RuntimeException e) {
+            closeQuietly(reader, input);
+            throw e;
         }
     }
 
-    @JacksonXmlRootElement(localName = "tickets")
-    public static class TicketList {
+    private CreateTicketRequest nextTicket(XMLStreamReader reader) throws IOException, XMLStreamException {
+        int event = reader.nextTag();
+        if (event == XMLStreamConstants.END_ELEMENT) {
+            return null;
+        }
+        if (!TICKET_ELEMENT.equals(reader.getLocalName())) {
+            throw new ImportException("Unexpected element <" + reader.getLocalName() + ">, expected <ticket>");
+        }
+        // Leaves the reader on the closing </ticket> tag
+        return xmlMapper.readValue(reader, CreateTicketRequest.class);
+    }
 
-        @JacksonXmlElementWrapper(useWrapping = false)
-        @JacksonXmlProperty(localName = "ticket")
-        private List<CreateTicketRequest> tickets;
+    // Whitespace-only input is treated as an empty import rather than a parse error
+    private boolean isBlank(BufferedInputStream input) throws IOException {
+        int next;
+        do {
+            input.mark(1);
+            next = input.read();
+        } while (next != -1 && Character.isWhitespace(next));
+        if (next == -1) {
+            return true;
+        }
+        input.reset();
+        return false;
+    }
 
-        public List<CreateTicketRequest> getTickets() { return tickets; }
-        public void setTickets(List<CreateTicketRequest> tickets) { this.tickets = tickets; }
+    private void closeReader(XMLStreamReader reader, InputStream input) throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            input.close();
+        }
+    }
+
+    private void closeQuietly(XMLStreamReader reader, InputStream input) {
+        try {
+            if (reader != null) {
+                reader.close();
+            }
+            input.close();
+        } catch (XMLStreamException | IOException ignored) {
+            // Already reporting the parse failure
+        }
     }
 }
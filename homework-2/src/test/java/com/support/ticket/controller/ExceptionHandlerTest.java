@@ -1,9 +1,13 @@
 package com.support.ticket.controller;
 
 import com.support.ticket.exception.TicketNotFoundException;
+import com.support.ticket.service.BatchClassificationService;
 import com.support.ticket.service.ClassificationService;
+import com.support.ticket.service.ImportJobService;
+import com.support.ticket.service.TicketExportService;
 import com.support.ticket.service.TicketImportService;
 import com.support.ticket.service.TicketService;
+import com.support.ticket.service.TicketStatsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -33,6 +37,18 @@ class ExceptionHandlerTest {
     @MockBean
     private ClassificationService classificationService;
 
+    @MockBean
+    private ImportJobService importJobService;
+
+    @MockBean
+    private BatchClassificationService batchClassificationService;
+
+    @MockBean
+    private TicketExportService exportService;
+
+    @MockBean
+    private TicketStatsService statsService;
+
     @Test
     void handleMalformedJson() throws Exception {
         mockMvc.perform(post("/tickets")
@@ -2,23 +2,32 @@ package com.support.ticket.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.support.ticket.dto.*;
+import com.support.ticket.exception.ImportJobNotFoundException;
 import com.support.ticket.exception.TicketNotFoundException;
 import com.support.ticket.model.*;
+import com.support.ticket.service.BatchClassificationService;
 import com.support.ticket.service.ClassificationService;
+import com.support.ticket.service.ImportJobService;
+import com.support.ticket.service.TicketExportService;
 import com.support.ticket.service.TicketImportService;
 import com.support.ticket.service.TicketService;
+import com.support.ticket.service.TicketStatsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
@@ -43,6 +52,18 @@ class TicketApiTest {
     @MockBean
     private ClassificationService classificationService;
 
+    @MockBean
+    private ImportJobService importJobService;
+
+    @MockBean
+    private BatchClassificationService batchClassificationService;
+
+    @MockBean
+    private TicketExportService exportService;
+
+    @MockBean
+    private TicketStatsService statsService;
+
     private TicketResponse createSampleResponse() {
         TicketResponse response = new TicketResponse();
         response.setId(UUID.randomUUID());
@@ -75,7 +96,7 @@ class TicketApiTest {
     @Test
     void createTicket_validInput_returns201() throws Exception {
         TicketResponse response = createSampleResponse();
-        when(ticketService.createTicket(any(CreateTicketRequest.class))).thenReturn(response);
+        when(ticketService.createTicket(any(CreateTicketRequest.class), eq(false))).thenReturn(response);
 
         mockMvc.perform(post("/tickets")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -120,7 +141,7 @@ class TicketApiTest {
 
     @Test
     void getAllTickets_returns200WithList() throws Exception {
-        when(ticketService.getAllTickets(null, null, null))
+        when(ticketService.getAllTickets(any(TicketFilter.class)))
                 .thenReturn(List.of(createSampleResponse()));
 
         mockMvc.perform(get("/tickets"))
@@ -131,7 +152,8 @@ class TicketApiTest {
 
     @Test
     void getAllTickets_filterByCategory() throws Exception {
-        when(ticketService.getAllTickets(eq(Category.TECHNICAL_ISSUE), isNull(), isNull()))
+        when(ticketService.getAllTickets(argThat(filter -> filter.getCategory() == Category.TECHNICAL_ISSUE
+                && filter.getPriority() == null && filter.getStatus() == null)))
                 .thenReturn(List.of(createSampleResponse()));
 
         mockMvc.perform(get("/tickets").param("category", "technical_issue"))
@@ -143,7 +165,8 @@ class TicketApiTest {
     void getAllTickets_filterByPriority() throws Exception {
         TicketResponse response = createSampleResponse();
         response.setPriority(Priority.HIGH);
-        when(ticketService.getAllTickets(isNull(), eq(Priority.HIGH), isNull()))
+        when(ticketService.getAllTickets(argThat(filter -> filter.getPriority() == Priority.HIGH
+                && filter.getCategory() == null)))
                 .thenReturn(List.of(response));
 
         mockMvc.perform(get("/tickets").param("priority", "high"))
@@ -151,6 +174,100 @@ class TicketApiTest {
                 .andExpect(jsonPath("$[0].priority").value("high"));
     }
 
+    @Test
+    void getAllTickets_filterByAssigneeCustomerAndDateRange() throws Exception {
+        when(ticketService.getAllTickets(argThat(filter -> "agent-1".equals(filter.getAssignedTo())
+                && "CUST001".equals(filter.getCustomerId())
+                && LocalDateTime.of(2024, 1, 1, 0, 0).equals(filter.getCreatedFrom())
+                && LocalDateTime.of(2024, 2, 1, 12, 30).equals(filter.getCreatedTo()))))
+                .thenReturn(List.of(createSampleResponse()));
+
+        mockMvc.perform(get("/tickets")
+                        .param("assignedTo", "agent-1")
+                        .param("customerId", "CUST001")
+                        .param("createdFrom", "2024-01-01T00:00:00")
+                        .param("createdTo", "2024-02-01T12:30:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].customerId").value("CUST001"));
+    }
+
+    @Test
+    void getAllTickets_invertedDateRange_returns400() throws Exception {
+        mockMvc.perform(get("/tickets")
+                        .param("createdFrom", "2024-02-01T00:00:00")
+                        .param("createdTo", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportTickets_streamsServiceOutputAsAttachment() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(2).write("{\"id\":1}\n".getBytes());
+            return 1L;
+        }).when(exportService).export(argThat(filter -> filter.getStatus() == Status.NEW),
+                eq(ExportFormat.NDJSON), any());
+
+        mockMvc.perform(get("/tickets/export").param("format", "ndjson").param("status", "new"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tickets.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void exportTickets_unknownFormat_returns400() throws Exception {
+        mockMvc.perform(get("/tickets/export").param("format", "pdf"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchTickets_returnsRankedHits() throws Exception {
+        TicketSummaryResponse ticket = new TicketSummaryResponse();
+        ticket.setSubject("Printer jam");
+        when(ticketService.searchTickets("printer jam", 20, 10))
+                .thenReturn(new TicketSearchResponse("printer jam", 21, 20, 10,
+                        List.of(new TicketSearchResponse.Hit(2.5, ticket))));
+
+        mockMvc.perform(get("/tickets/search").param("q", "printer jam").param("offset", "20").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(21))
+                .andExpect(jsonPath("$.items[0].score").value(2.5))
+                .andExpect(jsonPath("$.items[0].ticket.subject").value("Printer jam"));
+    }
+
+    @Test
+    void searchTickets_missingQuery_returns400() throws Exception {
+        mockMvc.perform(get("/tickets/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getTicketPage_returnsItemsAndCursor() throws Exception {
+        TicketSummaryResponse item = new TicketSummaryResponse();
+        item.setCustomerId("CUST001");
+        item.setTags(List.of("vip"));
+        when(ticketService.getTicketPage(argThat(filter -> filter.getStatus() == Status.NEW
+                && "agent-1".equals(filter.getAssignedTo())), eq(20), eq("abc")))
+                .thenReturn(new TicketPageResponse(List.of(item), "def"));
+
+        mockMvc.perform(get("/tickets").param("limit", "20").param("after", "abc").param("status", "new")
+                        .param("assignedTo", "agent-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].customerId").value("CUST001"))
+                .andExpect(jsonPath("$.items[0].tags[0]").value("vip"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    void getTicketPage_invalidLimit_returns400() throws Exception {
+        when(ticketService.getTicketPage(any(), eq(0), any()))
+                .thenThrow(new IllegalArgumentException("limit must be between 1 and 1000"));
+
+        mockMvc.perform(get("/tickets").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void getTicketById_exists_returns200() throws Exception {
         UUID id = UUID.randomUUID();
@@ -220,4 +337,104 @@ class TicketApiTest {
         mockMvc.perform(delete("/tickets/{id}", id))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void importWithAsync_returns202WithJobLocation() throws Exception {
+        ImportJobResponse job = new ImportJobResponse();
+        job.setJobId(UUID.randomUUID());
+        job.setStatus(ImportJobStatus.QUEUED);
+        when(importJobService.submit(any(), eq(true))).thenReturn(job);
+        MockMultipartFile file = new MockMultipartFile("file", "tickets.csv", "text/csv", "customer_id\n".getBytes());
+
+        mockMvc.perform(multipart("/tickets/import").file(file)
+                        .param("async", "true")
+                        .param("autoClassify", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/tickets/import/" + job.getJobId()))
+                .andExpect(jsonPath("$.status").value("queued"));
+    }
+
+    @Test
+    void getImportJob_unknownId_returns404() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(importJobService.getJob(id)).thenThrow(new ImportJobNotFoundException(id));
+
+        mockMvc.perform(get("/tickets/import/{jobId}", id))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void cancelImportJob_returnsJobState() throws Exception {
+        UUID id = UUID.randomUUID();
+        ImportJobResponse job = new ImportJobResponse();
+        job.setJobId(id);
+        job.setStatus(ImportJobStatus.CANCELLED);
+        when(importJobService.cancel(id)).thenReturn(job);
+
+        mockMvc.perform(delete("/tickets/import/{jobId}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("cancelled"));
+    }
+
+    @Test
+    void autoClassifyBatch_returnsSummary() throws Exception {
+        BatchClassificationResponse summary = new BatchClassificationResponse();
+        summary.setProcessed(3);
+        summary.setChanged(2);
+        summary.getCategories().put("technical_issue", 3);
+        when(batchClassificationService.classify(any(BatchClassificationRequest.class))).thenReturn(summary);
+
+        mockMvc.perform(post("/tickets/auto-classify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"uncategorized\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(3))
+                .andExpect(jsonPath("$.changed").value(2))
+                .andExpect(jsonPath("$.categories.technical_issue").value(3));
+    }
+
+    @Test
+    void autoClassifyBatch_idsAndFilter_returns400() throws Exception {
+        when(batchClassificationService.classify(any(BatchClassificationRequest.class)))
+                .thenThrow(new IllegalArgumentException("Provide either ids or a filter, not both"));
+
+        mockMvc.perform(post("/tickets/auto-classify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"" + UUID.randomUUID() + "\"], \"uncategorized\": true}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Provide either ids or a filter, not both"));
+    }
+
+    @Test
+    void classificationCacheStats_returnsCounters() throws Exception {
+        when(classificationService.getCacheStats()).thenReturn(new ClassificationCacheStats(2, 5000, 3, 1, 0));
+
+        mockMvc.perform(get("/tickets/classification-cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hits").value(3))
+                .andExpect(jsonPath("$.misses").value(1))
+                .andExpect(jsonPath("$.hitRate").value(0.75));
+    }
+
+    @Test
+    void stats_returnsAggregates() throws Exception {
+        TicketStatsResponse stats = new TicketStatsResponse();
+        stats.setTotal(3);
+        stats.setByCategory(Map.of("billing_question", 2L));
+        stats.setByAssignee(Map.of("agent@company.com", 1L));
+        stats.setUnassigned(2);
+        stats.setMeanTimeToResolveSeconds(5400.0);
+        when(statsService.getStats()).thenReturn(stats);
+
+        mockMvc.perform(get("/tickets/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byCategory.billing_question").value(2))
+                .andExpect(jsonPath("$.byAssignee['agent@company.com']").value(1))
+                .andExpect(jsonPath("$.unassigned").value(2))
+                .andExpect(jsonPath("$.meanTimeToResolveSeconds").value(5400.0))
+                .andExpect(jsonPath("$.averageClassificationConfidence").doesNotExist());
+    }
 }
@@ -1,5 +1,7 @@
 package com.support.ticket.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.support.ticket.dto.*;
 import com.support.ticket.model.Category;
 import com.support.ticket.model.Priority;
@@ -12,6 +14,7 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.DirtiesContext.ClassMode;
 import org.springframework.util.LinkedMultiValueMap;
@@ -19,8 +22,11 @@ import org.springframework.util.MultiValueMap;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,6 +37,9 @@ class IntegrationTest {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void testCreateThenRetrieve() {
         // Create a ticket
@@ -113,6 +122,300 @@ class IntegrationTest {
         assertEquals(importedCount, listResponse.getBody().size());
     }
 
+    @Test
+    void testBulkImportedTicketsReadBackWithTagsAndMetadata() {
+        String json = "[{\"customerId\":\"CUST100\",\"customerEmail\":\"bulk@example.com\","
+                + "\"customerName\":\"Bulk Customer\",\"subject\":\"Imported ticket\","
+                + "\"description\":\"Imported through the batch insert path\",\"priority\":\"high\","
+                + "\"tags\":[\"import\",\"vip\"],"
+                + "\"metadata\":{\"source\":\"email\",\"browser\":\"Firefox\",\"deviceType\":\"mobile\"}}]";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ByteArrayResource(json.getBytes()) {
+            @Override
+            public String getFilename() {
+                return "tickets.json";
+            }
+        });
+
+        ResponseEntity<BulkImportResponse> importResponse = restTemplate.postForEntity(
+                "/tickets/import",
+                new HttpEntity<>(body, headers),
+                BulkImportResponse.class
+        );
+        assertEquals(HttpStatus.OK, importResponse.getStatusCode());
+        assertEquals(1, importResponse.getBody().getSuccessful());
+
+        ResponseEntity<List<TicketResponse>> listResponse = restTemplate.exchange(
+                "/tickets",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<TicketResponse>>() {}
+        );
+        assertEquals(1, listResponse.getBody().size());
+        TicketResponse ticket = listResponse.getBody().get(0);
+        assertNotNull(ticket.getId());
+        assertNotNull(ticket.getCreatedAt());
+        assertEquals(Priority.HIGH, ticket.getPriority());
+        assertEquals(Status.NEW, ticket.getStatus());
+        assertEquals(List.of("import", "vip"), ticket.getTags());
+        assertEquals("Firefox", ticket.getMetadata().getBrowser());
+
+        ResponseEntity<TicketResponse> getResponse = restTemplate.getForEntity(
+                "/tickets/" + ticket.getId(),
+                TicketResponse.class
+        );
+        assertEquals(HttpStatus.OK, getResponse.getStatusCode());
+        assertEquals("bulk@example.com", getResponse.getBody().getCustomerEmail());
+    }
+
+    @Test
+    void testBatchAutoClassifyUncategorizedTickets() {
+        String[][] tickets = {
+                {"Can't login to my account", "Password reset not working, locked out, authentication error"},
+                {"Billing: refund", "Please refund the duplicate payment on my last invoice"},
+                {"Question", "Just wanted to say hello to the team"}
+        };
+        List<UUID> ids = new ArrayList<>();
+        for (String[] ticket : tickets) {
+            CreateTicketRequest createRequest = new CreateTicketRequest();
+            createRequest.setCustomerId("CUST200");
+            createRequest.setCustomerEmail("batch@example.com");
+            createRequest.setCustomerName("Batch Customer");
+            createRequest.setSubject(ticket[0]);
+            createRequest.setDescription(ticket[1]);
+            ids.add(restTemplate.postForEntity("/tickets", createRequest, TicketResponse.class).getBody().getId());
+        }
+
+        BatchClassificationRequest request = new BatchClassificationRequest();
+        request.setUncategorized(true);
+        ResponseEntity<BatchClassificationResponse> response = restTemplate.postForEntity(
+                "/tickets/auto-classify",
+                request,
+                BatchClassificationResponse.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3, response.getBody().getProcessed());
+        assertEquals(1, response.getBody().getCategories().get("account_access"));
+        assertEquals(1, response.getBody().getCategories().get("billing_question"));
+        assertEquals(1, response.getBody().getCategories().get("other"));
+
+        TicketResponse classified = restTemplate.getForEntity("/tickets/" + ids.get(0), TicketResponse.class).getBody();
+        assertEquals(Category.ACCOUNT_ACCESS, classified.getCategory());
+        assertNotNull(classified.getClassificationConfidence());
+
+        // Every ticket has a category now, so a second run finds nothing; unknown ids are reported back
+        UUID unknown = UUID.randomUUID();
+        assertEquals(0, restTemplate.postForEntity("/tickets/auto-classify", request,
+                BatchClassificationResponse.class).getBody().getProcessed());
+        BatchClassificationRequest byIds = new BatchClassificationRequest();
+        byIds.setIds(List.of(ids.get(1), unknown));
+        BatchClassificationResponse idsResponse = restTemplate.postForEntity("/tickets/auto-classify", byIds,
+                BatchClassificationResponse.class).getBody();
+        assertEquals(1, idsResponse.getProcessed());
+        assertEquals(0, idsResponse.getChanged());
+        assertEquals(List.of(unknown), idsResponse.getNotFound());
+    }
+
+    @Test
+    void testPagedListingWalksAllTicketsWithTags() {
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CreateTicketRequest request = new CreateTicketRequest();
+            request.setCustomerId("CUST40" + i);
+            request.setCustomerEmail("page" + i + "@example.com");
+            request.setCustomerName("Page Customer " + i);
+            request.setSubject("Paged ticket " + i);
+            request.setDescription("Ticket number " + i + " for the paged listing");
+            request.setTags(List.of("page", "t" + i));
+            created.add(restTemplate.postForEntity("/tickets", request, TicketResponse.class).getBody().getId());
+        }
+
+        List<TicketSummaryResponse> seen = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        do {
+            String url = "/tickets?limit=2" + (after != null ? "&after=" + after : "");
+            ResponseEntity<TicketPageResponse> response = restTemplate.getForEntity(url, TicketPageResponse.class);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertTrue(response.getBody().getItems().size() <= 2);
+            seen.addAll(response.getBody().getItems());
+            after = response.getBody().getNextCursor();
+            pages++;
+        } while (after != null);
+
+        assertEquals(3, pages);
+        assertEquals(created.size(), seen.size());
+        assertEquals(Set.copyOf(created), seen.stream().map(TicketSummaryResponse::getId).collect(Collectors.toSet()));
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).getCreatedAt().isBefore(seen.get(i - 1).getCreatedAt()));
+        }
+        for (TicketSummaryResponse item : seen) {
+            assertEquals(2, item.getTags().size());
+            assertTrue(item.getTags().contains("page"));
+        }
+
+        TicketPageResponse oneCustomer = restTemplate.getForEntity("/tickets?limit=2&customerId=CUST402",
+                TicketPageResponse.class).getBody();
+        assertEquals(List.of(created.get(2)),
+                oneCustomer.getItems().stream().map(TicketSummaryResponse::getId).collect(Collectors.toList()));
+        assertNull(oneCustomer.getNextCursor());
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity("/tickets?limit=2&after=bogus", String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, restTemplate.getForEntity(
+                "/tickets?limit=2&createdFrom=2024-02-01T00:00:00&createdTo=2024-01-01T00:00:00", String.class)
+                .getStatusCode());
+    }
+
+    @Test
+    void testExportStreamsFilteredTicketsInEveryFormat() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            CreateTicketRequest request = new CreateTicketRequest();
+            request.setCustomerId("CUST60" + i);
+            request.setCustomerEmail("export" + i + "@example.com");
+            request.setCustomerName("Export Customer " + i);
+            request.setSubject("Export ticket " + i);
+            request.setDescription("Ticket number " + i + " for the export");
+            request.setStatus(i < 3 ? Status.NEW : Status.CLOSED);
+            request.setTags(List.of("export", "e" + i));
+            restTemplate.postForEntity("/tickets", request, TicketResponse.class);
+        }
+
+        ResponseEntity<String> ndjson = restTemplate.getForEntity("/tickets/export?format=ndjson&status=new",
+                String.class);
+        assertEquals(HttpStatus.OK, ndjson.getStatusCode());
+        assertEquals("attachment; filename=\"tickets.ndjson\"",
+                ndjson.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        String[] lines = ndjson.getBody().split("\n");
+        assertEquals(3, lines.length);
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (String line : lines) {
+            JsonNode ticket = objectMapper.readTree(line);
+            assertEquals("new", ticket.get("status").asText());
+            assertEquals(2, ticket.get("tags").size());
+        }
+
+        ResponseEntity<String> xml = restTemplate.getForEntity("/tickets/export?format=xml&status=closed",
+                String.class);
+        assertEquals(HttpStatus.OK, xml.getStatusCode());
+        assertTrue(xml.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_XML));
+        assertEquals(2, xml.getBody().split("<ticket>", -1).length - 1);
+        assertTrue(xml.getBody().contains("<tags><tag>export</tag><tag>e3</tag></tags>"));
+
+        ResponseEntity<String> csv = restTemplate.getForEntity("/tickets/export?format=csv", String.class);
+        assertEquals(6, csv.getBody().split("\n").length);
+
+        assertEquals(HttpStatus.BAD_REQUEST,
+                restTemplate.getForEntity("/tickets/export?format=pdf", String.class).getStatusCode());
+    }
+
+    @Test
+    void testStatsAggregateCountsResolutionTimeAndConfidence() {
+        Category[] categories = {Category.ACCOUNT_ACCESS, Category.ACCOUNT_ACCESS, Category.BILLING_QUESTION, null};
+        Priority[] priorities = {Priority.HIGH, Priority.LOW, Priority.HIGH, Priority.HIGH};
+        String[] assignees = {"alice@company.com", "bob@company.com", "alice@company.com", null};
+        for (int i = 0; i < 4; i++) {
+            CreateTicketRequest request = new CreateTicketRequest();
+            request.setCustomerId("CUST70" + i);
+            request.setCustomerEmail("stats" + i + "@example.com");
+            request.setCustomerName("Stats Customer " + i);
+            request.setSubject("Stats ticket " + i);
+            request.setDescription("Ticket number " + i + " for the statistics");
+            request.setCategory(categories[i]);
+            request.setPriority(priorities[i]);
+            request.setAssignedTo(assignees[i]);
+            restTemplate.postForEntity("/tickets", request, TicketResponse.class);
+        }
+        // Resolved after one and three hours, classified with confidence 0.6 and 0.8
+        jdbcTemplate.update("UPDATE tickets SET status = 'RESOLVED', created_at = TIMESTAMP '2024-01-01 08:00:00', "
+                + "resolved_at = TIMESTAMP '2024-01-01 09:00:00', classification_confidence = 0.6 "
+                + "WHERE customer_id = 'CUST700'");
+        jdbcTemplate.update("UPDATE tickets SET status = 'RESOLVED', created_at = TIMESTAMP '2024-01-01 08:00:00', "
+                + "resolved_at = TIMESTAMP '2024-01-01 11:00:00', classification_confidence = 0.8 "
+                + "WHERE customer_id = 'CUST702'");
+
+        ResponseEntity<TicketStatsResponse> response = restTemplate.getForEntity("/tickets/stats",
+                TicketStatsResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        TicketStatsResponse stats = response.getBody();
+        assertEquals(4, stats.getTotal());
+        assertEquals(2, stats.getByCategory().get("account_access"));
+        assertEquals(1, stats.getByCategory().get("billing_question"));
+        assertEquals(0, stats.getByCategory().get("bug_report"));
+        assertEquals(1, stats.getUncategorized());
+        assertEquals(3, stats.getByPriority().get("high"));
+        assertEquals(1, stats.getByPriority().get("low"));
+        assertEquals(0, stats.getByPriority().get("urgent"));
+        assertEquals(2, stats.getByStatus().get("new"));
+        assertEquals(2, stats.getByStatus().get("resolved"));
+        assertEquals(List.of("alice@company.com", "bob@company.com"), new ArrayList<>(stats.getByAssignee().keySet()));
+        assertEquals(2, stats.getByAssignee().get("alice@company.com"));
+        assertEquals(1, stats.getUnassigned());
+        assertEquals(2, stats.getResolved());
+        assertEquals(7200.0, stats.getMeanTimeToResolveSeconds(), 0.001);
+        assertEquals(0.7, stats.getAverageClassificationConfidence(), 0.001);
+        assertNotNull(stats.getGeneratedAt());
+    }
+
+    private TicketSearchResponse search(String query) {
+        ResponseEntity<TicketSearchResponse> response = restTemplate.getForEntity("/tickets/search?q=" + query,
+                TicketSearchResponse.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+
+    @Test
+    void testSearchFollowsCreateImportUpdateAndDelete() {
+        CreateTicketRequest createRequest = new CreateTicketRequest();
+        createRequest.setCustomerId("CUST500");
+        createRequest.setCustomerEmail("search@example.com");
+        createRequest.setCustomerName("Search Customer");
+        createRequest.setSubject("Printer jam on floor three");
+        createRequest.setDescription("The shared printer jams whenever duplex is selected");
+        createRequest.setTags(List.of("hardware"));
+        UUID created = restTemplate.postForEntity("/tickets", createRequest, TicketResponse.class).getBody().getId();
+
+        String json = "[{\"customerId\":\"CUST501\",\"customerEmail\":\"import@example.com\","
+                + "\"customerName\":\"Import Customer\",\"subject\":\"Toner warning\","
+                + "\"description\":\"Printer shows a toner warning after the refill\"}]";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ByteArrayResource(json.getBytes()) {
+            @Override
+            public String getFilename() {
+                return "tickets.json";
+            }
+        });
+        restTemplate.postForEntity("/tickets/import", new HttpEntity<>(body, headers), BulkImportResponse.class);
+
+        TicketSearchResponse printer = search("printer");
+        assertEquals(2, printer.getTotal());
+        // The created ticket mentions printer in its subject as well, so it ranks first
+        assertEquals(created, printer.getItems().get(0).getTicket().getId());
+        assertEquals(List.of("hardware"), printer.getItems().get(0).getTicket().getTags());
+        assertEquals("Toner warning", printer.getItems().get(1).getTicket().getSubject());
+        assertEquals(1, search("HARDWARE").getTotal());
+
+        UpdateTicketRequest update = new UpdateTicketRequest();
+        update.setSubject("Scanner jam on floor three");
+        update.setDescription("The shared scanner jams whenever duplex is selected");
+        restTemplate.exchange("/tickets/" + created, HttpMethod.PUT, new HttpEntity<>(update), TicketResponse.class);
+        assertEquals(1, search("printer").getTotal());
+        assertEquals(created, search("scanner").getItems().get(0).getTicket().getId());
+
+        restTemplate.delete("/tickets/" + created);
+        assertEquals(0, search("scanner").getTotal());
+        assertEquals(HttpStatus.BAD_REQUEST, restTemplate.getForEntity("/tickets/search", String.class).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, restTemplate.getForEntity(
+                "/tickets/search?q=printer&offset=2147483647&limit=1", String.class).getStatusCode());
+    }
+
     @Test
     void testCreateWithAutoClassify() {
         // Create a ticket with autoClassify=true
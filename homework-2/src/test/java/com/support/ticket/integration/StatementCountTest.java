@@ -0,0 +1,155 @@
+package com.support.ticket.integration;
+
+import com.support.ticket.dto.CreateTicketRequest;
+import com.support.ticket.dto.TicketPageResponse;
+import com.support.ticket.dto.TicketResponse;
+import com.support.ticket.model.Category;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Counts the SQL statements Hibernate prepares for a request, to catch extra round trips
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class StatementCountTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private CreateTicketRequest createRequest() {
+        CreateTicketRequest request = new CreateTicketRequest();
+        request.setCustomerId("CUST300");
+        request.setCustomerEmail("count@example.com");
+        request.setCustomerName("Count Customer");
+        request.setSubject("Can't login to my account");
+        request.setDescription("Password reset not working, locked out, authentication error");
+        return request;
+    }
+
+    @Test
+    void testCreateWithAutoClassifyIsOneInsert() {
+        statistics.clear();
+
+        ResponseEntity<TicketResponse> response = restTemplate.postForEntity(
+                "/tickets?autoClassify=true",
+                createRequest(),
+                TicketResponse.class
+        );
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(Category.ACCOUNT_ACCESS, response.getBody().getCategory());
+        assertNotNull(response.getBody().getClassificationConfidence());
+        assertNotNull(response.getBody().getCreatedAt());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testCreateWithTagsInsertsTicketAndTagRowsOnly() {
+        CreateTicketRequest request = createRequest();
+        request.setTags(List.of("vip", "login"));
+        statistics.clear();
+
+        ResponseEntity<TicketResponse> response = restTemplate.postForEntity(
+                "/tickets?autoClassify=true",
+                request,
+                TicketResponse.class
+        );
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(List.of("vip", "login"), response.getBody().getTags());
+        // One insert for the ticket and one batched insert for its tags
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testTicketPageIsOneRowQueryAndOneTagQuery() {
+        for (int i = 0; i < 6; i++) {
+            CreateTicketRequest request = createRequest();
+            request.setTags(List.of("vip", "t" + i));
+            restTemplate.postForEntity("/tickets", request, TicketResponse.class);
+        }
+        statistics.clear();
+
+        ResponseEntity<TicketPageResponse> response = restTemplate.getForEntity("/tickets?limit=5",
+                TicketPageResponse.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(5, response.getBody().getItems().size());
+        assertTrue(response.getBody().getItems().stream().allMatch(item -> item.getTags().size() == 2));
+        assertNotNull(response.getBody().getNextCursor());
+        // Projection rows are not entities, so nothing is loaded into the persistence context
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void testFilteredListIsOneQueryWithTagsJoined() {
+        for (int i = 0; i < 6; i++) {
+            CreateTicketRequest request = createRequest();
+            request.setTags(List.of("vip", "t" + i));
+            restTemplate.postForEntity("/tickets", request, TicketResponse.class);
+        }
+        statistics.clear();
+
+        ResponseEntity<TicketResponse[]> response = restTemplate.getForEntity("/tickets?customerId=CUST300",
+                TicketResponse[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(6, response.getBody().length);
+        for (TicketResponse ticket : response.getBody()) {
+            assertEquals(2, ticket.getTags().size());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testExportIsOneQueryWithTagsJoined() {
+        for (int i = 0; i < 6; i++) {
+            CreateTicketRequest request = createRequest();
+            request.setTags(List.of("vip", "t" + i));
+            restTemplate.postForEntity("/tickets", request, TicketResponse.class);
+        }
+        statistics.clear();
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/tickets/export?format=csv", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String[] lines = response.getBody().split("\n");
+        assertEquals(7, lines.length);
+        for (int i = 1; i < lines.length; i++) {
+            assertTrue(lines[i].matches(".*,vip;t\\d,.*"), lines[i]);
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,158 @@
+package com.support.ticket.integration;
+
+import com.support.ticket.dto.TicketFilter;
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketPageReader;
+import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.repository.TicketSpecifications;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the ticket filters against H2: the Specification query must match the right rows, and the SQL Hibernate
+// generates for each filter shape, explained with its parameters bound, must use the declared indexes instead of
+// scanning the table
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.support.ticket.integration.TicketFilterQueryTest$RecordingInspector")
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class TicketFilterQueryTest {
+
+    // Keeps every statement Hibernate prepares, unchanged
+    public static class RecordingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketPageReader ticketPageReader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 12; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setCustomerId("CUST" + (i % 3));
+            ticket.setCustomerEmail("filter" + i + "@example.com");
+            ticket.setCustomerName("Filter Customer " + i);
+            ticket.setSubject("Filter ticket " + i);
+            ticket.setDescription("Ticket number " + i + " for the filter queries");
+            ticket.setCategory(i % 2 == 0 ? Category.BILLING_QUESTION : Category.TECHNICAL_ISSUE);
+            ticket.setPriority(i % 4 == 0 ? Priority.HIGH : Priority.MEDIUM);
+            ticket.setStatus(i < 6 ? Status.NEW : Status.IN_PROGRESS);
+            ticket.setAssignedTo(i % 3 == 0 ? "agent-1" : null);
+            ticket = ticketRepository.save(ticket);
+            jdbcTemplate.update("UPDATE tickets SET created_at = ? WHERE id = ?",
+                    LocalDateTime.of(2024, 1, 1 + i, 9, 0), ticket.getId());
+        }
+    }
+
+    private Set<String> subjects(TicketFilter filter) {
+        return ticketRepository.findAll(TicketSpecifications.matching(filter)).stream()
+                .map(Ticket::getSubject)
+                .collect(Collectors.toSet());
+    }
+
+    // The SQL of the only statement the action prepares, explained with the given parameters bound in order
+    private String explain(Runnable action, Object... parameters) {
+        RecordingInspector.STATEMENTS.clear();
+        action.run();
+        assertEquals(1, RecordingInspector.STATEMENTS.size(), RecordingInspector.STATEMENTS.toString());
+        String sql = RecordingInspector.STATEMENTS.get(0);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters))
+                .toLowerCase();
+    }
+
+    private String explainFilter(TicketFilter filter, Object... parameters) {
+        return explain(() -> ticketRepository.findAll(TicketSpecifications.matching(filter)), parameters);
+    }
+
+    @Test
+    void specificationCombinesOnlyTheGivenCriteria() {
+        assertEquals(12, subjects(new TicketFilter()).size());
+        assertEquals(Set.of("Filter ticket 0", "Filter ticket 4"),
+                subjects(new TicketFilter(Category.BILLING_QUESTION, Priority.HIGH, Status.NEW)));
+
+        TicketFilter assigned = new TicketFilter(null, null, Status.IN_PROGRESS);
+        assigned.setAssignedTo("agent-1");
+        assertEquals(Set.of("Filter ticket 6", "Filter ticket 9"), subjects(assigned));
+
+        TicketFilter customerRange = new TicketFilter();
+        customerRange.setCustomerId("CUST1");
+        customerRange.setCreatedFrom(LocalDateTime.of(2024, 1, 5, 9, 0));
+        customerRange.setCreatedTo(LocalDateTime.of(2024, 1, 11, 9, 0));
+        assertEquals(Set.of("Filter ticket 4", "Filter ticket 7"), subjects(customerRange));
+    }
+
+    @Test
+    void filterQueriesUseIndexes() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 5, 9, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 6, 0, 0);
+
+        String statusPriority = explainFilter(new TicketFilter(null, Priority.HIGH, Status.NEW), "HIGH", "NEW");
+        assertTrue(statusPriority.contains("idx_tickets_status_priority"), statusPriority);
+        assertFalse(statusPriority.contains("tickets.tablescan"), statusPriority);
+
+        String categoryStatus = explainFilter(new TicketFilter(Category.OTHER, null, Status.NEW), "OTHER", "NEW");
+        assertTrue(categoryStatus.contains("idx_tickets_category_status"), categoryStatus);
+
+        String priority = explainFilter(new TicketFilter(null, Priority.LOW, null), "LOW");
+        assertTrue(priority.contains("idx_tickets_priority"), priority);
+
+        TicketFilter assignee = new TicketFilter();
+        assignee.setAssignedTo("agent-1");
+        String assigned = explainFilter(assignee, "agent-1");
+        assertTrue(assigned.contains("idx_tickets_assigned_to"), assigned);
+
+        TicketFilter customerSince = new TicketFilter();
+        customerSince.setCustomerId("CUST1");
+        customerSince.setCreatedFrom(from);
+        String customer = explainFilter(customerSince, "CUST1", from);
+        assertTrue(customer.contains("idx_tickets_customer_created"), customer);
+
+        TicketFilter createdRange = new TicketFilter();
+        createdRange.setCreatedFrom(from);
+        createdRange.setCreatedTo(to);
+        String created = explainFilter(createdRange, from, to);
+        assertTrue(created.contains("idx_tickets_created"), created);
+    }
+
+    @Test
+    void keysetPageQuerySeeksCreatedIndexToCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 5, 9, 0);
+        UUID id = UUID.randomUUID();
+
+        String plan = explain(() -> ticketPageReader.findSummaries(TicketSpecifications.matching(new TicketFilter())
+                .and(TicketSpecifications.after(createdAt, id)), 6), createdAt, createdAt, id, 6);
+
+        // The index range starts at the cursor instead of at the first ticket, and supplies the page order
+        assertTrue(plan.contains("idx_tickets_created: created_at >= ?1"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+}
@@ -0,0 +1,113 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.BatchClassificationRequest;
+import com.support.ticket.dto.BatchClassificationResponse;
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Status;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.repository.TicketBatchReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class BatchClassificationServiceTest {
+
+    private TicketBatchReader ticketBatchReader;
+    private TicketService ticketService;
+    private BatchClassificationService batchService;
+    private final List<List<Ticket>> writtenPages = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ticketBatchReader = Mockito.mock(TicketBatchReader.class);
+        ticketService = Mockito.mock(TicketService.class);
+        when(ticketService.updateClassifications(any())).thenAnswer(invocation -> {
+            List<Ticket> page = invocation.getArgument(0);
+            writtenPages.add(page);
+            return page.size();
+        });
+        batchService = new BatchClassificationService(ticketBatchReader, ticketService,
+                new ClassificationService(null), 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+    }
+
+    private Ticket ticket(String subject, String description) {
+        Ticket ticket = new Ticket();
+        ticket.setId(UUID.randomUUID());
+        ticket.setSubject(subject);
+        ticket.setDescription(description);
+        ticket.setPriority(Priority.MEDIUM);
+        return ticket;
+    }
+
+    @Test
+    void filterIsReadInKeysetPagesAndWrittenBackPerPage() {
+        Ticket login = ticket("Can't log in", "Login fails: authentication error after password reset, I am locked out");
+        Ticket refund = ticket("Refund", "Billing: please refund the duplicate payment on my invoice");
+        Ticket crash = ticket("App crash", "The app crashes with an error, upload is broken and not working, timeout every time. Critical");
+        when(ticketBatchReader.findForClassification(eq(true), isNull(), isNull(), isNull(), eq(2)))
+                .thenReturn(List.of(login, refund));
+        when(ticketBatchReader.findForClassification(eq(true), isNull(), isNull(), eq(refund.getId()), eq(2)))
+                .thenReturn(List.of(crash));
+
+        BatchClassificationRequest request = new BatchClassificationRequest();
+        request.setUncategorized(true);
+        BatchClassificationResponse response = batchService.classify(request);
+
+        assertEquals(3, response.getProcessed());
+        assertEquals(3, response.getChanged());
+        assertEquals(2, writtenPages.size());
+        assertEquals(Category.ACCOUNT_ACCESS, login.getCategory());
+        assertEquals(Category.BILLING_QUESTION, refund.getCategory());
+        assertEquals(Category.TECHNICAL_ISSUE, crash.getCategory());
+        assertEquals(Priority.URGENT, crash.getPriority());
+        assertNotNull(crash.getClassificationConfidence());
+        assertEquals(1, response.getCategories().get("technical_issue"));
+        assertEquals(2, response.getPriorities().get("medium"));
+        // A short page means there is nothing after it
+        verify(ticketBatchReader, times(2)).findForClassification(anyBoolean(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void idsAreDeduplicatedAndMissingOnesReported() {
+        Ticket known = ticket("Invoice", "Billing: please refund the duplicate payment on my invoice");
+        known.setCategory(Category.BILLING_QUESTION);
+        UUID missing = UUID.randomUUID();
+        when(ticketBatchReader.findForClassification(List.of(known.getId(), missing))).thenReturn(List.of(known));
+
+        BatchClassificationRequest request = new BatchClassificationRequest();
+        request.setIds(List.of(known.getId(), missing, known.getId()));
+        BatchClassificationResponse response = batchService.classify(request);
+
+        assertEquals(1, response.getProcessed());
+        assertEquals(0, response.getChanged());
+        assertEquals(List.of(missing), response.getNotFound());
+    }
+
+    @Test
+    void idsAndFilterTogetherAreRejected() {
+        BatchClassificationRequest request = new BatchClassificationRequest();
+        request.setIds(List.of(UUID.randomUUID()));
+        request.setStatus(Status.NEW);
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.classify(request));
+        verifyNoInteractions(ticketBatchReader, ticketService);
+    }
+}
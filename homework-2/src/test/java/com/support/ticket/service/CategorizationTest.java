@@ -9,6 +9,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CategorizationTest {
@@ -196,4 +198,22 @@ class CategorizationTest {
         assertNotNull(result.getReasoning());
         assertNotNull(result.getKeywordsFound());
     }
+
+    @Test
+    void testReasoningListsKeywordsAndPriority() {
+        // Given
+        Ticket ticket = new Ticket();
+        ticket.setSubject("REGRESSION in export");
+        ticket.setDescription("This defect is critical for our monthly reports");
+
+        // When
+        ClassificationResult result = classificationService.classify(ticket);
+
+        // Then
+        assertEquals(Category.BUG_REPORT, result.getCategory());
+        assertEquals(Priority.URGENT, result.getPriority());
+        assertEquals(List.of("defect", "regression"), result.getKeywordsFound());
+        assertEquals("Classified as bug_report based on keywords: defect, regression. Priority set to urgent.",
+                result.getReasoning());
+    }
 }
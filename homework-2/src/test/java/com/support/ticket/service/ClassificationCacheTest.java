@@ -0,0 +1,167 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.ClassificationCacheStats;
+import com.support.ticket.dto.ClassificationResult;
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassificationCacheTest {
+
+    private static ClassificationResult result(Category category) {
+        return new ClassificationResult(category, Priority.MEDIUM, 0.5, "reasoning", List.of());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        ClassificationCache cache = new ClassificationCache(2, Duration.ofMinutes(10));
+        cache.put(1, result(Category.BILLING_QUESTION));
+        cache.put(2, result(Category.BUG_REPORT));
+        assertNotNull(cache.get(1));
+
+        cache.put(3, result(Category.OTHER));
+
+        assertNotNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(3));
+        ClassificationCacheStats stats = cache.stats();
+        assertEquals(2, stats.getSize());
+        assertEquals(1, stats.getEvictions());
+        assertEquals(3, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.75, stats.getHitRate());
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        AtomicLong now = new AtomicLong();
+        ClassificationCache cache = new ClassificationCache(10, Duration.ofSeconds(60), now::get);
+        cache.put(1, result(Category.BILLING_QUESTION));
+
+        now.set(Duration.ofSeconds(60).toNanos());
+        assertNotNull(cache.get(1));
+        now.set(Duration.ofSeconds(61).toNanos());
+        assertNull(cache.get(1));
+        assertEquals(0, cache.stats().getSize());
+    }
+
+    @Test
+    void concurrentLookupsAreAllCountedAndSizeStaysBounded() throws Exception {
+        ClassificationCache cache = new ClassificationCache(1000, Duration.ofMinutes(10));
+        int threads = 8;
+        int lookupsPerThread = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < lookupsPerThread; i++) {
+                    long fingerprint = ClassificationCache.fingerprint("ticket " + ((seed * 7919 + i) % 3000));
+                    if (cache.get(fingerprint) == null) {
+                        cache.put(fingerprint, result(Category.OTHER));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        ClassificationCacheStats stats = cache.stats();
+        assertEquals((long) threads * lookupsPerThread, stats.getHits() + stats.getMisses());
+        assertTrue(stats.getSize() <= 1000);
+        assertTrue(stats.getEvictions() > 0);
+    }
+
+    @Test
+    void fingerprintFoldsAsciiCaseAndJoinsTextsWithSpace() {
+        assertEquals(ClassificationCache.fingerprint("Login Failed", "Locked OUT"),
+                ClassificationCache.fingerprint("login failed", "locked out"));
+        assertEquals(ClassificationCache.fingerprint("login failed", "now"),
+                ClassificationCache.fingerprint("login", "failed now"));
+        assertNotEquals(ClassificationCache.fingerprint("login failed", "locked out"),
+                ClassificationCache.fingerprint("login failed", "locked  out"));
+        assertNotEquals(ClassificationCache.fingerprint("CAFÉ", ""), ClassificationCache.fingerprint("café", ""));
+    }
+
+    @Test
+    void serviceServesRepeatedTextFromCache() {
+        ClassificationService service = new ClassificationService(null, 100, Duration.ofMinutes(10));
+        Ticket first = new Ticket();
+        first.setSubject("Production down");
+        first.setDescription("Outage: app is not working, requests fail with error 500 and timeout, then it crashes");
+        Ticket templated = new Ticket();
+        templated.setSubject("PRODUCTION DOWN");
+        templated.setDescription("Outage: app is not working, requests fail with error 500 and timeout, then it crashes");
+
+        ClassificationResult computed = service.classify(first);
+        ClassificationResult cached = service.classify(templated);
+
+        assertEquals(Category.TECHNICAL_ISSUE, cached.getCategory());
+        assertEquals(Priority.URGENT, cached.getPriority());
+        assertEquals(computed.getConfidence(), cached.getConfidence());
+        assertEquals(computed.getReasoning(), cached.getReasoning());
+        assertNotSame(computed, cached);
+        assertEquals(1, service.getCacheStats().getHits());
+        assertEquals(1, service.getCacheStats().getMisses());
+    }
+
+    @Test
+    void reasoningOfSharedCachedResultIsReadByManyThreads() throws Exception {
+        ClassificationService service = new ClassificationService(null, 1000, Duration.ofMinutes(10));
+        ClassificationService uncached = new ClassificationService(null, 0, Duration.ofMinutes(10));
+        int threads = 8;
+        int tickets = 200;
+        List<Ticket> batch = new ArrayList<>();
+        for (int i = 0; i < tickets; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setSubject("Invoice " + i);
+            ticket.setDescription("I was charged twice for invoice " + i + ", please refund the payment");
+            batch.add(ticket);
+            // Cached without its reasoning having been read
+            service.classify(ticket);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                List<String> reasonings = new ArrayList<>();
+                for (Ticket ticket : batch) {
+                    reasonings.add(service.classify(ticket).getReasoning());
+                }
+                return reasonings;
+            }));
+        }
+        start.countDown();
+        List<String> expected = new ArrayList<>();
+        for (Ticket ticket : batch) {
+            expected.add(uncached.classify(ticket).getReasoning());
+        }
+        for (Future<List<String>> future : futures) {
+            assertEquals(expected, future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals((long) threads * tickets, service.getCacheStats().getHits());
+    }
+}
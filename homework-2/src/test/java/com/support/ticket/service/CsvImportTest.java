@@ -9,6 +9,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -89,4 +90,42 @@ class CsvImportTest {
         assertNotNull(tickets);
         assertEquals(100, tickets.size(), "Expected 100 records from generated CSV");
     }
+
+    @Test
+    void testStreamReadsRowsOnDemand() {
+        // An endless CSV: only a lazy parser can return the first rows
+        InputStream endless = new InputStream() {
+            private byte[] line = "customer_id,customer_email,customer_name,subject,description\n"
+                    .getBytes(StandardCharsets.UTF_8);
+            private int position;
+            private int row;
+
+            @Override
+            public int read() {
+                if (position == line.length) {
+                    row++;
+                    line = String.format("C%d,c%d@example.com,Customer %d,Subject %d,Streaming description %d\n",
+                            row, row, row, row, row).getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                return line[position++];
+            }
+        };
+
+        try (Stream<CreateTicketRequest> tickets = parser.stream(endless)) {
+            List<CreateTicketRequest> firstRows = tickets.limit(3).toList();
+
+            assertEquals(3, firstRows.size());
+            assertEquals("C1", firstRows.get(0).getCustomerId());
+            assertEquals("Subject 3", firstRows.get(2).getSubject());
+        }
+    }
+
+    @Test
+    void testStreamWithMissingColumnFailsBeforeReadingRows() {
+        String csv = "customer_id,customer_email\nC001,customer@example.com\n";
+        InputStream inputStream = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ImportException.class, () -> parser.stream(inputStream));
+    }
 }
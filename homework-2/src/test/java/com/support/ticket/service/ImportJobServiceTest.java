@@ -0,0 +1,143 @@
+package com.support.ticket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.support.ticket.dto.ImportJobResponse;
+import com.support.ticket.exception.ImportException;
+import com.support.ticket.exception.ImportJobNotFoundException;
+import com.support.ticket.exception.ImportJobRejectedException;
+import com.support.ticket.model.ImportJobStatus;
+import com.support.ticket.service.parser.CsvImportParser;
+import com.support.ticket.service.parser.JsonImportParser;
+import com.support.ticket.service.parser.XmlImportParser;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ImportJobServiceTest {
+
+    private TicketService ticketService;
+    private ValidatorFactory validatorFactory;
+    private TicketImportService importService;
+    private ImportJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        ticketService = Mockito.mock(TicketService.class);
+        when(ticketService.toEntity(any())).thenCallRealMethod();
+        when(ticketService.insertTickets(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importService = new TicketImportService(new CsvImportParser(), new JsonImportParser(new ObjectMapper()),
+                new XmlImportParser(), ticketService, new ClassificationService(null),
+                validatorFactory.getValidator(), 10, 100, 1);
+        jobService = new ImportJobService(importService, 1, 1, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+        importService.shutdown();
+        validatorFactory.close();
+    }
+
+    private MockMultipartFile csv(int rows, int invalidEvery) {
+        StringBuilder csv = new StringBuilder("customer_id,customer_email,customer_name,subject,description\n");
+        for (int i = 1; i <= rows; i++) {
+            String email = invalidEvery > 0 && i % invalidEvery == 0 ? "not-an-email" : "c" + i + "@example.com";
+            csv.append("C").append(i).append(',').append(email).append(",Customer ").append(i)
+                    .append(",Subject ").append(i).append(",Description for row ").append(i).append('\n');
+        }
+        return new MockMultipartFile("file", "tickets.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ImportJobResponse awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            ImportJobResponse job = jobService.getJob(jobId);
+            if (job.getStatus().isFinished()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Import job did not finish: " + jobId);
+        return null;
+    }
+
+    @Test
+    void jobRunsInBackgroundAndReportsCounts() throws InterruptedException {
+        ImportJobResponse submitted = jobService.submit(csv(50, 10), false);
+
+        assertNotNull(submitted.getJobId());
+        assertEquals("tickets.csv", submitted.getFilename());
+
+        ImportJobResponse finished = awaitFinished(submitted.getJobId());
+        assertEquals(ImportJobStatus.COMPLETED, finished.getStatus());
+        assertEquals(50, finished.getRowsProcessed());
+        assertEquals(45, finished.getSuccessful());
+        assertEquals(5, finished.getFailed());
+        assertEquals(5, finished.getErrors().size());
+        assertTrue(finished.getRowsPerSecond() > 0);
+        assertNotNull(finished.getFinishedAt());
+    }
+
+    @Test
+    void unreadableFileFailsTheJob() throws InterruptedException {
+        MockMultipartFile file = new MockMultipartFile("file", "tickets.json", "application/json",
+                "{ not json".getBytes(StandardCharsets.UTF_8));
+
+        ImportJobResponse finished = awaitFinished(jobService.submit(file, false).getJobId());
+
+        assertEquals(ImportJobStatus.FAILED, finished.getStatus());
+        assertNotNull(finished.getMessage());
+    }
+
+    @Test
+    void unsupportedFormatIsRejectedBeforeQueueing() {
+        MockMultipartFile file = new MockMultipartFile("file", "tickets.txt", "text/plain", new byte[0]);
+
+        assertThrows(ImportException.class, () -> jobService.submit(file, false));
+    }
+
+    @Test
+    void runningJobCanBeCancelledAndQueueIsBounded() throws InterruptedException {
+        CountDownLatch chunkStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            chunkStarted.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return ((List<?>) invocation.getArgument(0)).size();
+        }).when(ticketService).insertTickets(any());
+
+        UUID running = jobService.submit(csv(100, 0), false).getJobId();
+        assertTrue(chunkStarted.await(10, TimeUnit.SECONDS));
+        UUID queued = jobService.submit(csv(10, 0), false).getJobId();
+        assertThrows(ImportJobRejectedException.class, () -> jobService.submit(csv(10, 0), false));
+
+        assertEquals(ImportJobStatus.CANCELLED, jobService.cancel(queued).getStatus());
+        assertEquals(ImportJobStatus.RUNNING, jobService.cancel(running).getStatus());
+        release.countDown();
+
+        ImportJobResponse cancelled = awaitFinished(running);
+        assertEquals(ImportJobStatus.CANCELLED, cancelled.getStatus());
+        assertEquals(10, cancelled.getSuccessful());
+        assertTrue(cancelled.getRowsProcessed() < 100);
+    }
+
+    @Test
+    void unknownJobIsNotFound() {
+        assertThrows(ImportJobNotFoundException.class, () -> jobService.getJob(UUID.randomUUID()));
+    }
+}
@@ -11,6 +11,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -85,4 +86,45 @@ class JsonImportTest {
         assertEquals("Test", ticket.getSubject());
         assertEquals("A long enough description", ticket.getDescription());
     }
+
+    @Test
+    void testStreamBindsArrayElementsOnDemand() {
+        InputStream inputStream = endless("[", "{\"customerId\":\"C{n}\",\"subject\":\"Subject {n}\"},");
+
+        try (Stream<CreateTicketRequest> tickets = parser.stream(inputStream)) {
+            List<CreateTicketRequest> first = tickets.limit(2).toList();
+
+            assertEquals("C1", first.get(0).getCustomerId());
+            assertEquals("Subject 2", first.get(1).getSubject());
+        }
+    }
+
+    @Test
+    void testTruncatedArrayFailsWithImportException() {
+        String truncated = "[{\"customerId\":\"C1\"},{\"customerId\":";
+        InputStream inputStream = new ByteArrayInputStream(truncated.getBytes(StandardCharsets.UTF_8));
+
+        try (Stream<CreateTicketRequest> tickets = parser.stream(inputStream)) {
+            assertThrows(ImportException.class, tickets::toList);
+        }
+    }
+
+    // Repeats the element forever after the prefix: only a lazy parser can return the first records
+    private InputStream endless(String prefix, String element) {
+        return new InputStream() {
+            private byte[] chunk = prefix.getBytes(StandardCharsets.UTF_8);
+            private int position;
+            private int count;
+
+            @Override
+            public int read() {
+                if (position == chunk.length) {
+                    count++;
+                    chunk = element.replace("{n}", String.valueOf(count)).getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                return chunk[position++];
+            }
+        };
+    }
 }
@@ -0,0 +1,72 @@
+package com.support.ticket.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordAutomatonTest {
+
+    private static boolean[] containsScan(List<String> keywords, String text) {
+        boolean[] found = new boolean[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            found[i] = text.contains(keywords.get(i).toLowerCase());
+        }
+        return found;
+    }
+
+    @Test
+    void findsOverlappingAndNestedKeywords() {
+        List<String> keywords = List.of("he", "she", "his", "hers", "password", "reset password");
+        KeywordAutomaton automaton = new KeywordAutomaton(keywords);
+
+        boolean[] found = automaton.findAll("ushers need to reset password");
+
+        assertArrayEquals(new boolean[]{true, true, false, true, true, true}, found);
+    }
+
+    @Test
+    void keywordsAreLowerCasedAndNonAsciiTextIsSkipped() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("Can't Log In", "café"));
+
+        assertArrayEquals(new boolean[]{true, true}, automaton.findAll("ünïcode – i can't log in at the café"));
+        assertArrayEquals(new boolean[]{false, false}, automaton.findAll("the cafe says i can not log in"));
+    }
+
+    @Test
+    void textIsLowerCasedAndJoinedBySpaces() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("locked out", "out of", "café"));
+
+        assertArrayEquals(new boolean[]{true, false, true}, automaton.findAll("LOCKED", "OUT", "CAFÉ"));
+        assertArrayEquals(new boolean[]{false, false, false}, automaton.findAll("lockedout", ""));
+    }
+
+    @Test
+    void emptyKeywordMatchesLikeContains() {
+        KeywordAutomaton automaton = new KeywordAutomaton(List.of("", "x"));
+
+        assertArrayEquals(new boolean[]{true, false}, automaton.findAll(""));
+    }
+
+    @Test
+    void agreesWithContainsOnClassificationKeywords() {
+        KeywordAutomaton automaton = new KeywordAutomaton(ClassificationService.KEYWORDS);
+        Random random = new Random(42);
+        String alphabet = "abcdefghilnoprstuvwy 2:'.";
+        for (int round = 0; round < 500; round++) {
+            StringBuilder text = new StringBuilder();
+            while (text.length() < 300) {
+                if (random.nextInt(4) == 0) {
+                    text.append(ClassificationService.KEYWORDS.get(random.nextInt(ClassificationService.KEYWORDS.size())));
+                } else {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            String lowerCased = text.toString().toLowerCase();
+
+            assertArrayEquals(containsScan(ClassificationService.KEYWORDS, lowerCased), automaton.findAll(lowerCased));
+        }
+    }
+}
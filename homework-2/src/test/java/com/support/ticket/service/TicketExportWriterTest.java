@@ -0,0 +1,138 @@
+package com.support.ticket.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.support.ticket.dto.CreateTicketRequest;
+import com.support.ticket.model.*;
+import com.support.ticket.service.export.CsvTicketExportWriter;
+import com.support.ticket.service.export.NdjsonTicketExportWriter;
+import com.support.ticket.service.export.TicketExportWriter;
+import com.support.ticket.service.export.XmlTicketExportWriter;
+import com.support.ticket.service.parser.CsvImportParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private Ticket ticket(String subject, String... tags) {
+        Ticket ticket = new Ticket();
+        ticket.setId(UUID.randomUUID());
+        ticket.setCustomerId("CUST001");
+        ticket.setCustomerEmail("export@example.com");
+        ticket.setCustomerName("Export, \"The\" Customer");
+        ticket.setSubject(subject);
+        ticket.setDescription("Line one\nline two & <three>");
+        ticket.setCategory(Category.TECHNICAL_ISSUE);
+        ticket.setPriority(Priority.HIGH);
+        ticket.setStatus(Status.IN_PROGRESS);
+        ticket.setTags(new ArrayList<>(List.of(tags)));
+        ticket.setMetadata(new TicketMetadata(Source.EMAIL, "Firefox", DeviceType.MOBILE));
+        ticket.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        return ticket;
+    }
+
+    private String export(TicketExportWriter writer, ByteArrayOutputStream output, Ticket... tickets)
+            throws IOException {
+        writer.start();
+        for (Ticket ticket : tickets) {
+            writer.write(ticket);
+        }
+        writer.finish();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void csvExportCanBeImportedAgain() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String csv = export(new CsvTicketExportWriter(output), output, ticket("First", "vip", "login"),
+                ticket("Second"));
+
+        assertTrue(csv.startsWith("customer_id,customer_email,customer_name,subject,description,id,category,"));
+        assertTrue(csv.contains(",technical_issue,high,in_progress,,vip;login,email,Firefox,mobile,,2024-01-15T10:30:00,"));
+
+        List<CreateTicketRequest> imported = new CsvImportParser()
+                .parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(2, imported.size());
+        assertEquals("Export, \"The\" Customer", imported.get(0).getCustomerName());
+        assertEquals("Line one\nline two & <three>", imported.get(0).getDescription());
+        assertEquals("Second", imported.get(1).getSubject());
+    }
+
+    @Test
+    void ndjsonExportWritesOneResponseObjectPerLine() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Ticket first = ticket("First", "vip");
+        String ndjson = export(new NdjsonTicketExportWriter(output, objectMapper), output, first, ticket("Second"));
+
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        for (String text : lines) {
+            assertTrue(text.startsWith("{") && text.endsWith("}"), text);
+        }
+        assertTrue(ndjson.endsWith("}\n"));
+        JsonNode line = objectMapper.readTree(lines[0]);
+        assertEquals(first.getId().toString(), line.get("id").asText());
+        assertEquals("in_progress", line.get("status").asText());
+        assertEquals("vip", line.get("tags").get(0).asText());
+        assertEquals("2024-01-15T10:30:00", line.get("createdAt").asText());
+        assertEquals("Second", objectMapper.readTree(lines[1]).get("subject").asText());
+    }
+
+    @Test
+    void xmlExportIsOneDocumentWithEscapedText() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String xml = export(new XmlTicketExportWriter(output), output, ticket("First", "vip", "login"),
+                ticket("Second"));
+
+        JsonNode tickets = new XmlMapper().readTree(xml).get("ticket");
+        assertEquals(2, tickets.size());
+        assertEquals("Line one\nline two & <three>", tickets.get(0).get("description").asText());
+        assertEquals("technical_issue", tickets.get(0).get("category").asText());
+        assertEquals(List.of("vip", "login"), List.of(tickets.get(0).get("tags").get("tag").get(0).asText(),
+                tickets.get(0).get("tags").get("tag").get(1).asText()));
+        assertEquals("mobile", tickets.get(0).get("metadata").get("deviceType").asText());
+        assertNull(tickets.get(1).get("tags"));
+        assertNull(tickets.get(1).get("resolvedAt"));
+    }
+
+    @Test
+    void writersLeaveTheOutputStreamOpen() throws IOException {
+        for (ExportFormat format : ExportFormat.values()) {
+            boolean[] closed = {false};
+            OutputStream output = new ByteArrayOutputStream() {
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            };
+            TicketExportWriter writer = switch (format) {
+                case CSV -> new CsvTicketExportWriter(output);
+                case NDJSON -> new NdjsonTicketExportWriter(output, objectMapper);
+                case XML -> new XmlTicketExportWriter(output);
+            };
+            writer.start();
+            writer.write(ticket("Only"));
+            writer.finish();
+
+            assertFalse(closed[0], format.getValue());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.support.ticket.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.support.ticket.dto.BulkImportResponse;
+import com.support.ticket.exception.ImportException;
+import com.support.ticket.model.Category;
+import com.support.ticket.model.Priority;
+import com.support.ticket.model.Ticket;
+import com.support.ticket.service.parser.CsvImportParser;
+import com.support.ticket.service.parser.JsonImportParser;
+import com.support.ticket.service.parser.XmlImportParser;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TicketImportServiceTest {
+
+    private TicketService ticketService;
+    private ValidatorFactory validatorFactory;
+    private final List<TicketImportService> services = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ticketService = Mockito.mock(TicketService.class);
+        when(ticketService.toEntity(any())).thenCallRealMethod();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(TicketImportService::shutdown);
+        validatorFactory.close();
+    }
+
+    private TicketImportService importService(int chunkSize, int maxReportedErrors) {
+        return importService(chunkSize, maxReportedErrors, 1);
+    }
+
+    private TicketImportService importService(int chunkSize, int maxReportedErrors, int workers) {
+        TicketImportService service = new TicketImportService(new CsvImportParser(),
+                new JsonImportParser(new ObjectMapper()), new XmlImportParser(), ticketService,
+                new ClassificationService(null), validatorFactory.getValidator(), chunkSize, maxReportedErrors,
+                workers);
+        services.add(service);
+        return service;
+    }
+
+    private MockMultipartFile csv(int rows, int invalidEvery) {
+        StringBuilder csv = new StringBuilder("customer_id,customer_email,customer_name,subject,description\n");
+        for (int i = 1; i <= rows; i++) {
+            String email = invalidEvery > 0 && i % invalidEvery == 0 ? "not-an-email" : "c" + i + "@example.com";
+            csv.append("C").append(i).append(',').append(email).append(",Customer ").append(i)
+                    .append(",Subject ").append(i).append(",Description for row ").append(i).append('\n');
+        }
+        return new MockMultipartFile("file", "tickets.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importSavesValidRowsInChunks() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(ticketService.insertTickets(any())).thenAnswer(invocation -> {
+            List<Ticket> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return chunk.size();
+        });
+
+        BulkImportResponse response = importService(4, 100).importTickets(csv(10, 0));
+
+        assertEquals(10, response.getTotal());
+        assertEquals(10, response.getSuccessful());
+        assertEquals(List.of(4, 4, 2), chunkSizes);
+        verify(ticketService, never()).createTicket(any());
+    }
+
+    @Test
+    void parallelWorkersPersistChunksInFileOrder() {
+        List<String> persisted = new ArrayList<>();
+        when(ticketService.insertTickets(any())).thenAnswer(invocation -> {
+            List<Ticket> chunk = invocation.getArgument(0);
+            chunk.forEach(ticket -> persisted.add(ticket.getCustomerId()));
+            return chunk.size();
+        });
+
+        BulkImportResponse response = importService(7, 1000, 4).importTickets(csv(1000, 10));
+
+        assertEquals(1000, response.getTotal());
+        assertEquals(900, response.getSuccessful());
+        List<String> expected = new ArrayList<>();
+        List<Integer> expectedErrorLines = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            if (i % 10 == 0) {
+                expectedErrorLines.add(i);
+            } else {
+                expected.add("C" + i);
+            }
+        }
+        assertEquals(expected, persisted);
+        assertEquals(expectedErrorLines,
+                response.getErrors().stream().map(BulkImportResponse.ImportError::getLine).toList());
+    }
+
+    @Test
+    void autoClassifyAppliesClassificationBeforePersisting() {
+        List<Ticket> persisted = new ArrayList<>();
+        when(ticketService.insertTickets(any())).thenAnswer(invocation -> {
+            List<Ticket> chunk = invocation.getArgument(0);
+            persisted.addAll(chunk);
+            return chunk.size();
+        });
+        String csv = "customer_id,customer_email,customer_name,subject,description\n"
+                + "C1,c1@example.com,Customer,Billing refund,Payment for my subscription invoice was charged twice - "
+                + "please refund and send a receipt\n";
+        MockMultipartFile file = new MockMultipartFile("file", "tickets.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+
+        BulkImportResponse response = importService(4, 100, 2).importTickets(file, true);
+
+        assertEquals(1, response.getSuccessful());
+        assertEquals(Category.BILLING_QUESTION, persisted.get(0).getCategory());
+        assertEquals(Priority.MEDIUM, persisted.get(0).getPriority());
+        assertNotNull(persisted.get(0).getClassificationConfidence());
+    }
+
+    @Test
+    void importWithoutAutoClassifyLeavesCategoryUnset() {
+        List<Ticket> persisted = new ArrayList<>();
+        when(ticketService.insertTickets(any())).thenAnswer(invocation -> {
+            List<Ticket> chunk = invocation.getArgument(0);
+            persisted.addAll(chunk);
+            return chunk.size();
+        });
+
+        importService(4, 100).importTickets(csv(2, 0));
+
+        assertNull(persisted.get(0).getCategory());
+        assertNull(persisted.get(0).getClassificationConfidence());
+    }
+
+    @Test
+    void importReportsValidationErrorsWithRowNumbers() {
+        when(ticketService.insertTickets(any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        BulkImportResponse response = importService(4, 100).importTickets(csv(9, 3));
+
+        assertEquals(9, response.getTotal());
+        assertEquals(6, response.getSuccessful());
+        assertEquals(3, response.getFailed());
+        assertEquals(List.of(3, 6, 9), response.getErrors().stream().map(BulkImportResponse.ImportError::getLine).toList());
+        assertTrue(response.getErrors().stream().allMatch(error -> error.getField().equals("customerEmail")));
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRow() {
+        when(ticketService.insertTickets(any())).thenAnswer(invocation -> {
+            List<Ticket> chunk = invocation.getArgument(0);
+            if (chunk.size() > 1) {
+                throw new IllegalStateException("constraint violation");
+            }
+            if (chunk.get(0).getCustomerId().equals("C2")) {
+                throw new IllegalStateException("duplicate customer");
+            }
+            return 1;
+        });
+
+        BulkImportResponse response = importService(3, 100).importTickets(csv(3, 0));
+
+        assertEquals(2, response.getSuccessful());
+        assertEquals(1, response.getFailed());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertEquals("duplicate customer", response.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void errorListIsCappedButCountsStayExact() {
+        BulkImportResponse response = importService(4, 5).importTickets(csv(20, 1));
+
+        assertEquals(20, response.getFailed());
+        assertEquals(5, response.getErrors().size());
+    }
+
+    @Test
+    void unsupportedFormatIsRejected() {
+        MockMultipartFile file = new MockMultipartFile("file", "tickets.txt", "text/plain", new byte[0]);
+
+        assertThrows(ImportException.class, () -> importService(4, 100).importTickets(file));
+    }
+}
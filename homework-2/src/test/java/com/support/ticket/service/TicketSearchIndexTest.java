@@ -0,0 +1,121 @@
+package com.support.ticket.service;
+
+import com.support.ticket.model.Ticket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketSearchIndexTest {
+
+    private final TicketSearchIndex index = new TicketSearchIndex(null);
+
+    private static Ticket ticket(String subject, String description, String... tags) {
+        Ticket ticket = new Ticket();
+        ticket.setId(UUID.randomUUID());
+        ticket.setSubject(subject);
+        ticket.setDescription(description);
+        ticket.setTags(new ArrayList<>(List.of(tags)));
+        return ticket;
+    }
+
+    private List<UUID> ids(TicketSearchIndex.Result result) {
+        return result.getMatches().stream().map(TicketSearchIndex.Match::getId).toList();
+    }
+
+    @Test
+    void termsAreLowerCasedWordsWithoutStopWords() {
+        assertEquals(List.of("can", "t", "log", "app", "v2", "café"),
+                TicketSearchIndex.terms("Can't log in to the APP (v2) at the Café!"));
+        assertEquals(List.of(), TicketSearchIndex.terms(" -- "));
+    }
+
+    @Test
+    void ranksSubjectMatchesAndMoreTermsFirst() {
+        Ticket inDescription = ticket("Question", "My printer stopped working yesterday");
+        Ticket inSubject = ticket("Printer stopped", "Nothing comes out of the tray");
+        Ticket bothTerms = ticket("Printer driver", "The printer driver crashes on install");
+        Ticket unrelated = ticket("Invoice", "Please resend my invoice");
+        index.index(List.of(inDescription, inSubject, bothTerms, unrelated));
+
+        TicketSearchIndex.Result printer = index.search("PRINTER", 0, 10);
+        assertEquals(3, printer.getTotal());
+        assertEquals(List.of(bothTerms.getId(), inSubject.getId(), inDescription.getId()), ids(printer));
+
+        TicketSearchIndex.Result driver = index.search("printer driver", 0, 10);
+        assertEquals(bothTerms.getId(), ids(driver).get(0));
+        assertEquals(0, index.search("the of", 0, 10).getTotal());
+        assertEquals(0, index.search("scanner", 0, 10).getTotal());
+    }
+
+    @Test
+    void tagsAreSearchable() {
+        Ticket tagged = ticket("Slow page", "Loading takes a while", "performance", "vip");
+        index.index(List.of(tagged, ticket("Other", "Some other ticket")));
+
+        assertEquals(List.of(tagged.getId()), ids(index.search("vip", 0, 10)));
+    }
+
+    @Test
+    void pagesThroughResultsInRankOrder() {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            tickets.add(ticket("Login issue " + i, "Cannot login " + "again ".repeat(i)));
+        }
+        index.index(tickets);
+
+        List<UUID> all = ids(index.search("login", 0, 25));
+        TicketSearchIndex.Result second = index.search("login", 10, 10);
+        TicketSearchIndex.Result last = index.search("login", 20, 10);
+
+        assertEquals(25, second.getTotal());
+        assertEquals(all.subList(10, 20), ids(second));
+        assertEquals(all.subList(20, 25), ids(last));
+        assertEquals(List.of(), ids(index.search("login", 30, 10)));
+        // Shorter descriptions rank higher, so the ticket with the fewest extra words comes first
+        assertEquals(tickets.get(0).getId(), all.get(0));
+    }
+
+    @Test
+    void reindexingReplacesAndRemoveDrops() {
+        Ticket ticket = ticket("Printer jam", "Paper stuck");
+        index.index(List.of(ticket));
+
+        ticket.setSubject("Scanner error");
+        index.index(List.of(ticket));
+        assertEquals(0, index.search("printer", 0, 10).getTotal());
+        assertEquals(List.of(ticket.getId()), ids(index.search("scanner", 0, 10)));
+        assertEquals(1, index.size());
+
+        index.remove(ticket.getId());
+        index.remove(UUID.randomUUID());
+        assertEquals(0, index.search("scanner", 0, 10).getTotal());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void compactionKeepsResultsAfterManyUpdates() {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tickets.add(ticket("Ticket " + i, "alpha beta"));
+        }
+        index.index(tickets);
+        // Enough rewrites for removed documents to outnumber live ones several times over
+        for (int round = 0; round < 60; round++) {
+            for (Ticket ticket : tickets) {
+                ticket.setDescription(round % 2 == 0 ? "gamma delta" : "alpha beta");
+            }
+            index.index(tickets);
+        }
+        index.remove(tickets.get(0).getId());
+
+        assertEquals(49, index.size());
+        assertEquals(49, index.search("alpha", 0, 100).getTotal());
+        assertEquals(0, index.search("gamma", 0, 100).getTotal());
+        assertEquals(1, index.search("ticket 7", 0, 1).getMatches().size());
+        assertEquals(tickets.get(7).getId(), ids(index.search("7", 0, 10)).get(0));
+    }
+}
@@ -3,11 +3,16 @@ package com.support.ticket.service;
 import com.support.ticket.dto.*;
 import com.support.ticket.exception.TicketNotFoundException;
 import com.support.ticket.model.*;
+import com.support.ticket.repository.TicketBatchWriter;
+import com.support.ticket.repository.TicketPageReader;
 import com.support.ticket.repository.TicketRepository;
+import com.support.ticket.repository.TicketSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,12 +24,19 @@ import static org.mockito.Mockito.*;
 class TicketServiceTest {
 
     private TicketRepository ticketRepository;
+    private TicketBatchWriter ticketBatchWriter;
+    private TicketPageReader ticketPageReader;
+    private TicketSearchIndex searchIndex;
     private TicketService ticketService;
 
     @BeforeEach
     void setUp() {
         ticketRepository = Mockito.mock(TicketRepository.class);
-        ticketService = new TicketService(ticketRepository);
+        ticketBatchWriter = Mockito.mock(TicketBatchWriter.class);
+        ticketPageReader = Mockito.mock(TicketPageReader.class);
+        searchIndex = new TicketSearchIndex(null);
+        ticketService = new TicketService(ticketRepository, ticketBatchWriter, ticketPageReader,
+                new ClassificationService(ticketRepository), searchIndex);
     }
 
     private CreateTicketRequest createRequest() {
@@ -51,6 +63,49 @@ class TicketServiceTest {
         return ticket;
     }
 
+    @Test
+    void testToEntityAppliesDefaults() {
+        CreateTicketRequest request = createRequest();
+        request.setTags(List.of("vip"));
+
+        Ticket ticket = ticketService.toEntity(request);
+
+        assertNull(ticket.getId());
+        assertEquals(Priority.MEDIUM, ticket.getPriority());
+        assertEquals(Status.NEW, ticket.getStatus());
+        assertEquals(List.of("vip"), ticket.getTags());
+    }
+
+    @Test
+    void testInsertTicketsWritesOneBatch() {
+        List<Ticket> tickets = List.of(createTicket(), createTicket());
+        when(ticketBatchWriter.insertAll(tickets)).thenReturn(2);
+
+        assertEquals(2, ticketService.insertTickets(tickets));
+        verify(ticketBatchWriter).insertAll(tickets);
+        verify(ticketRepository, never()).save(any());
+    }
+
+    @Test
+    void createTicketWithAutoClassifySavesClassifiedEntityOnce() {
+        CreateTicketRequest request = createRequest();
+        request.setSubject("Can't log in");
+        request.setDescription("Password reset not working, locked out, authentication error");
+        when(ticketRepository.save(any(Ticket.class))).thenAnswer(inv -> {
+            Ticket t = inv.getArgument(0);
+            assertEquals(Category.ACCOUNT_ACCESS, t.getCategory());
+            t.setId(UUID.randomUUID());
+            return t;
+        });
+
+        TicketResponse response = ticketService.createTicket(request, true);
+
+        assertEquals(Category.ACCOUNT_ACCESS, response.getCategory());
+        assertNotNull(response.getClassificationConfidence());
+        verify(ticketRepository, times(1)).save(any(Ticket.class));
+        verify(ticketRepository, never()).findById(any());
+    }
+
     @Test
     void createTicketWithMetadata() {
         CreateTicketRequest request = createRequest();
@@ -119,37 +174,30 @@ class TicketServiceTest {
     }
 
     @Test
-    void getAllTickets_filterByCategoryAndStatus() {
+    @SuppressWarnings("unchecked")
+    void getAllTickets_filterUsesOneSpecificationQuery() {
         Ticket ticket = createTicket();
         ticket.setCategory(Category.BILLING_QUESTION);
-        ticket.setStatus(Status.NEW);
-        when(ticketRepository.findByCategoryAndStatus(Category.BILLING_QUESTION, Status.NEW))
-                .thenReturn(List.of(ticket));
+        when(ticketRepository.findAll(any(Specification.class))).thenReturn(List.of(ticket));
 
-        List<TicketResponse> result = ticketService.getAllTickets(Category.BILLING_QUESTION, null, Status.NEW);
-        assertEquals(1, result.size());
-    }
+        TicketFilter filter = new TicketFilter(Category.BILLING_QUESTION, null, Status.NEW);
+        filter.setAssignedTo("agent-1");
+        List<TicketResponse> result = ticketService.getAllTickets(filter);
 
-    @Test
-    void getAllTickets_filterByPriorityAndStatus() {
-        Ticket ticket = createTicket();
-        when(ticketRepository.findByPriorityAndStatus(Priority.HIGH, Status.NEW))
-                .thenReturn(List.of(ticket));
-
-        List<TicketResponse> result = ticketService.getAllTickets(null, Priority.HIGH, Status.NEW);
         assertEquals(1, result.size());
+        assertEquals(Category.BILLING_QUESTION, result.get(0).getCategory());
+        verify(ticketRepository).findAll(any(Specification.class));
     }
 
     @Test
-    void getAllTickets_filterByAllThree() {
-        Ticket ticket = createTicket();
-        when(ticketRepository.findByCategoryAndPriorityAndStatus(
-                Category.TECHNICAL_ISSUE, Priority.HIGH, Status.NEW))
-                .thenReturn(List.of(ticket));
-
-        List<TicketResponse> result = ticketService.getAllTickets(
-                Category.TECHNICAL_ISSUE, Priority.HIGH, Status.NEW);
-        assertEquals(1, result.size());
+    @SuppressWarnings("unchecked")
+    void getAllTickets_invertedDateRangeRejected() {
+        TicketFilter filter = new TicketFilter();
+        filter.setCreatedFrom(LocalDateTime.of(2024, 2, 1, 0, 0));
+        filter.setCreatedTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getAllTickets(filter));
+        verify(ticketRepository, never()).findAll(any(Specification.class));
     }
 
     @Test
@@ -188,6 +236,115 @@ class TicketServiceTest {
         assertEquals(DeviceType.TABLET, meta2.getDeviceType());
     }
 
+    private TicketSummary summary(UUID id, LocalDateTime createdAt) {
+        TicketSummary summary = Mockito.mock(TicketSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getCreatedAt()).thenReturn(createdAt);
+        return summary;
+    }
+
+    @Test
+    void testGetTicketPageReturnsCursorToResumeAfterLastItem() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_000_000);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID extra = UUID.randomUUID();
+        List<TicketSummary> rows = List.of(summary(first, createdAt), summary(second, createdAt),
+                summary(extra, createdAt));
+        List<TicketSummary> rest = List.of(rows.get(2));
+        when(ticketPageReader.findSummaries(any(), eq(3))).thenReturn(rows, rest);
+        when(ticketRepository.findTagsByTicketIds(List.of(first, second)))
+                .thenReturn(List.of(new Object[]{second, "vip"}, new Object[]{second, "login"}));
+
+        TicketFilter filter = new TicketFilter(null, null, Status.NEW);
+        TicketPageResponse page = ticketService.getTicketPage(filter, 2, null);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals(List.of(), page.getItems().get(0).getTags());
+        assertEquals(List.of("vip", "login"), page.getItems().get(1).getTags());
+        assertNotNull(page.getNextCursor());
+
+        TicketPageResponse next = ticketService.getTicketPage(filter, 2, page.getNextCursor());
+
+        assertEquals(1, next.getItems().size());
+        assertEquals(extra, next.getItems().get(0).getId());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void testGetTicketPageSkipsTagQueryWhenEmpty() {
+        when(ticketPageReader.findSummaries(any(), anyInt())).thenReturn(List.of());
+
+        TicketPageResponse page = ticketService.getTicketPage(new TicketFilter(Category.OTHER, null, null), 10, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(ticketRepository, never()).findTagsByTicketIds(any());
+    }
+
+    @Test
+    void testGetTicketPageRejectsBadLimitAndCursor() {
+        TicketFilter all = new TicketFilter();
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getTicketPage(all, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.getTicketPage(all, TicketService.MAX_PAGE_SIZE + 1, null));
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getTicketPage(all, 10, "not a cursor"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.getTicketPage(all, 10, "MjAyNHxub3QtYS11dWlk"));
+        TicketFilter backwards = new TicketFilter();
+        backwards.setCreatedFrom(LocalDateTime.of(2024, 2, 1, 0, 0));
+        backwards.setCreatedTo(LocalDateTime.of(2024, 1, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> ticketService.getTicketPage(backwards, 10, null));
+        verify(ticketPageReader, never()).findSummaries(any(), anyInt());
+    }
+
+    @Test
+    void testSearchReturnsRankedSliceAndFollowsUpdatesAndDeletes() {
+        Ticket printer = createTicket();
+        printer.setSubject("Printer jam");
+        printer.setDescription("The office printer jams on every page");
+        Ticket other = createTicket();
+        other.setSubject("Invoice question");
+        other.setDescription("The printer icon on the invoice page is missing");
+        when(ticketBatchWriter.insertAll(any())).thenReturn(2);
+        ticketService.insertTickets(List.of(printer, other));
+        TicketSummary printerSummary = summary(printer.getId(), LocalDateTime.now());
+        TicketSummary otherSummary = summary(other.getId(), LocalDateTime.now());
+        when(ticketRepository.findSummariesByIds(any())).thenReturn(List.of(otherSummary, printerSummary));
+        when(ticketRepository.findTagsByTicketIds(any())).thenReturn(List.of());
+
+        TicketSearchResponse response = ticketService.searchTickets("printer", 0, 10);
+
+        assertEquals(2, response.getTotal());
+        assertEquals(List.of(printer.getId(), other.getId()),
+                response.getItems().stream().map(hit -> hit.getTicket().getId()).toList());
+        assertTrue(response.getItems().get(0).getScore() > response.getItems().get(1).getScore());
+
+        UpdateTicketRequest update = new UpdateTicketRequest();
+        update.setDescription("Nothing to print any more");
+        when(ticketRepository.findById(other.getId())).thenReturn(Optional.of(other));
+        when(ticketRepository.save(other)).thenReturn(other);
+        ticketService.updateTicket(other.getId(), update);
+        assertEquals(1, ticketService.searchTickets("printer", 0, 10).getTotal());
+
+        when(ticketRepository.existsById(printer.getId())).thenReturn(true);
+        ticketService.deleteTicket(printer.getId());
+        assertEquals(0, ticketService.searchTickets("printer", 0, 10).getTotal());
+    }
+
+    @Test
+    void testSearchRejectsBlankQueryAndBadPaging() {
+        assertThrows(IllegalArgumentException.class, () -> ticketService.searchTickets(" ", 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> ticketService.searchTickets("login", 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.searchTickets("login", 0, TicketService.MAX_SEARCH_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> ticketService.searchTickets("login", -1, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.searchTickets("login", TicketSearchIndex.MAX_RESULTS, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> ticketService.searchTickets("login", Integer.MAX_VALUE, 1));
+    }
+
     @Test
     void testMetadataRequestGettersSetters() {
         MetadataRequest req = new MetadataRequest();
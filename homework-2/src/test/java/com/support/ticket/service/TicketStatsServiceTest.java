@@ -0,0 +1,46 @@
+package com.support.ticket.service;
+
+import com.support.ticket.dto.TicketStatsResponse;
+import com.support.ticket.repository.TicketStatsReader;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TicketStatsServiceTest {
+
+    private final TicketStatsReader statsReader = mock(TicketStatsReader.class);
+
+    @Test
+    void servesCachedStatsUntilTheTtlExpires() {
+        TicketStatsResponse first = new TicketStatsResponse();
+        TicketStatsResponse second = new TicketStatsResponse();
+        when(statsReader.read()).thenReturn(first, second);
+        AtomicLong now = new AtomicLong();
+        TicketStatsService service = new TicketStatsService(statsReader, Duration.ofSeconds(5), now::get);
+
+        assertSame(first, service.getStats());
+        now.set(Duration.ofSeconds(4).toNanos());
+        assertSame(first, service.getStats());
+        verify(statsReader, times(1)).read();
+
+        now.set(Duration.ofSeconds(5).toNanos());
+        assertSame(second, service.getStats());
+        assertSame(second, service.getStats());
+        verify(statsReader, times(2)).read();
+    }
+
+    @Test
+    void zeroTtlReadsEveryTime() {
+        when(statsReader.read()).thenReturn(new TicketStatsResponse());
+        TicketStatsService service = new TicketStatsService(statsReader, Duration.ZERO);
+
+        service.getStats();
+        service.getStats();
+
+        verify(statsReader, times(2)).read();
+    }
+}
@@ -9,6 +9,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,4 +69,44 @@ class XmlImportTest {
         assertThrows(ImportException.class, () -> parser.parse(inputStream),
                 "Expected ImportException for invalid XML content");
     }
+
+    @Test
+    void testStreamBindsTicketElementsOnDemand() {
+        InputStream inputStream = endless("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<tickets>",
+                "<ticket><customerId>C{n}</customerId><tags><tag>t{n}</tag></tags></ticket>");
+
+        try (Stream<CreateTicketRequest> tickets = parser.stream(inputStream)) {
+            List<CreateTicketRequest> first = tickets.limit(2).toList();
+
+            assertEquals("C1", first.get(0).getCustomerId());
+            assertEquals("C2", first.get(1).getCustomerId());
+        }
+    }
+
+    @Test
+    void testUnexpectedElementFailsWithImportException() {
+        String xml = "<tickets><ticket><customerId>C1</customerId></ticket><note>hi</note></tickets>";
+        InputStream inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ImportException.class, () -> parser.parse(inputStream));
+    }
+
+    // Repeats the element forever after the prefix: only a lazy parser can return the first records
+    private InputStream endless(String prefix, String element) {
+        return new InputStream() {
+            private byte[] chunk = prefix.getBytes(StandardCharsets.UTF_8);
+            private int position;
+            private int count;
+
+            @Override
+            public int read() {
+                if (position == chunk.length) {
+                    count++;
+                    chunk = element.replace("{n}", String.valueOf(count)).getBytes(StandardCharsets.UTF_8);
+                    position = 0;
+                }
+                return chunk[position++];
+            }
+        };
+    }
 }